@@ -0,0 +1,45 @@
+package benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks Main app, it runs the benchmarks with the usual JMH options and writes the results as JSON
+ * to {@value #RESULTS_FILE} unless the options say otherwise.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class BenchmarkApp {
+    /**
+     * The file the results are written to when no -rff option is given
+     */
+    private static final String RESULTS_FILE = "jmh-results.json";
+
+    /**
+     * Main method, runs the benchmarks
+     * @param args The JMH options, a benchmark name pattern runs only the benchmarks that match
+     * @throws CommandLineOptionException If the options can't be read
+     * @throws RunnerException If a benchmark fails
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+
+        // The results go out as JSON so runs can be compared by a script
+        if(!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if(!commandLine.getResult().hasValue()) {
+            options.result(RESULTS_FILE);
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,245 @@
+package benchmarks;
+
+import model.DominoChip;
+import model.DominoEngine;
+import model.DominoHand;
+import model.DominoLine;
+import model.GameContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utilities.BinaryProtocol;
+import utilities.Frame;
+import utilities.JsonCodec;
+import utilities.Messages;
+import utilities.NetworkProtocols;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the messages: the JSON the server writes and reads, and the same messages as binary frames.
+ * The JSON reads go through {@link JsonCodec#decode(String)}, the path every request of a JSON client takes.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+    /**
+     * The tiles of the hand, the seven lowest
+     */
+    private static final int HAND = 0b1111111;
+    /**
+     * The hand of a new game
+     */
+    private DominoHand hand;
+    /**
+     * A line with most of a game on it
+     */
+    private DominoLine line;
+    /**
+     * The GAME_READY response of a full table
+     */
+    private Messages.GameReady gameReady;
+    /**
+     * A PLAYER_MOVED response
+     */
+    private Messages.PlayerMoved playerMoved;
+    /**
+     * A LINE response with the whole line
+     */
+    private Messages.Line lineMessage;
+    /**
+     * A LOGIN request as a JSON client sends it
+     */
+    private String loginJson;
+    /**
+     * A PLAY_CHIP request as a JSON client sends it
+     */
+    private String playChipJson;
+    /**
+     * The PLAYER_MOVED payload as a binary client receives it
+     */
+    private byte[] playerMovedPayload;
+    /**
+     * The GAME_READY payload as a binary client receives it
+     */
+    private byte[] gameReadyPayload;
+
+    /**
+     * Builds the messages from a hand and a line in play
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Setup
+    public void setUp() {
+        String[] ids = {"player-1", "player-2", "player-3", "player-4"};
+        String[] names = {"Player 1", "Player 2", "Player 3", "Player 4"};
+        byte tile = BinaryProtocol.encodeTile(6, 4, true);
+        ArrayList<DominoChip> left;
+        int played = -1;
+
+        // A hand of seven and a line with the other tiles laid by the CPU rules until none fits
+        hand = new DominoHand(DominoEngine.chipsOf(HAND));
+        line = new DominoLine();
+        left = DominoEngine.chipsOf(DominoEngine.ALL_TILES & ~HAND);
+        while(line.size() > played) {
+            played = line.size();
+            for(Iterator<DominoChip> chips = left.iterator(); chips.hasNext(); ) {
+                DominoChip chip = chips.next();
+                if(line.canPlay(chip, line.isEmpty() ? GameContext.FIRST_GAME : GameContext.NEXT_GAME)) {
+                    line.playChipCPU(chip);
+                    chips.remove();
+                }
+            }
+        }
+        gameReady = new Messages.GameReady(hand.asBytes(), true, ids, names);
+        playerMoved = new Messages.PlayerMoved(tile, 2, 17);
+        lineMessage = new Messages.Line(17, line.asBytes());
+
+        // The requests are written by the codec the clients use
+        loginJson = JsonCodec.encode(new Messages.Login("player-1", "Player 1", NetworkProtocols.PROTOCOL_VERSION,
+                NetworkProtocols.JSON_CODEC, 4, "ca", 1500, 40));
+        playChipJson = JsonCodec.encode(new Messages.PlayChip(tile));
+        playerMovedPayload = BinaryProtocol.encode(playerMoved).getPayload();
+        gameReadyPayload = BinaryProtocol.encode(gameReady).getPayload();
+    }
+
+    /**
+     * Writes the hand as JSON
+     * @return The JSON
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Benchmark
+    public String handAsJson() {
+        return hand.asJson();
+    }
+
+    /**
+     * Writes the line as JSON
+     * @return The JSON
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Benchmark
+    public String lineAsJson() {
+        return line.asJson();
+    }
+
+    /**
+     * Writes a GAME_READY response as JSON
+     * @return The JSON
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Benchmark
+    public String encodeGameReady() {
+        return JsonCodec.encode(gameReady);
+    }
+
+    /**
+     * Writes a PLAYER_MOVED response as JSON, the message sent the most
+     * @return The JSON
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Benchmark
+    public String encodePlayerMoved() {
+        return JsonCodec.encode(playerMoved);
+    }
+
+    /**
+     * Writes a LINE response as JSON
+     * @return The JSON
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Benchmark
+    public String encodeLine() {
+        return JsonCodec.encode(lineMessage);
+    }
+
+    /**
+     * Reads a LOGIN request
+     * @return The request
+     * @throws IOException If the JSON can't be read
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Benchmark
+    public Messages.Message decodeLogin() throws IOException {
+        return JsonCodec.decode(loginJson);
+    }
+
+    /**
+     * Reads a PLAY_CHIP request
+     * @return The request
+     * @throws IOException If the JSON can't be read
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Benchmark
+    public Messages.Message decodePlayChip() throws IOException {
+        return JsonCodec.decode(playChipJson);
+    }
+
+    /**
+     * Writes a PLAYER_MOVED response as a binary frame
+     * @return The frame
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Benchmark
+    public Frame encodePlayerMovedFrame() {
+        return BinaryProtocol.encode(playerMoved);
+    }
+
+    /**
+     * Writes a GAME_READY response as a binary frame
+     * @return The frame
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Benchmark
+    public Frame encodeGameReadyFrame() {
+        return BinaryProtocol.encode(gameReady);
+    }
+
+    /**
+     * Reads a PLAYER_MOVED frame
+     * @return The response
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Benchmark
+    public Messages.Message decodePlayerMovedFrame() {
+        return BinaryProtocol.decode(new Frame(BinaryProtocol.PLAYER_MOVED, playerMovedPayload));
+    }
+
+    /**
+     * Reads a GAME_READY frame
+     * @return The response
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Benchmark
+    public Messages.Message decodeGameReadyFrame() {
+        return BinaryProtocol.decode(new Frame(BinaryProtocol.GAME_READY, gameReadyPayload));
+    }
+}
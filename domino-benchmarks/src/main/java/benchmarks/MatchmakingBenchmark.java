@@ -0,0 +1,165 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import server.MatchRequest;
+import server.Matchmaker;
+import server.PlayerThread;
+import utilities.NullConnection;
+
+import java.util.ArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Benchmarks of the matchmaking queue {@link server.DominoServer#makeGame} puts every login through.
+ * The tables formed are not opened, opening them needs a running server, so only the queue is measured.
+ * The players join from one thread or from four, and either all ask for the same table or are spread over the
+ * rating bands. They are made before the measurement, each thread cycles through its own.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchmakingBenchmark {
+    /**
+     * The number of rating bands the spread players are in
+     */
+    private static final int RATING_BANDS = 8;
+    /**
+     * The width of a rating band
+     */
+    private static final int RATING_BAND_WIDTH = 200;
+    /**
+     * The queue, a new one for each iteration
+     */
+    private Matchmaker matchmaker;
+    /**
+     * The request of a player that asks for a full table
+     */
+    private MatchRequest sameRequest;
+    /**
+     * The requests of players that ask for a full table in each rating band
+     */
+    private MatchRequest[] spreadRequests;
+
+    /**
+     * Starts an empty queue
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        matchmaker = new Matchmaker(MatchRequest.MAX_TABLE_SIZE, RATING_BAND_WIDTH, Long.MAX_VALUE / 2);
+        sameRequest = new MatchRequest(MatchRequest.MAX_TABLE_SIZE, null, -1, -1);
+        spreadRequests = new MatchRequest[RATING_BANDS];
+        for(int band = 0; band < RATING_BANDS; band++) {
+            spreadRequests[band] = new MatchRequest(MatchRequest.MAX_TABLE_SIZE, null, band * RATING_BAND_WIDTH, -1);
+        }
+    }
+
+    /**
+     * Joins the same queue from a single thread
+     * @param players The players of the thread
+     * @return The table formed or null
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Benchmark
+    @Threads(1)
+    public ArrayList<PlayerThread> joinAlone(Players players) {
+        return matchmaker.join(players.next(), sameRequest);
+    }
+
+    /**
+     * Joins the same queue from four threads
+     * @param players The players of the thread
+     * @return The table formed or null
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Benchmark
+    @Threads(4)
+    public ArrayList<PlayerThread> joinContended(Players players) {
+        return matchmaker.join(players.next(), sameRequest);
+    }
+
+    /**
+     * Joins the queues of the rating bands from four threads
+     * @param players The players of the thread
+     * @return The table formed or null
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Benchmark
+    @Threads(4)
+    public ArrayList<PlayerThread> joinSpread(Players players) {
+        return matchmaker.join(players.next(), spreadRequests[ThreadLocalRandom.current().nextInt(RATING_BANDS)]);
+    }
+
+    /**
+     * The players a benchmark thread joins with, made once so only the queue is measured.
+     * A player is used again long after a table took it, the queues never hold more than a few.
+     */
+    @State(Scope.Thread)
+    public static class Players {
+        /**
+         * The number of players of each thread
+         */
+        private static final int POOL_SIZE = 1024;
+        /**
+         * The numbers given to the players of every thread
+         */
+        private static final AtomicInteger NUMBERS = new AtomicInteger();
+        /**
+         * The players, never started
+         */
+        private PlayerThread[] pool;
+        /**
+         * The next player to join
+         */
+        private int next;
+
+        /**
+         * Makes the players
+         * @author Dario Urdapilleta
+         * @since 10/18/2026
+         */
+        @Setup(Level.Trial)
+        public void setUp() {
+            pool = new PlayerThread[POOL_SIZE];
+            for(int player = 0; player < POOL_SIZE; player++) {
+                pool[player] = new PlayerThread(NUMBERS.incrementAndGet(), NullConnection.INSTANCE);
+            }
+            next = 0;
+        }
+
+        /**
+         * Returns the next player to join
+         * @return The player thread
+         * @author Dario Urdapilleta
+         * @since 10/18/2026
+         */
+        private PlayerThread next() {
+            PlayerThread player = pool[next];
+            next = (next + 1) % POOL_SIZE;
+            return player;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package benchmarks;
+
+import model.DominoChip;
+import model.DominoEngine;
+import model.DominoHand;
+import model.DominoLine;
+import model.DominoTiles;
+import model.GameContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the rules: the line the games are played on, the engine the server checks the moves with,
+ * the hand count and the deal.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RulesBenchmark {
+    /**
+     * The tiles of a whole game in the order they are played, each one knows its end
+     */
+    private DominoChip[] game;
+    /**
+     * The line the game is played on again by every call
+     */
+    private DominoLine line;
+    /**
+     * A line with the first half of the game on it
+     */
+    private DominoLine halfLine;
+    /**
+     * The engine with the first half of the game played
+     */
+    private DominoEngine engine;
+    /**
+     * A full hand of the player that moves next
+     */
+    private DominoHand hand;
+    /**
+     * The position of the player that moves next
+     */
+    private int player;
+    /**
+     * The tiles that are dealt
+     */
+    private DominoTiles tiles;
+
+    /**
+     * Plays a game the way the CPU players do, double six first and then the first tile that fits,
+     * and keeps the middle of it for the benchmarks that look at a line in play
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Setup
+    public void setUp() {
+        ArrayList<DominoChip> left = DominoEngine.chipsOf(DominoEngine.ALL_TILES);
+        ArrayList<DominoChip> played = new ArrayList<DominoChip>();
+        DominoLine lay = new DominoLine();
+        int[] hands = new int[DominoEngine.PLAYER_COUNT];
+        boolean moved = true;
+
+        // Lay every tile that fits until none does
+        while(moved) {
+            moved = false;
+            for(DominoChip chip : left) {
+                if(lay.canPlay(chip, played.isEmpty() ? GameContext.FIRST_GAME : GameContext.NEXT_GAME)) {
+                    lay.playChipCPU(chip);
+                    played.add(chip);
+                    left.remove(chip);
+                    moved = true;
+                    break;
+                }
+            }
+        }
+        game = played.toArray(new DominoChip[0]);
+        line = new DominoLine();
+
+        // Deal the played tiles in turns and keep the first half on the line and in the engine
+        for(int move = 0; move < game.length; move++) {
+            hands[move % DominoEngine.PLAYER_COUNT] |= 1 << DominoEngine.tileOf(game[move]);
+        }
+        halfLine = new DominoLine();
+        engine = new DominoEngine(hands);
+        for(int move = 0; move < game.length / 2; move++) {
+            halfLine.playChip(game[move]);
+            engine.play(move % DominoEngine.PLAYER_COUNT, game[move].getFirst(), game[move].getSecond(), game[move].isPlacedFirst());
+        }
+        player = (game.length / 2) % DominoEngine.PLAYER_COUNT;
+        hand = new DominoHand(DominoEngine.chipsOf(engine.getHand(player)));
+        tiles = new DominoTiles();
+    }
+
+    /**
+     * Plays the whole game on an empty line, checking every tile before it is played
+     * @return The tiles on the line
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Benchmark
+    public int linePlayGame() {
+        line.clear();
+        for(DominoChip chip : game) {
+            if(line.canPlay(chip, line.isEmpty() ? GameContext.FIRST_GAME : GameContext.NEXT_GAME)) {
+                line.playChip(chip);
+            }
+        }
+        return line.size();
+    }
+
+    /**
+     * Checks every tile of a hand against a line in play, what the client does to enable the tiles
+     * @param blackhole Consumes the answers
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Benchmark
+    public void lineCanPlay(Blackhole blackhole) {
+        for(DominoChip chip : hand.getChips()) {
+            blackhole.consume(halfLine.canPlay(chip, GameContext.NEXT_GAME));
+        }
+    }
+
+    /**
+     * Finds the legal moves of a hand with the engine, the same question as {@link #lineCanPlay(Blackhole)}
+     * @return The mask of the legal tiles
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Benchmark
+    public int engineLegalMoves() {
+        return engine.legalMoves(player, GameContext.NEXT_GAME);
+    }
+
+    /**
+     * Checks every tile of a hand on the first end with the engine, what the server does for each move
+     * @param blackhole Consumes the answers
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Benchmark
+    public void engineIsLegal(Blackhole blackhole) {
+        for(DominoChip chip : hand.getChips()) {
+            blackhole.consume(engine.isLegal(player, DominoEngine.tileOf(chip), true, GameContext.NEXT_GAME));
+        }
+    }
+
+    /**
+     * Counts the pips of a hand
+     * @return The count
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Benchmark
+    public int handCount() {
+        return hand.count();
+    }
+
+    /**
+     * Counts the pips of the same hand with the engine
+     * @return The count
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Benchmark
+    public int enginePipCount() {
+        return engine.pipCount(player);
+    }
+
+    /**
+     * Shuffles the tiles and deals the four hands of a game
+     * @param blackhole Consumes the hands
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Benchmark
+    public void shuffleAndDeal(Blackhole blackhole) {
+        tiles.shuffle();
+        for(int hands = 0; hands < DominoEngine.PLAYER_COUNT; hands++) {
+            blackhole.consume(tiles.getHand());
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package bot;
+
+import utilities.NetworkProtocols;
+
+/**
+ * Dictionary class to store the load generator options.
+ * Options are passed to {@link LoadGeneratorApp} as key=value arguments.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class BotConfig {
+    /**
+     * Option: the server address, localhost or an IP address
+     */
+    public static final String HOST_OPTION = "host";
+    /**
+     * Option: the server port
+     */
+    public static final String PORT_OPTION = "port";
+    /**
+     * Option: the number of bots
+     */
+    public static final String BOTS_OPTION = "bots";
+    /**
+     * Option: the time between two bots connecting, in milliseconds
+     */
+    public static final String RAMP_OPTION = "ramp_ms";
+    /**
+     * Option: how long a bot thinks before it moves, in milliseconds
+     */
+    public static final String THINK_OPTION = "think_ms";
+    /**
+     * Option: the most time added at random to each think time, in milliseconds
+     */
+    public static final String THINK_JITTER_OPTION = "think_jitter_ms";
+    /**
+     * Option: the number of humans the bots ask for at a table
+     */
+    public static final String TABLE_SIZE_OPTION = "table_size";
+    /**
+     * Option: the codec the bots ask for
+     */
+    public static final String CODEC_OPTION = "codec";
+    /**
+     * Option: how long the load runs in seconds, 0 to run until the process is stopped
+     */
+    public static final String DURATION_OPTION = "duration_s";
+    /**
+     * Option: how often the statistics are printed in seconds, 0 to only print them at the end
+     */
+    public static final String REPORT_INTERVAL_OPTION = "report_s";
+    /**
+     * The server address
+     */
+    public static String HOST = NetworkProtocols.HOST;
+    /**
+     * The server port
+     */
+    public static int PORT = NetworkProtocols.PORT;
+    /**
+     * The number of bots
+     */
+    public static int BOTS = 4;
+    /**
+     * The time between two bots connecting, in milliseconds
+     */
+    public static long RAMP_MS = 10;
+    /**
+     * How long a bot thinks before it moves, in milliseconds
+     */
+    public static long THINK_MS = 0;
+    /**
+     * The most time added at random to each think time, in milliseconds
+     */
+    public static long THINK_JITTER_MS = 0;
+    /**
+     * The number of humans the bots ask for at a table, 0 for the server default
+     */
+    public static int TABLE_SIZE = 4;
+    /**
+     * The codec the bots ask for
+     */
+    public static String CODEC = NetworkProtocols.BINARY_CODEC;
+    /**
+     * How long the load runs in seconds, 0 to run until the process is stopped
+     */
+    public static int DURATION_S = 60;
+    /**
+     * How often the statistics are printed in seconds, 0 to only print them at the end
+     */
+    public static int REPORT_INTERVAL_S = 10;
+
+    /**
+     * Loads the options from the console arguments
+     * @param args The console arguments as key=value pairs
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static void loadFromArgs(String[] args) {
+        for(String arg : args) {
+            int separator = arg.indexOf('=');
+            if(separator < 0) {
+                throw new IllegalArgumentException("Options must be written as key=value: " + arg);
+            }
+            String key = arg.substring(0, separator).trim().toLowerCase();
+            String value = arg.substring(separator + 1).trim();
+            switch (key) {
+                case HOST_OPTION:
+                    HOST = value;
+                    break;
+                case PORT_OPTION:
+                    PORT = Integer.parseInt(value);
+                    break;
+                case BOTS_OPTION:
+                    BOTS = Math.max(1, Integer.parseInt(value));
+                    break;
+                case RAMP_OPTION:
+                    RAMP_MS = Math.max(0, Long.parseLong(value));
+                    break;
+                case THINK_OPTION:
+                    THINK_MS = Math.max(0, Long.parseLong(value));
+                    break;
+                case THINK_JITTER_OPTION:
+                    THINK_JITTER_MS = Math.max(0, Long.parseLong(value));
+                    break;
+                case TABLE_SIZE_OPTION:
+                    TABLE_SIZE = Math.max(0, Math.min(4, Integer.parseInt(value)));
+                    break;
+                case CODEC_OPTION:
+                    CODEC = NetworkProtocols.negotiateCodec(value.toLowerCase());
+                    break;
+                case DURATION_OPTION:
+                    DURATION_S = Math.max(0, Integer.parseInt(value));
+                    break;
+                case REPORT_INTERVAL_OPTION:
+                    REPORT_INTERVAL_S = Math.max(0, Integer.parseInt(value));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown load generator option: " + key);
+            }
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package bot;
+
+import utilities.Histogram;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The counters and round trip histograms shared by every bot of a load run.
+ * The times are recorded in microseconds.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class BotStats {
+    /**
+     * From the LOGIN request to the LOGIN response
+     */
+    private final Histogram loginTimes;
+    /**
+     * From the LOGIN request to the first GAME_READY, the time spent in the matchmaking queue
+     */
+    private final Histogram matchTimes;
+    /**
+     * From a PLAY_CHIP request to the move coming back from the table
+     */
+    private final Histogram playTimes;
+    /**
+     * The bots connected right now
+     */
+    private final AtomicInteger online;
+    /**
+     * The connections opened
+     */
+    private final AtomicLong connects;
+    /**
+     * The connections that couldn't be opened
+     */
+    private final AtomicLong failedConnects;
+    /**
+     * The connections closed by the server or the network
+     */
+    private final AtomicLong drops;
+    /**
+     * The messages received
+     */
+    private final AtomicLong messages;
+    /**
+     * The tiles played by the bots
+     */
+    private final AtomicLong moves;
+    /**
+     * The turns passed by the bots
+     */
+    private final AtomicLong passes;
+    /**
+     * The games finished, counted by every bot at the table
+     */
+    private final AtomicLong games;
+    /**
+     * The matches finished, counted by every bot at the table
+     */
+    private final AtomicLong matches;
+    /**
+     * The moves the server rejected
+     */
+    private final AtomicLong rejected;
+    /**
+     * The errors sent by the server
+     */
+    private final AtomicLong errors;
+
+    /**
+     * Constructor for the statistics
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public BotStats() {
+        this.loginTimes = new Histogram();
+        this.matchTimes = new Histogram();
+        this.playTimes = new Histogram();
+        this.online = new AtomicInteger();
+        this.connects = new AtomicLong();
+        this.failedConnects = new AtomicLong();
+        this.drops = new AtomicLong();
+        this.messages = new AtomicLong();
+        this.moves = new AtomicLong();
+        this.passes = new AtomicLong();
+        this.games = new AtomicLong();
+        this.matches = new AtomicLong();
+        this.rejected = new AtomicLong();
+        this.errors = new AtomicLong();
+    }
+
+    /**
+     * Returns the login round trips
+     * @return The histogram in microseconds
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public Histogram getLoginTimes() {
+        return loginTimes;
+    }
+
+    /**
+     * Returns the times spent in the matchmaking queue
+     * @return The histogram in microseconds
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public Histogram getMatchTimes() {
+        return matchTimes;
+    }
+
+    /**
+     * Returns the move round trips
+     * @return The histogram in microseconds
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public Histogram getPlayTimes() {
+        return playTimes;
+    }
+
+    /**
+     * Counts a connection opened
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void connected() {
+        connects.incrementAndGet();
+        online.incrementAndGet();
+    }
+
+    /**
+     * Counts a connection that couldn't be opened
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void connectFailed() {
+        failedConnects.incrementAndGet();
+    }
+
+    /**
+     * Counts a connection closed
+     * @param dropped True if the bot didn't close it
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void disconnected(boolean dropped) {
+        online.decrementAndGet();
+        if(dropped) {
+            drops.incrementAndGet();
+        }
+    }
+
+    /**
+     * Counts a message received
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void received() {
+        messages.incrementAndGet();
+    }
+
+    /**
+     * Counts a tile played
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void moved() {
+        moves.incrementAndGet();
+    }
+
+    /**
+     * Counts a turn passed
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void passed() {
+        passes.incrementAndGet();
+    }
+
+    /**
+     * Counts a game finished
+     * @param matchOver True if the game ended the match
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void gameOver(boolean matchOver) {
+        games.incrementAndGet();
+        if(matchOver) {
+            matches.incrementAndGet();
+        }
+    }
+
+    /**
+     * Counts a move the server rejected
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void rejected() {
+        rejected.incrementAndGet();
+    }
+
+    /**
+     * Counts an error sent by the server
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void error() {
+        errors.incrementAndGet();
+    }
+
+    /**
+     * Returns the counters and the histograms, one line each
+     * @return The summary
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public String summary() {
+        return "online=" + online.get() + " connects=" + connects.get() + " failed=" + failedConnects.get()
+                + " drops=" + drops.get() + " messages=" + messages.get() + " moves=" + moves.get()
+                + " passes=" + passes.get() + " games=" + games.get() + " matches=" + matches.get()
+                + " rejected=" + rejected.get() + " errors=" + errors.get()
+                + System.lineSeparator() + "  login: " + loginTimes.summary("us")
+                + System.lineSeparator() + "  match: " + matchTimes.summary("us")
+                + System.lineSeparator() + "  play:  " + playTimes.summary("us");
+    }
+}
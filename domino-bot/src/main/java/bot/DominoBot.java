@@ -0,0 +1,410 @@
+package bot;
+
+import model.DominoChip;
+import model.DominoEngine;
+import model.DominoPlayer;
+import model.GameContext;
+import utilities.BinaryProtocol;
+import utilities.Frame;
+import utilities.JsonCodec;
+import utilities.Messages;
+import utilities.NetworkProtocols;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A headless player that logs in, plays matches until it is stopped and records how long the server takes to answer.
+ * It speaks the protocol through a {@link DominoPlayer} like the Swing client does, and keeps the game in a
+ * {@link DominoEngine} that only knows its own hand. On its turn it plays its heaviest legal tile, or passes.
+ * Each bot blocks on its own socket, so it is meant to run on a virtual thread.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class DominoBot implements Runnable {
+    /**
+     * The score that wins a match
+     */
+    private static final int WINNING_SCORE = 100;
+    /**
+     * How long the bot waits before it logs in again after its id was still in use, doubled on each try
+     */
+    private static final long RETRY_MS = 25;
+    /**
+     * The number of times in a row the bot logs in again while its id is still in use before it gives up
+     */
+    private static final int MAX_RETRIES = 8;
+    /**
+     * The bot number
+     */
+    private final int number;
+    /**
+     * The user id, the same for every connection of the bot
+     */
+    private final String id;
+    /**
+     * The statistics the bot records to
+     */
+    private final BotStats stats;
+    /**
+     * The connection to the server
+     */
+    private volatile DominoPlayer player;
+    /**
+     * Whether the bot keeps playing
+     */
+    private volatile boolean running;
+    /**
+     * The game as the bot knows it, only its own hand is filled in
+     */
+    private DominoEngine engine;
+    /**
+     * The bot's position at the table
+     */
+    private int position;
+    /**
+     * The rules of the game being played
+     */
+    private GameContext context;
+    /**
+     * When the LOGIN request was sent, 0 once the LOGIN response came
+     */
+    private long loginSentAt;
+    /**
+     * When the LOGIN request was sent, 0 once the first GAME_READY came
+     */
+    private long matchSentAt;
+    /**
+     * When the last PLAY_CHIP request was sent, 0 once the move came back
+     */
+    private long playSentAt;
+    /**
+     * Whether the server refused the login because the id was still in use
+     */
+    private boolean refused;
+    /**
+     * The number of logins refused in a row
+     */
+    private int retries;
+
+    /**
+     * Constructor for a bot
+     * @param number The bot number, it makes the user id
+     * @param stats The statistics the bot records to
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public DominoBot(int number, BotStats stats) {
+        this.number = number;
+        this.id = "bot-" + number;
+        this.stats = stats;
+        this.running = true;
+    }
+
+    /**
+     * Plays one match after another until the bot is stopped or can't connect
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Override
+    public void run() {
+        while(running) {
+            if(!this.connect()) {
+                stats.connectFailed();
+                return;
+            }
+            boolean matchOver = this.playMatch();
+            stats.disconnected(!matchOver && running && !refused);
+            if(refused) {
+                player.close();
+                if(!this.backOff()) {
+                    // Another bot process is using the same ids
+                    stats.error();
+                    return;
+                }
+                continue;
+            }
+            try {
+                if(matchOver) {
+                    player.logout();
+                } else {
+                    player.close();
+                }
+            } catch (RuntimeException e) {
+                // The server closed the connection first
+                player.close();
+            }
+        }
+    }
+
+    /**
+     * Stops the bot, a read it is blocked on is interrupted by closing the connection
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void stop() {
+        this.running = false;
+        DominoPlayer connection = this.player;
+        if(connection != null) {
+            connection.close();
+        }
+    }
+
+    /**
+     * Waits before logging in again after the id was still in use. The server may not have closed the session of the
+     * bot's last connection yet, after a logout it only does once it reads it.
+     * @return True if the bot tries again, false if it gave up or was stopped
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private boolean backOff() {
+        if(retries >= MAX_RETRIES) {
+            return false;
+        }
+        try {
+            Thread.sleep(RETRY_MS << retries);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        retries++;
+        return running;
+    }
+
+    /**
+     * Opens a new connection and logs in
+     * @return True if the bot connected
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private boolean connect() {
+        player = new DominoPlayer(BotConfig.HOST, BotConfig.PORT);
+        if(!player.isConnected()) {
+            return false;
+        }
+        stats.connected();
+        player.setCredentials(id, "Bot " + number);
+        player.setMatchPreferences(BotConfig.TABLE_SIZE, null, -1);
+        engine = null;
+        context = GameContext.FIRST_GAME;
+        playSentAt = 0;
+        refused = false;
+        loginSentAt = System.nanoTime();
+        matchSentAt = loginSentAt;
+        player.login();
+        return true;
+    }
+
+    /**
+     * Reads and answers the server messages until the match is over or the connection drops
+     * @return True if the match is over
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private boolean playMatch() {
+        Messages.Message message;
+        while(running && (message = this.read()) != null) {
+            stats.received();
+            try {
+                if(this.handle(message)) {
+                    return true;
+                }
+            } catch (RuntimeException e) {
+                // The connection closed while the bot was answering
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads the next message in the agreed codec
+     * @return The message, or null if the connection was closed
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private Messages.Message read() {
+        while(true) {
+            if(player.usesBinaryFrames()) {
+                Frame frame = player.getFrame();
+                return frame == null ? null : BinaryProtocol.decode(frame);
+            }
+            String json = player.getMessage();
+            if(!player.isConnected()) {
+                return null;
+            }
+            try {
+                return JsonCodec.decode(json);
+            } catch (IOException e) {
+                // A message the bot can't read is an error of the server, the next one may be fine
+                stats.error();
+            }
+        }
+    }
+
+    /**
+     * Handles a message from the server
+     * @param message The message
+     * @return True if the match is over
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private boolean handle(Messages.Message message) {
+        switch (message) {
+            case Messages.Protocol protocol -> {
+                player.setProtocolVersion(protocol.protocolVersion());
+                player.setCodec(NetworkProtocols.negotiateCodec(protocol.codec()));
+            }
+            case Messages.GameReady ready -> this.onGameReady(ready);
+            case Messages.PlayerMoved moved -> this.onMoved(moved.tile(), moved.player());
+            case Messages.PlayerPlayed played -> {
+                this.loadLine(played.line());
+                this.onMoved(BinaryProtocol.NO_TILE, played.player());
+            }
+            case Messages.Line line -> this.loadLine(line.line());
+            case Messages.Winner winner -> {
+                boolean matchOver = winner.firstScore() >= WINNING_SCORE || winner.secondScore() >= WINNING_SCORE;
+                stats.gameOver(matchOver);
+                context = GameContext.NEXT_GAME;
+                return matchOver;
+            }
+            case Messages.Rejected rejected -> stats.rejected();
+            case Messages.Text text -> {
+                return this.onText(text);
+            }
+            default -> {
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Handles a message that only carries a text
+     * @param text The message
+     * @return True if the bot can't go on with this connection
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private boolean onText(Messages.Text text) {
+        switch (text.action()) {
+            case NetworkProtocols.LOGIN_ACTION:
+                if(loginSentAt != 0) {
+                    stats.getLoginTimes().record((System.nanoTime() - loginSentAt) / 1000);
+                    loginSentAt = 0;
+                }
+                retries = 0;
+                break;
+            case NetworkProtocols.PLAYER_TURN_RESPONSE:
+                this.takeTurn();
+                break;
+            case NetworkProtocols.PING_RESPONSE:
+                player.pong();
+                break;
+            case NetworkProtocols.REJECTED_RESPONSE:
+                stats.rejected();
+                break;
+            case NetworkProtocols.SAME_USER_RESPONSE:
+                // The id is still in use, by the bot's last connection or another bot process
+                refused = true;
+                return true;
+            case NetworkProtocols.ERROR_ACTION:
+                stats.error();
+                break;
+        }
+        return false;
+    }
+
+    /**
+     * Loads the hand of a new game, or the hand sent again after a rejected move
+     * @param ready The GAME_READY response
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void onGameReady(Messages.GameReady ready) {
+        int[] hands = new int[DominoEngine.PLAYER_COUNT];
+        if(matchSentAt != 0) {
+            stats.getMatchTimes().record((System.nanoTime() - matchSentAt) / 1000);
+            matchSentAt = 0;
+        }
+        position = Math.max(0, Arrays.asList(ready.userIds()).indexOf(id));
+        for(byte tile : ready.hand()) {
+            hands[position] |= 1 << DominoEngine.tileOf(BinaryProtocol.tileFirst(tile), BinaryProtocol.tileSecond(tile));
+        }
+        engine = new DominoEngine(hands);
+    }
+
+    /**
+     * Puts a move on the line
+     * @param tile The encoded tile with its end, {@link BinaryProtocol#NO_TILE} if the line was already loaded
+     * @param player The position of the player that moved
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void onMoved(byte tile, int player) {
+        if(engine == null) {
+            return;
+        }
+        if(tile != BinaryProtocol.NO_TILE) {
+            engine.play(player, BinaryProtocol.tileFirst(tile), BinaryProtocol.tileSecond(tile), BinaryProtocol.tilePlacedFirst(tile));
+        }
+        if(player == position && playSentAt != 0) {
+            stats.getPlayTimes().record((System.nanoTime() - playSentAt) / 1000);
+            playSentAt = 0;
+        }
+    }
+
+    /**
+     * Loads the whole line, the hand is kept
+     * @param line The encoded tiles in the order they were played
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void loadLine(byte[] line) {
+        int[] hands = new int[DominoEngine.PLAYER_COUNT];
+        if(engine == null) {
+            return;
+        }
+        hands[position] = engine.getHand(position);
+        engine = new DominoEngine(hands);
+        for(byte tile : line) {
+            engine.play(position, BinaryProtocol.tileFirst(tile), BinaryProtocol.tileSecond(tile), BinaryProtocol.tilePlacedFirst(tile));
+        }
+    }
+
+    /**
+     * Thinks and plays the heaviest legal tile, on the first end if it fits there, or passes
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void takeTurn() {
+        long think = BotConfig.THINK_MS;
+        if(engine == null) {
+            return;
+        }
+        if(BotConfig.THINK_JITTER_MS > 0) {
+            think += ThreadLocalRandom.current().nextLong(BotConfig.THINK_JITTER_MS + 1);
+        }
+        if(think > 0) {
+            try {
+                Thread.sleep(think);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        int legal = engine.legalMoves(position, context);
+        if(legal == 0) {
+            stats.passed();
+            player.pass();
+            return;
+        }
+        int tile = DominoEngine.heaviest(legal);
+        DominoChip chip = new DominoChip(DominoEngine.high(tile), DominoEngine.low(tile));
+        chip.setPlaceFirst(engine.canPlayFirst(tile, context));
+        stats.moved();
+        playSentAt = System.nanoTime();
+        player.playChip(chip);
+    }
+}
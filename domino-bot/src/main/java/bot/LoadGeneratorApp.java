@@ -0,0 +1,83 @@
+package bot;
+
+import utilities.NetworkProtocols;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load generator Main app, it starts a number of bots against a running server and prints what they measured
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class LoadGeneratorApp {
+    /**
+     * How long the bots get to close their connections once the run is over, in milliseconds
+     */
+    private static final long STOP_WAIT_MS = 5000;
+
+    /**
+     * Main method, starts the bots one after the other and stops them when the run is over
+     * @param args The console arguments as key=value options, see {@link BotConfig}.
+     * @throws InterruptedException If the run is interrupted
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static void main(String[] args) throws InterruptedException {
+        BotStats stats = new BotStats();
+        ArrayList<DominoBot> bots = new ArrayList<DominoBot>();
+        ArrayList<Thread> threads = new ArrayList<Thread>();
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+        long start;
+        long deadline;
+
+        // The bots have no interface, nothing should load AWT
+        System.setProperty("java.awt.headless", "true");
+        BotConfig.loadFromArgs(args);
+        NetworkProtocols.CODEC = BotConfig.CODEC;
+        System.out.println("LOAD: " + BotConfig.BOTS + " bots against " + BotConfig.HOST + ":" + BotConfig.PORT
+                + ", " + BotConfig.TABLE_SIZE + " per table, " + BotConfig.CODEC + " codec.");
+        if(BotConfig.REPORT_INTERVAL_S > 0) {
+            reporter.scheduleAtFixedRate(() -> System.out.println("LOAD: " + stats.summary()),
+                    BotConfig.REPORT_INTERVAL_S, BotConfig.REPORT_INTERVAL_S, TimeUnit.SECONDS);
+        }
+
+        // One virtual thread per bot, they spend their time blocked on their sockets or thinking
+        start = System.nanoTime();
+        for(int number = 1; number <= BotConfig.BOTS; number++) {
+            DominoBot bot = new DominoBot(number, stats);
+            bots.add(bot);
+            threads.add(Thread.ofVirtual().name("bot-" + number).start(bot));
+            if(BotConfig.RAMP_MS > 0) {
+                Thread.sleep(BotConfig.RAMP_MS);
+            }
+        }
+
+        // Run for the duration, or until the bots can't connect any more
+        if(BotConfig.DURATION_S > 0) {
+            deadline = start + TimeUnit.SECONDS.toNanos(BotConfig.DURATION_S);
+            for(Thread thread : threads) {
+                long waitMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if(waitMs <= 0 || !thread.join(Duration.ofMillis(waitMs))) {
+                    break;
+                }
+            }
+        } else {
+            for(Thread thread : threads) {
+                thread.join();
+            }
+        }
+        for(DominoBot bot : bots) {
+            bot.stop();
+        }
+        for(Thread thread : threads) {
+            thread.join(STOP_WAIT_MS);
+        }
+        reporter.shutdownNow();
+        System.out.println("LOAD: Done after " + TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) + "s. " + stats.summary());
+    }
+}
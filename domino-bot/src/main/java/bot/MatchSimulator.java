@@ -0,0 +1,256 @@
+package bot;
+
+import model.CpuStrategy;
+import model.DominoEngine;
+import model.DominoTiles;
+import model.GameContext;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Plays whole matches in memory with the rules of the server: the double six opens the first game, the winner of a
+ * game starts the next one and a team wins the match once it reaches the target score.
+ * Each seat moves with its own strategy. A simulator is used by one thread, it counts what it plays until it is
+ * added to the shared statistics.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class MatchSimulator {
+    /**
+     * The strategy of each seat
+     */
+    private final CpuStrategy[] strategies;
+    /**
+     * The score that wins a match
+     */
+    private final int target;
+    /**
+     * The generator the tiles are shuffled with
+     */
+    private final RandomGenerator random;
+    /**
+     * The tiles that are dealt
+     */
+    private final DominoTiles tiles;
+    /**
+     * The hands of a new game
+     */
+    private final int[] dealt;
+    /**
+     * The score of each team in the current match
+     */
+    private final int[] scores;
+    /**
+     * The matches won by each team
+     */
+    private final long[] teamMatches;
+    /**
+     * The games won by each team
+     */
+    private final long[] teamGames;
+    /**
+     * The games played
+     */
+    private long games;
+    /**
+     * The games that closed with nobody able to play
+     */
+    private long closedGames;
+    /**
+     * The tiles played
+     */
+    private long moves;
+    /**
+     * The turns passed
+     */
+    private long passes;
+
+    /**
+     * Constructor for the simulator
+     * @param strategies The strategy of each seat
+     * @param target The score that wins a match
+     * @param random The generator the tiles are shuffled with
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public MatchSimulator(CpuStrategy[] strategies, int target, RandomGenerator random) {
+        this.strategies = strategies;
+        this.target = target;
+        this.random = random;
+        this.tiles = new DominoTiles();
+        this.dealt = new int[DominoEngine.PLAYER_COUNT];
+        this.scores = new int[2];
+        this.teamMatches = new long[2];
+        this.teamGames = new long[2];
+    }
+
+    /**
+     * Plays a match
+     * @return The team that won, 0 for the seats 0 and 2, 1 for the seats 1 and 3
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int playMatch() {
+        int startingPlayer = -1;
+        int team;
+        GameContext context = GameContext.FIRST_GAME;
+        scores[0] = 0;
+        scores[1] = 0;
+        while(scores[0] < target && scores[1] < target) {
+            startingPlayer = this.playGame(startingPlayer, context);
+            context = GameContext.NEXT_GAME;
+        }
+        team = scores[0] >= target ? 0 : 1;
+        teamMatches[team]++;
+        return team;
+    }
+
+    /**
+     * Deals and plays a game until a player runs out of tiles or nobody can play
+     * @param startingPlayer The player that starts, -1 for the holder of the double six
+     * @param context The rules of the game
+     * @return The player that won, it starts the next game
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private int playGame(int startingPlayer, GameContext context) {
+        DominoEngine engine;
+        int player, timesPassed = 0;
+
+        // Shuffle and deal the tiles
+        tiles.shuffle(random);
+        for(int hand = 0; hand < dealt.length; hand++) {
+            dealt[hand] = tiles.getHand();
+        }
+        engine = new DominoEngine(dealt);
+        player = startingPlayer < 0 ? engine.holderOf(DominoEngine.DOUBLE_SIX) : startingPlayer;
+        startingPlayer = player;
+        games++;
+
+        while(true) {
+            int move = strategies[player].choose(engine, player, context);
+            if(move == CpuStrategy.PASS) {
+                if(engine.legalMoves(player, context) != 0) {
+                    throw new IllegalStateException("The " + strategies[player].getName() + " strategy passed with a tile to play.");
+                }
+                engine.pass(player);
+                passes++;
+                if(++timesPassed >= DominoEngine.PLAYER_COUNT) {
+                    // The game has closed
+                    closedGames++;
+                    return this.closed(engine, startingPlayer);
+                }
+            } else {
+                int tile = CpuStrategy.tileOf(move);
+                boolean placeFirst = CpuStrategy.placesFirst(move);
+                if(!engine.isLegal(player, tile, placeFirst, context)) {
+                    throw new IllegalStateException("The " + strategies[player].getName() + " strategy made an illegal move.");
+                }
+                engine.play(player, tile, placeFirst);
+                moves++;
+                timesPassed = 0;
+                if(engine.getTilesLeft(player) <= 0) {
+                    return this.victory(engine, player);
+                }
+            }
+            player = (player + 1) % DominoEngine.PLAYER_COUNT;
+        }
+    }
+
+    /**
+     * Gives a player's team the points left in the other team's hands
+     * @param engine The game
+     * @param player The player that won
+     * @return The player that won
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private int victory(DominoEngine engine, int player) {
+        int team = player % 2;
+        scores[team] += engine.pipCount(1 - team) + engine.pipCount(3 - team);
+        teamGames[team]++;
+        return player;
+    }
+
+    /**
+     * Ends a game nobody can play, the team that holds fewer points wins it and the player that started breaks a tie
+     * @param engine The game
+     * @param startingPlayer The player that started the game
+     * @return The player given the win
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private int closed(DominoEngine engine, int startingPlayer) {
+        int firstTeamCount = engine.pipCount(1) + engine.pipCount(3);
+        int secondTeamCount = engine.pipCount(2) + engine.pipCount(0);
+        if(firstTeamCount > secondTeamCount) {
+            return this.victory(engine, 0);
+        } else if (secondTeamCount > firstTeamCount) {
+            return this.victory(engine, 1);
+        }
+        return this.victory(engine, startingPlayer);
+    }
+
+    /**
+     * Returns the matches won by a team
+     * @param team The team, 0 or 1
+     * @return The number of matches
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public long getTeamMatches(int team) {
+        return teamMatches[team];
+    }
+
+    /**
+     * Returns the games won by a team
+     * @param team The team, 0 or 1
+     * @return The number of games
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public long getTeamGames(int team) {
+        return teamGames[team];
+    }
+
+    /**
+     * Returns the games played
+     * @return The number of games
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Returns the games that closed with nobody able to play
+     * @return The number of games
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public long getClosedGames() {
+        return closedGames;
+    }
+
+    /**
+     * Returns the tiles played
+     * @return The number of tiles
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public long getMoves() {
+        return moves;
+    }
+
+    /**
+     * Returns the turns passed
+     * @return The number of turns
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public long getPasses() {
+        return passes;
+    }
+}
@@ -0,0 +1,80 @@
+package bot;
+
+import model.CpuStrategy;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Simulator Main app, it plays whole matches in memory on every core to compare CPU strategies.
+ * The matches are split in batches, each one shuffles with its own generator split from the seed before the run,
+ * so a seed plays the same matches whatever the number of threads.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class Simulator {
+    /**
+     * The number of matches a batch plays on a thread
+     */
+    private static final int BATCH_SIZE = 1000;
+
+    /**
+     * Main method, plays the matches and prints the rates and the win rates
+     * @param args The console arguments as key=value options, see {@link SimulatorConfig}.
+     * @throws InterruptedException If the run is interrupted
+     * @throws ExecutionException If a strategy made an illegal move
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static void main(String[] args) throws InterruptedException, ExecutionException {
+        SimulatorStats stats = new SimulatorStats();
+        SplittableRandom seed;
+        SplittableRandom[] randoms;
+        ForkJoinPool pool;
+        long start;
+
+        SimulatorConfig.loadFromArgs(args);
+        CpuStrategy[] strategies = SimulatorConfig.STRATEGIES;
+        System.out.println("SIMULATOR: " + SimulatorConfig.MATCHES + " matches to " + SimulatorConfig.TARGET
+                + " points, threads=" + SimulatorConfig.THREADS + " seed=" + SimulatorConfig.SEED + ".");
+
+        // Split a generator for each batch in order, before any thread takes one
+        seed = new SplittableRandom(SimulatorConfig.SEED);
+        randoms = new SplittableRandom[(SimulatorConfig.MATCHES + BATCH_SIZE - 1) / BATCH_SIZE];
+        for(int batch = 0; batch < randoms.length; batch++) {
+            randoms[batch] = seed.split();
+        }
+
+        // The parallel stream runs on the pool it is started from
+        pool = new ForkJoinPool(SimulatorConfig.THREADS);
+        start = System.nanoTime();
+        try {
+            pool.submit(() -> IntStream.range(0, randoms.length).parallel()
+                    .forEach(batch -> Simulator.playBatch(batch, randoms[batch], strategies, stats))).get();
+        } finally {
+            pool.shutdown();
+        }
+        System.out.println("SIMULATOR: " + stats.summary(strategies, System.nanoTime() - start));
+    }
+
+    /**
+     * Plays a batch of matches and adds its counters to the statistics
+     * @param batch The batch number
+     * @param random The generator of the batch
+     * @param strategies The strategy of each seat
+     * @param stats The statistics
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static void playBatch(int batch, SplittableRandom random, CpuStrategy[] strategies, SimulatorStats stats) {
+        MatchSimulator simulator = new MatchSimulator(strategies, SimulatorConfig.TARGET, random);
+        int matches = Math.min(BATCH_SIZE, SimulatorConfig.MATCHES - batch * BATCH_SIZE);
+        for(int match = 0; match < matches; match++) {
+            simulator.playMatch();
+        }
+        stats.add(simulator);
+    }
+}
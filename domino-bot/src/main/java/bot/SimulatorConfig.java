@@ -0,0 +1,91 @@
+package bot;
+
+import model.CpuStrategy;
+import model.FirstFitStrategy;
+
+/**
+ * Dictionary class to store the simulator options.
+ * Options are passed to {@link Simulator} as key=value arguments.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class SimulatorConfig {
+    /**
+     * Option: the number of matches to play
+     */
+    public static final String MATCHES_OPTION = "matches";
+    /**
+     * Option: the seed the tiles are shuffled with
+     */
+    public static final String SEED_OPTION = "seed";
+    /**
+     * Option: the number of threads that play the matches
+     */
+    public static final String THREADS_OPTION = "threads";
+    /**
+     * Option: the score that wins a match
+     */
+    public static final String TARGET_OPTION = "target";
+    /**
+     * Option: the strategies separated by commas, one for every seat, one for each team or one for all the seats
+     */
+    public static final String STRATEGIES_OPTION = "strategies";
+    /**
+     * The number of matches to play
+     */
+    public static int MATCHES = 100000;
+    /**
+     * The seed the tiles are shuffled with
+     */
+    public static long SEED = System.nanoTime();
+    /**
+     * The number of threads that play the matches
+     */
+    public static int THREADS = Runtime.getRuntime().availableProcessors();
+    /**
+     * The score that wins a match, the same as the server
+     */
+    public static int TARGET = 100;
+    /**
+     * The strategy of each seat
+     */
+    public static CpuStrategy[] STRATEGIES = {FirstFitStrategy.INSTANCE, FirstFitStrategy.INSTANCE,
+            FirstFitStrategy.INSTANCE, FirstFitStrategy.INSTANCE};
+
+    /**
+     * Loads the options from the console arguments
+     * @param args The console arguments as key=value pairs
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static void loadFromArgs(String[] args) {
+        for(String arg : args) {
+            int separator = arg.indexOf('=');
+            if(separator < 0) {
+                throw new IllegalArgumentException("Options must be written as key=value: " + arg);
+            }
+            String key = arg.substring(0, separator).trim().toLowerCase();
+            String value = arg.substring(separator + 1).trim();
+            switch (key) {
+                case MATCHES_OPTION:
+                    MATCHES = Math.max(1, Integer.parseInt(value));
+                    break;
+                case SEED_OPTION:
+                    SEED = Long.parseLong(value);
+                    break;
+                case THREADS_OPTION:
+                    THREADS = Math.max(1, Integer.parseInt(value));
+                    break;
+                case TARGET_OPTION:
+                    TARGET = Math.max(1, Integer.parseInt(value));
+                    break;
+                case STRATEGIES_OPTION:
+                    STRATEGIES = CpuStrategy.forSeats(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown simulator option: " + key);
+            }
+        }
+    }
+}
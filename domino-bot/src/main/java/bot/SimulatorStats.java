@@ -0,0 +1,117 @@
+package bot;
+
+import model.CpuStrategy;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The counters of a simulation, each batch of matches adds its own counters once it is over.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class SimulatorStats {
+    /**
+     * The matches played
+     */
+    private final LongAdder matches;
+    /**
+     * The games played
+     */
+    private final LongAdder games;
+    /**
+     * The games that closed with nobody able to play
+     */
+    private final LongAdder closedGames;
+    /**
+     * The tiles played
+     */
+    private final LongAdder moves;
+    /**
+     * The turns passed
+     */
+    private final LongAdder passes;
+    /**
+     * The matches won by each team
+     */
+    private final AtomicLongArray teamMatches;
+    /**
+     * The games won by each team
+     */
+    private final AtomicLongArray teamGames;
+
+    /**
+     * Constructor for the statistics
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public SimulatorStats() {
+        this.matches = new LongAdder();
+        this.games = new LongAdder();
+        this.closedGames = new LongAdder();
+        this.moves = new LongAdder();
+        this.passes = new LongAdder();
+        this.teamMatches = new AtomicLongArray(2);
+        this.teamGames = new AtomicLongArray(2);
+    }
+
+    /**
+     * Adds what a simulator played
+     * @param simulator The simulator, no longer playing
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void add(MatchSimulator simulator) {
+        for(int team = 0; team < 2; team++) {
+            matches.add(simulator.getTeamMatches(team));
+            teamMatches.addAndGet(team, simulator.getTeamMatches(team));
+            teamGames.addAndGet(team, simulator.getTeamGames(team));
+        }
+        games.add(simulator.getGames());
+        closedGames.add(simulator.getClosedGames());
+        moves.add(simulator.getMoves());
+        passes.add(simulator.getPasses());
+    }
+
+    /**
+     * Returns the counters, the rates and the win rate of each team
+     * @param strategies The strategy of each seat
+     * @param elapsedNanos The time the simulation took
+     * @return The summary
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public String summary(CpuStrategy[] strategies, long elapsedNanos) {
+        double seconds = Math.max(1, elapsedNanos) / (double)TimeUnit.SECONDS.toNanos(1);
+        long matchCount = matches.sum();
+        long gameCount = games.sum();
+        StringBuilder summary = new StringBuilder();
+        summary.append("matches=").append(matchCount).append(" games=").append(gameCount)
+                .append(" closed=").append(closedGames.sum()).append(" moves=").append(moves.sum())
+                .append(" passes=").append(passes.sum())
+                .append(String.format(" in %.1fs, %.0f games/s, %.0f matches/s, %.1fM matches/h", seconds,
+                        gameCount / seconds, matchCount / seconds, matchCount / seconds * 3600 / 1000000));
+        for(int team = 0; team < 2; team++) {
+            summary.append(System.lineSeparator())
+                    .append(String.format("  %s team (seats %d and %d, %s and %s): %.2f%% of the matches, %.2f%% of the games",
+                            team == 0 ? "first" : "second", team, team + 2, strategies[team].getName(), strategies[team + 2].getName(),
+                            SimulatorStats.percent(teamMatches.get(team), matchCount),
+                            SimulatorStats.percent(teamGames.get(team), gameCount)));
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Returns a part of a total as a percentage
+     * @param part The part
+     * @param total The total
+     * @return The percentage, 0 if the total is 0
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static double percent(long part, long total) {
+        return total == 0 ? 0 : part * 100.0 / total;
+    }
+}
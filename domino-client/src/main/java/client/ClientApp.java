@@ -14,7 +14,6 @@ public class ClientApp {
      * @since 04/04/2023
      */
     public static void main(String[] args) {
-        DominoClient game = new DominoClient();
-        game.startGame();
+        DominoClient.startGame();
     }
 }
@@ -11,7 +11,11 @@ import java.awt.*;
  * @version 1.0
  * @since 04/06/2023
  */
-public class DominoChipView extends JPanel {
+public final class DominoChipView extends JPanel {
+    /**
+     * The serialization version
+     */
+    private static final long serialVersionUID = 1L;
     /**
      * The chip size
      */
@@ -31,7 +35,7 @@ public class DominoChipView extends JPanel {
     /**
      * The logical representation of the chip
      */
-    private DominoChip chip;
+    private transient DominoChip chip;
 
     /**
      * Creates a domino chip interface element.
@@ -65,11 +69,7 @@ public class DominoChipView extends JPanel {
         this.removeAll();
         this.chip = chip;
         // Create the label
-        if(chip.getFirst() == -1 || chip.getSecond() == -1) {
-            label = new JLabel(new ImageIcon(DominoChip.class.getClassLoader().getResource("images/Back" + (isVertical ? "" : "r") +".png")));
-        } else {
-            label = new JLabel(new ImageIcon(DominoChip.class.getClassLoader().getResource("images/" + chip.getFirst() + chip.getSecond() + (isVertical ? "" : "r") +".png")));
-        }
+        label = new JLabel(TileSprites.of(chip, isVertical));
 
         // position the label
         label.setBounds(
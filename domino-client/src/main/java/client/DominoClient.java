@@ -0,0 +1,596 @@
+package client;
+
+import model.*;
+import utilities.BinaryProtocol;
+import utilities.Frame;
+import utilities.JsonCodec;
+import utilities.Messages;
+import utilities.MoveError;
+import utilities.NetworkProtocols;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Main class of the Domino game for the Client.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 04/04/2023
+ */
+public class DominoClient implements Runnable {
+    /**
+     * The Client Instance
+     */
+    public static DominoClient instance;
+    /**
+     * The Domino Player
+     */
+    private static DominoPlayer player;
+    /**
+     * The currentDomino Game
+     */
+    private static DominoGame game;
+    /**
+     * The gameInterface
+     */
+    public static DominoInterface gameInterface;
+    /**
+     * Keeps track if the player is waiting to be matched for a gmae
+     */
+    private static boolean isWaiting;
+    /**
+     * The rules of the next game, the first game of the match opens with the double six
+     */
+    private static GameContext context;
+    /**
+     * Whether is the player's turn
+     */
+    private static boolean yourTurn;
+    /**
+     * The selected chip
+     */
+    public static DominoChip selectedChip;
+    /**
+     * Keeps Track if the interface is ready to play
+     */
+    private static boolean gameOver;
+    /**
+     * Keeps track if the player needs to check if they pass
+     */
+    public static boolean checkTurn;
+    /**
+     * Whether the whole line was asked for after a missed move
+     */
+    private static boolean resyncing;
+    /**
+     * Whether the user logged out, a dropped connection is only resumed otherwise
+     */
+    private static volatile boolean loggedOut;
+    /**
+     * The number of times the client tries to reconnect after the connection drops
+     */
+    private static final int RECONNECT_ATTEMPTS = 5;
+    /**
+     * The wait before the first reconnection, it grows with each attempt, in milliseconds
+     */
+    private static final long RECONNECT_DELAY_MS = 500;
+
+    /**
+     * Class constructor
+     * @author Dario Urdapilleta
+     * @since 04/04/2023
+     */
+    public DominoClient () {
+        // set the singleton instance
+        instance = this;
+        context = GameContext.FIRST_GAME;
+        yourTurn = false;
+        selectedChip = null;
+        // Load the host and port
+        try {
+            NetworkProtocols.loadFromFile();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        // Create the interface
+        gameInterface = new DominoInterface();
+        gameInterface.createInterface();
+    }
+
+    /**
+     * This method handles all the received messages
+     * @author Dario Urdapilleta
+     * @since 04/05/2023
+     */
+    @Override
+    public void run() {
+        String response;
+
+        // handle the messages while the user is connected, and get back to the table if the connection drops
+        do {
+            while (player.isConnected()) {
+                if(player.usesBinaryFrames()) {
+                    handleFrame(player.getFrame());
+                } else {
+                    response = player.getMessage();
+                    handleResponse(response);
+                }
+            }
+        } while (!loggedOut && reconnect());
+    }
+
+    /**
+     * Connects again after the connection dropped and asks for the table events missed meanwhile
+     * @return True if the client is connected again
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static boolean reconnect () {
+        for(int attempt = 1; attempt <= RECONNECT_ATTEMPTS && !loggedOut; attempt++) {
+            try {
+                Thread.sleep(RECONNECT_DELAY_MS * attempt);
+            } catch (InterruptedException e) {
+                return false;
+            }
+            if(player.reconnect()) {
+                System.out.println(NetworkProtocols.RESUME_ACTION + " " + player.getLastEvent());
+                player.resume();
+                return true;
+            }
+        }
+        gameInterface.showLoginErrorMessage("The connection to the server was lost.");
+        return false;
+    }
+
+    /**
+     * Creates the domino interface and prepares it to start playing
+     * @author Dario Urdapilleta
+     * @since 04/05/2023
+     */
+    public static void startGame () {
+        isWaiting = false;
+        // Set the closing method to close the socket connection
+        gameInterface.setWindowAdapter(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                if(player != null) {
+                    loggedOut = true;
+                    player.logout();
+                }
+            }
+        });
+
+        // Set the login action
+        gameInterface.setLoginOnClick(new ActionListener() {
+
+            public void actionPerformed(ActionEvent e) {
+                String response;
+                player = new DominoPlayer(gameInterface.getLoginServer().equals("") ? NetworkProtocols.HOST : gameInterface.getLoginServer(), NetworkProtocols.PORT);
+                if (player.isConnected()) {
+                    // Run the listening thread
+                    ExecutorService executor = Executors.newFixedThreadPool(1);
+                    executor.execute(instance);
+
+                    // Set the user credentials and login
+                    player.setCredentials(gameInterface.getLoginUserId(), gameInterface.getLoginUserName());
+                    player.login();
+                } else {
+                    gameInterface.showLoginErrorMessage("Could not connect to the server.");
+                }
+
+            }
+        });
+    }
+
+    /**
+     * Handles a response from the server
+     * @param response The server response
+     * @author Dario Urdapilleta
+     * @since 04/05/2023
+     */
+    private static void handleResponse (String response) {
+        if(!response.equals("")) {
+            try {
+                // Parse the message and handle each type differently
+                Messages.Message message = JsonCodec.decode(response);
+                if(NetworkProtocols.isTableEvent(message.action())) {
+                    player.countEvent();
+                }
+                switch (message) {
+                    case Messages.Resumed resumed -> {
+                        System.out.println(NetworkProtocols.RESUMED_RESPONSE + " " + resumed.event());
+                        player.setLastEvent(resumed.event());
+                    }
+                    case Messages.Protocol protocol -> {
+                        System.out.println(NetworkProtocols.PROTOCOL_RESPONSE);
+                        player.setProtocolVersion(protocol.protocolVersion());
+                        player.setCodec(NetworkProtocols.negotiateCodec(protocol.codec()));
+                        player.setResumeToken(protocol.resumeToken());
+                    }
+                    case Messages.GameReady ready -> {
+                        // Load the players
+                        ArrayList<Player> players = new ArrayList<Player>(ready.userIds().length);
+                        for(int playerCounter = 0; playerCounter < ready.userIds().length; playerCounter++) {
+                            players.add(new Player(ready.userIds()[playerCounter], ready.userNames()[playerCounter]));
+                        }
+
+                        // Load the hand
+                        ArrayList<DominoChip> chips = new ArrayList<DominoChip>(ready.hand().length);
+                        for(byte tile : ready.hand()) {
+                            chips.add(new DominoChip(BinaryProtocol.tileFirst(tile), BinaryProtocol.tileSecond(tile)));
+                        }
+                        onGameReady(players, chips, ready.start());
+                    }
+                    case Messages.PlayerPlayed played -> {
+                        // Get the line information
+                        ArrayList<DominoChip> line = new ArrayList<DominoChip>(played.line().length);
+                        for(byte tile : played.line()) {
+                            line.add(DominoChip.fromByte(tile));
+                        }
+                        onPlayerPlayed(DominoChip.fromByte(played.tile()), played.player(), line);
+                    }
+                    case Messages.PlayerMoved moved -> onPlayerMoved(DominoChip.fromByte(moved.tile()), moved.player(), moved.sequence());
+                    case Messages.Line line -> onLine(DominoClient.chipsOf(line.line()));
+                    case Messages.Winner winner -> onWinner(winner.winner(), winner.firstScore(), winner.secondScore());
+                    case Messages.Rejected rejected -> onRejected(rejected.error());
+                    case Messages.Text text -> handleText(text);
+                    default -> {
+                    }
+                }
+            } catch (IOException exception) {
+                gameInterface.showLoginErrorMessage("There was an error reading the response.");
+            }
+        }
+    }
+
+    /**
+     * Handles a response that only carries a text
+     * @param text The response
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static void handleText (Messages.Text text) {
+        switch (text.action()) {
+            case NetworkProtocols.LOGIN_ACTION:
+                onLogin();
+                break;
+            case NetworkProtocols.PLAYER_TURN_RESPONSE:
+                onPlayerTurn();
+                break;
+            case NetworkProtocols.SAME_USER_RESPONSE:
+                onSameUser();
+                break;
+            case NetworkProtocols.ERROR_ACTION:
+                // The interface shows the text as HTML
+                gameInterface.showLoginErrorMessage(text.text() == null ? "" : text.text().replaceAll("(\r\n|\n)", "<br />"));
+                break;
+            case NetworkProtocols.MESSAGE_RECEIVED_RESPONSE:
+                break;
+            case NetworkProtocols.PING_RESPONSE:
+                player.pong();
+                break;
+        }
+    }
+
+    /**
+     * Handles a binary frame from the server
+     * @param frame The server frame, or null if the connection was closed
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static void handleFrame (Frame frame) {
+        if(frame != null) {
+            if(BinaryProtocol.isTableEvent(frame.getOpcode())) {
+                player.countEvent();
+            }
+            switch (frame.getOpcode()) {
+                case BinaryProtocol.LOGIN:
+                    onLogin();
+                    break;
+                case BinaryProtocol.GAME_READY:
+                    // Load the hand
+                    ArrayList<DominoChip> chips = new ArrayList<DominoChip>();
+                    for(byte tile : frame.readBytes()) {
+                        chips.add(new DominoChip(BinaryProtocol.tileFirst(tile), BinaryProtocol.tileSecond(tile)));
+                    }
+                    boolean start = frame.readByte() == 1;
+
+                    // Load the players
+                    ArrayList<Player> players = new ArrayList<Player>();
+                    int playerCount = frame.readUnsignedByte();
+                    for(int playerCounter = 0; playerCounter < playerCount; playerCounter++) {
+                        players.add(new Player(frame.readString(), frame.readString()));
+                    }
+                    onGameReady(players, chips, start);
+                    break;
+                case BinaryProtocol.PLAYER_PLAYED:
+                    DominoChip playedChip = DominoChip.fromByte(frame.readByte());
+                    int playedBy = frame.readUnsignedByte();
+                    ArrayList<DominoChip> line = new ArrayList<DominoChip>();
+                    for(byte tile : frame.readBytes()) {
+                        line.add(DominoChip.fromByte(tile));
+                    }
+                    onPlayerPlayed(playedChip, playedBy, line);
+                    break;
+                case BinaryProtocol.PLAYER_MOVED:
+                    onPlayerMoved(DominoChip.fromByte(frame.readByte()), frame.readUnsignedByte(), frame.readUnsignedShort());
+                    break;
+                case BinaryProtocol.LINE:
+                    frame.readUnsignedShort();
+                    onLine(DominoClient.chipsOf(frame.readBytes()));
+                    break;
+                case BinaryProtocol.PLAYER_TURN:
+                    onPlayerTurn();
+                    break;
+                case BinaryProtocol.WINNER:
+                    onWinner(frame.readUnsignedByte(), frame.readUnsignedShort(), frame.readUnsignedShort());
+                    break;
+                case BinaryProtocol.SAME_USER:
+                    onSameUser();
+                    break;
+                case BinaryProtocol.ERROR:
+                    gameInterface.showLoginErrorMessage(frame.readString());
+                    break;
+                case BinaryProtocol.PING:
+                    player.pong();
+                    break;
+                case BinaryProtocol.RESUMED:
+                    player.setLastEvent(frame.readInt());
+                    break;
+                case BinaryProtocol.REJECTED:
+                    onRejected(MoveError.of(frame.readUnsignedByte()));
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Handles the LOGIN response, the player is waiting for a game
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static void onLogin () {
+        System.out.println(NetworkProtocols.LOGIN_ACTION);
+        isWaiting = true;
+        gameInterface.logIn();
+    }
+
+    /**
+     * Handles the GAME_READY response
+     * @param players The players in the game
+     * @param chips The player's hand
+     * @param start Whether the player starts
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static void onGameReady (ArrayList<Player> players, ArrayList<DominoChip> chips, boolean start) {
+        System.out.println(NetworkProtocols.GAME_READY_RESPONSE);
+        gameOver = false;
+        if(isWaiting) {
+            isWaiting = false;
+        }
+
+        // Find the player position
+        for(int playerPosition = 0; playerPosition < players.size(); playerPosition++) {
+            if(players.get(playerPosition).getId().equals(player.getId())) {
+                player.setPosition(playerPosition);
+            }
+        }
+        player.setHand(new DominoHand(chips));
+
+        // Update the interface
+        game = new DominoGame(players, player, context);
+        gameInterface.startGame(game);
+
+        yourTurn = start;
+        resyncing = false;
+    }
+
+    /**
+     * Handles the PLAYER_PLAYED response
+     * @param playedChip The chip that was played
+     * @param playedBy The position of the player that played it according to the server
+     * @param line The line after the play
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static void onPlayerPlayed (DominoChip playedChip, int playedBy, ArrayList<DominoChip> line) {
+        System.out.println(NetworkProtocols.PLAYER_PLAYED_RESPONSE);
+        int player = ((playedBy - DominoClient.player.getPosition()) + 4) % 4;
+        if(playedChip.getFirst() != -1 && playedChip.getSecond() != -1) {
+            gameInterface.playChip(playedChip, player);
+            if(player == 0) {
+                removeFromHand(playedChip);
+            }
+        }
+        DominoClient.gameInterface.loadLine(line);
+
+        game.updateLine(line);
+
+        gameInterface.update();
+    }
+
+    /**
+     * Handles the PLAYER_MOVED response, the move is ignored if it is already on the line.
+     * A move that skips a sequence number means one was missed, the whole line is asked for instead.
+     * @param playedChip The chip that was played
+     * @param playedBy The position of the player that played it according to the server
+     * @param sequence The number of chips on the line after the move
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static void onPlayerMoved (DominoChip playedChip, int playedBy, int sequence) {
+        System.out.println(NetworkProtocols.PLAYER_MOVED_RESPONSE + " " + sequence);
+        if(sequence <= game.getLineSize()) {
+            // A move sent again after a resume or one the line already had
+            return;
+        }
+        int player = ((playedBy - DominoClient.player.getPosition()) + 4) % 4;
+        gameInterface.playChip(playedChip, player);
+        if(player == 0) {
+            removeFromHand(playedChip);
+        }
+        if(sequence == game.getLineSize() + 1) {
+            game.playChip(playedChip);
+            gameInterface.addChip(playedChip);
+        } else if(sequence > game.getLineSize() + 1 && !resyncing) {
+            resyncing = true;
+            DominoClient.player.resync();
+        }
+        gameInterface.update();
+    }
+
+    /**
+     * Takes a tile the server played for this player out of the hand, a CPU player plays the seat while the
+     * connection is down. The tiles the player plays are already gone.
+     * @param playedChip The chip that was played, in either direction
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static void removeFromHand (DominoChip playedChip) {
+        game.getCurrentPlayer().getHand().getChips().removeIf(chip ->
+                (chip.getFirst() == playedChip.getFirst() && chip.getSecond() == playedChip.getSecond())
+                || (chip.getFirst() == playedChip.getSecond() && chip.getSecond() == playedChip.getFirst()));
+    }
+
+    /**
+     * Handles the LINE response
+     * @param line The whole line
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static void onLine (ArrayList<DominoChip> line) {
+        System.out.println(NetworkProtocols.LINE_RESPONSE);
+        resyncing = false;
+        gameInterface.loadLine(line);
+        game.updateLine(line);
+        gameInterface.update();
+    }
+
+    /**
+     * Decodes a list of tiles
+     * @param tiles The encoded tiles
+     * @return The chips
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static ArrayList<DominoChip> chipsOf (byte[] tiles) {
+        ArrayList<DominoChip> chips = new ArrayList<DominoChip>(tiles.length);
+        for(byte tile : tiles) {
+            chips.add(DominoChip.fromByte(tile));
+        }
+        return chips;
+    }
+
+    /**
+     * Handles the PLAYER_TURN response
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static void onPlayerTurn () {
+        System.out.println(NetworkProtocols.PLAYER_TURN_RESPONSE);
+        if(gameOver) {
+            checkTurn = true;
+        } else {
+            checkTurn();
+        }
+    }
+
+    /**
+     * Handles the WINNER response
+     * @param winner The winning player
+     * @param firstTeamScore The first team score
+     * @param secondTeamScore The second team score
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static void onWinner (int winner, int firstTeamScore, int secondTeamScore) {
+        System.out.println(NetworkProtocols.WINNER_RESPONSE);
+        gameOver = true;
+        context = GameContext.NEXT_GAME;
+        DominoGame.TeamNumber winnerTeam = winner == 0 || winner == 2 ? DominoGame.TeamNumber.FIRST : DominoGame.TeamNumber.SECOND;
+        gameInterface.showWinScreen(game.getTeamName(winnerTeam),
+                game.getTeamName(DominoGame.TeamNumber.FIRST),
+                game.getTeamName(DominoGame.TeamNumber.SECOND),
+                firstTeamScore, secondTeamScore);
+    }
+
+    /**
+     * Handles the SAME_USER response
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static void onSameUser () {
+        System.out.println(NetworkProtocols.SAME_USER_RESPONSE);
+        gameInterface.showLoginErrorMessage("A user with the same id has signed in already.");
+    }
+
+    /**
+     * Handles the REJECTED response, the server sends the hand and the line right after it
+     * @param error The reason the move was rejected, null if it is unknown
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static void onRejected (MoveError error) {
+        System.out.println(NetworkProtocols.REJECTED_RESPONSE + " " + error);
+        yourTurn = false;
+        gameInterface.showLoginErrorMessage(error == null ? "Your move was rejected." : error.getText());
+    }
+
+    /**
+     * Returns the rules of the game being played
+     * @return The game context
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static GameContext getGameContext() {
+        return game.getContext();
+    }
+
+    /**
+     * Plays a chip if possible
+     * @param firstSide True if the player wants to play on the first side
+     * @author Dario Urdapilleta
+     * @since 04/11/2023
+     */
+    public static void playChip (boolean firstSide) {
+        if(yourTurn && selectedChip != null) {
+            boolean canPlayFirst = game.canPlayFirst(selectedChip);
+            boolean canPlayLast = game.canPlayLast(selectedChip);
+            boolean sendMessage = false;
+            if ((canPlayFirst && firstSide) || (canPlayLast && !firstSide)) {
+                selectedChip.setPlaceFirst(firstSide);
+                sendMessage = true;
+            }
+            game.getCurrentPlayer().getHand().removeChip(selectedChip);
+            if(sendMessage) {
+                player.playChip(selectedChip);
+            }
+            yourTurn = false;
+            selectedChip = null;
+            gameInterface.chipWasPlayed();
+            gameInterface.update();
+        }
+    }
+
+    /**
+     * Checks if the user should pass
+     * @author Dario Urdapilleta
+     * @since 04/12/2023
+     */
+    public static void checkTurn() {
+        if(game.canPlayAny()) {
+            yourTurn = true;
+            gameInterface.yourTurn();
+        } else {
+            game.pass();
+        }
+        checkTurn = false;
+    }
+}
@@ -13,7 +13,11 @@ import java.util.ArrayList;
  * @version 1.0
  * @since 04/06/2023
  */
-public class DominoGamePlayView extends JPanel {
+public final class DominoGamePlayView extends JPanel {
+    /**
+     * The serialization version
+     */
+    private static final long serialVersionUID = 1L;
     /**
      * The vertical hand width
      */
@@ -48,7 +52,7 @@ public class DominoGamePlayView extends JPanel {
         // Set the current object's attributes
         this.setLayout(null);
         this.setOpaque(false);
-        this.game = game;
+        DominoGamePlayView.game = game;
 
         // Create the player hand views
         players = new PlayerHandView[4];
@@ -111,6 +115,16 @@ public class DominoGamePlayView extends JPanel {
         DominoGamePlayView.gameArea.loadLine(line);
     }
 
+    /**
+     * Adds a chip to the line in the game area
+     * @param chip The chip with the end it was placed on
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void addChip(DominoChip chip) {
+        DominoGamePlayView.gameArea.addChip(chip);
+    }
+
     /**
      * Adjust the interface after a chip was played
      * @author Dario Urdapilleta
@@ -140,7 +140,7 @@ public class DominoInterface {
      * @since 04/05/2023
      */
     public void setWindowAdapter(WindowAdapter handle) {
-        this.frame.addWindowListener(handle);
+        DominoInterface.frame.addWindowListener(handle);
     }
 
     /**
@@ -246,6 +246,16 @@ public class DominoInterface {
         DominoInterface.gameplay.loadLine(line);
     }
 
+    /**
+     * Adds a chip to the line in the game area
+     * @param chip The chip with the end it was placed on
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void addChip(DominoChip chip) {
+        DominoInterface.gameplay.addChip(chip);
+    }
+
     /**
      * updates the interface
      * @author Dario Urdapilleta
@@ -11,7 +11,11 @@ import java.awt.event.MouseEvent;
  * @version 1.0
  * @since 04/12/2023
  */
-public class GameOverInterface extends JPanel {
+public final class GameOverInterface extends JPanel {
+    /**
+     * The serialization version
+     */
+    private static final long serialVersionUID = 1L;
     /**
      * The modal padding
      */
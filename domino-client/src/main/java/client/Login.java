@@ -14,7 +14,11 @@ import java.awt.event.KeyEvent;
  * @version 1.0
  * @since 04/04/2023
  */
-public class Login extends JPanel {
+public final class Login extends JPanel {
+    /**
+     * The serialization version
+     */
+    private static final long serialVersionUID = 1L;
     /**
      * The modal padding
      */
@@ -15,7 +15,11 @@ import java.awt.event.MouseEvent;
  * @version 1.0
  * @since 04/06/2023
  */
-public class PlayerHandView extends JPanel {
+public final class PlayerHandView extends JPanel {
+    /**
+     * The serialization version
+     */
+    private static final long serialVersionUID = 1L;
     /**
      * The orientation enumerator
      */
@@ -27,7 +31,7 @@ public class PlayerHandView extends JPanel {
     /**
      * The player
      */
-    public Player player;
+    public transient Player player;
     /**
      * Whether the chip is vertical
      */
@@ -98,7 +102,7 @@ public class PlayerHandView extends JPanel {
                     DominoClient.selectedChip = ((DominoChipView)e.getSource()).getChip();
                     curerntObject.deselect();
                     ((DominoChipView)e.getSource()).setOpaque(true);
-                    GameAreaView.showButtons(DominoClient.selectedChip);
+                    GameAreaView.showButtons(DominoClient.selectedChip, DominoClient.getGameContext());
                     DominoClient.gameInterface.update();
                 }
             });
@@ -112,7 +116,7 @@ public class PlayerHandView extends JPanel {
      */
     public void removeChip () {
         tiles[tiles.length - 1].setVisible(false);
-        this.remove(this.countComponents() - 1);
+        this.remove(this.getComponentCount() - 1);
     }
 
     /**
@@ -9,7 +9,11 @@ import java.awt.*;
  * @version 1.0
  * @since 04/06/2023
  */
-public class ScoreView extends JPanel {
+public final class ScoreView extends JPanel {
+    /**
+     * The serialization version
+     */
+    private static final long serialVersionUID = 1L;
     /**
      * The first team's score
      */
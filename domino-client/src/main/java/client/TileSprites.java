@@ -0,0 +1,64 @@
+package client;
+
+import model.DominoChip;
+
+import javax.swing.*;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the images used to draw the tiles.
+ * Every image is loaded from the classpath the first time it is asked for and shared afterwards,
+ * so the model chips stay plain data and the server never touches Swing.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public final class TileSprites {
+    /**
+     * The loaded images by resource name
+     */
+    private static final Map<String, ImageIcon> SPRITES = new ConcurrentHashMap<>();
+
+    /**
+     * The registry is not instantiated
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private TileSprites() {
+    }
+
+    /**
+     * Returns the image of a chip, the back of the tile if the chip is hidden
+     * @param chip The chip
+     * @param isVertical True for the vertical image
+     * @return The shared image
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static ImageIcon of(DominoChip chip, boolean isVertical) {
+        String name = chip.isHidden() ? "Back" : "" + chip.getFirst() + chip.getSecond();
+        return get(name + (isVertical ? "" : "r"));
+    }
+
+    /**
+     * Returns the button shown at the ends of the line
+     * @return The shared image
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static ImageIcon tileButton() {
+        return get("TileButton");
+    }
+
+    /**
+     * Returns an image from the images folder
+     * @param name The image name without the extension
+     * @return The shared image
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static ImageIcon get(String name) {
+        return SPRITES.computeIfAbsent(name, key -> new ImageIcon(TileSprites.class.getClassLoader().getResource("images/" + key + ".png")));
+    }
+}
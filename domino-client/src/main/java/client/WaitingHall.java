@@ -9,7 +9,11 @@ import java.awt.*;
  * @version 1.0
  * @since 04/04/2023
  */
-public class WaitingHall extends JPanel {
+public final class WaitingHall extends JPanel {
+    /**
+     * The serialization version
+     */
+    private static final long serialVersionUID = 1L;
     /**
      * The modal padding
      */
@@ -0,0 +1,54 @@
+package model;
+
+/**
+ * Leaves the ends the next player, an opponent, is least likely to follow: a value it passed on,
+ * or else the value with the fewest tiles left in the other hands.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public final class BlockingStrategy extends EndScoringStrategy {
+    /**
+     * The strategy name
+     */
+    public static final String NAME = "block";
+    /**
+     * The strategy, it keeps no state
+     */
+    public static final BlockingStrategy INSTANCE = new BlockingStrategy();
+
+    /**
+     * Constructor for the strategy, use {@link #INSTANCE}
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private BlockingStrategy() {
+    }
+
+    /**
+     * Returns the strategy name
+     * @return The name
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     * Scores how hard the ends are to follow for the next player
+     * @param engine The game before the move
+     * @param player The player position
+     * @param firstEnd The value on the first end after the move
+     * @param lastEnd The value on the last end after the move
+     * @return The score, higher is better
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Override
+    protected int score(DominoEngine engine, int player, int firstEnd, int lastEnd) {
+        int opponent = (player + 1) % DominoEngine.PLAYER_COUNT;
+        return EndScoringStrategy.blocks(engine, player, opponent, firstEnd) + EndScoringStrategy.blocks(engine, player, opponent, lastEnd);
+    }
+}
@@ -0,0 +1,115 @@
+package model;
+
+/**
+ * The way a CPU player picks its move.
+ * A strategy gets the game as the engine has it and answers with a move packed in an int, so deciding allocates nothing.
+ * It must only look at what the player could know: its own hand, the board ends, the tiles played and the tiles
+ * left in each hand. A strategy keeps no state between calls and can be shared by every seat and every thread.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public interface CpuStrategy {
+    /**
+     * The move of a player that passes
+     */
+    int PASS = -1;
+
+    /**
+     * Returns the name the strategy is chosen by
+     * @return The name
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    String getName();
+
+    /**
+     * Picks a move, the player may only pass if it has no legal move
+     * @param engine The game
+     * @param player The player position
+     * @param context The rules of the game
+     * @return The move, see {@link #move(int, boolean)}, or {@link #PASS}
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    int choose(DominoEngine engine, int player, GameContext context);
+
+    /**
+     * Packs a move
+     * @param tile The tile number
+     * @param placeFirst True for the first end
+     * @return The move
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    static int move(int tile, boolean placeFirst) {
+        return tile << 1 | (placeFirst ? 1 : 0);
+    }
+
+    /**
+     * Returns the tile of a move
+     * @param move The move, not a pass
+     * @return The tile number
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    static int tileOf(int move) {
+        return move >> 1;
+    }
+
+    /**
+     * Tells whether a move goes on the first end
+     * @param move The move, not a pass
+     * @return True for the first end
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    static boolean placesFirst(int move) {
+        return (move & 1) != 0;
+    }
+
+    /**
+     * Returns a built-in strategy
+     * @param name The strategy name
+     * @return The strategy
+     * @throws IllegalArgumentException If there's no strategy with that name
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    static CpuStrategy of(String name) {
+        switch (name) {
+            case FirstFitStrategy.NAME:
+                return FirstFitStrategy.INSTANCE;
+            case HeaviestStrategy.NAME:
+                return HeaviestStrategy.INSTANCE;
+            case DoublesFirstStrategy.NAME:
+                return DoublesFirstStrategy.INSTANCE;
+            case BlockingStrategy.NAME:
+                return BlockingStrategy.INSTANCE;
+            case PartnerStrategy.NAME:
+                return PartnerStrategy.INSTANCE;
+            default:
+                throw new IllegalArgumentException("Unknown CPU strategy: " + name);
+        }
+    }
+
+    /**
+     * Returns the strategy of each seat, two names are the strategies of the first and the second team
+     * @param names The names separated by commas, one for every seat, one for each team or one for all the seats
+     * @return The strategy of each seat
+     * @throws IllegalArgumentException If there are not 1, 2 or 4 names, or a name is unknown
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    static CpuStrategy[] forSeats(String names) {
+        String[] split = names.split(",");
+        CpuStrategy[] strategies = new CpuStrategy[DominoEngine.PLAYER_COUNT];
+        if(split.length != 1 && split.length != 2 && split.length != DominoEngine.PLAYER_COUNT) {
+            throw new IllegalArgumentException("Give one strategy, one per team or one per seat: " + names);
+        }
+        for(int seat = 0; seat < strategies.length; seat++) {
+            strategies[seat] = CpuStrategy.of(split[seat % split.length].trim().toLowerCase());
+        }
+        return strategies;
+    }
+}
@@ -1,6 +1,6 @@
 package model;
 
-import javax.swing.*;
+import utilities.BinaryProtocol;
 
 /**
  * Model for a Domino Chip.
@@ -17,17 +17,13 @@ public class DominoChip {
      * Second value
      */
     private int second;
-    /**
-     * The image Icon
-     */
-    private ImageIcon image;
     /**
      * Whether the chip is placed first or last
      */
     private boolean placeFirst;
 
     /**
-     * Default constructor for the Domino Chip
+     * Default constructor for the Domino Chip, a hidden chip without values
      * @author Dario Urdapilleta
      * @since 03/31/2023
      */
@@ -35,7 +31,6 @@ public class DominoChip {
         this.first = -1;
         this.second = -1;
         this.placeFirst = true;
-        this.image = new ImageIcon(DominoChip.class.getClassLoader().getResource("images/Back.png"));
     }
     /**
      * Constructor for the Domino Chip
@@ -110,13 +105,13 @@ public class DominoChip {
     }
 
     /**
-     * Returns the chip's image
-     * @return The chip's image
+     * Shows if the chip is hidden, the values of other players' chips are not known
+     * @return True if the chip has no values, and false otherwise
      * @author Dario Urdapilleta
-     * @since 03/31/2023
+     * @since 10/18/2026
      */
-    public ImageIcon getImage() {
-        return image;
+    public boolean isHidden() {
+        return first == -1 || second == -1;
     }
 
     /**
@@ -128,4 +123,27 @@ public class DominoChip {
     public String asJson() {
         return "{\"first\":" + this.first + ",\"second\":" + this.second + ",\"place_first\":" + this.placeFirst + "}";
     }
+
+    /**
+     * Returns the chip's information as one byte for the binary codec
+     * @return the chip's information as one byte
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public byte asByte() {
+        return BinaryProtocol.encodeTile(this.first, this.second, this.placeFirst);
+    }
+
+    /**
+     * Creates a chip from its binary codec byte
+     * @param tile The encoded chip
+     * @return The chip
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static DominoChip fromByte(byte tile) {
+        DominoChip chip = new DominoChip(BinaryProtocol.tileFirst(tile), BinaryProtocol.tileSecond(tile));
+        chip.setPlaceFirst(BinaryProtocol.tilePlacedFirst(tile));
+        return chip;
+    }
 }
@@ -0,0 +1,539 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact game state for the double-six set.
+ * Each of the 28 tiles is a bit, numbered high * (high + 1) / 2 + low, the same order {@link DominoTiles} creates
+ * them in. A hand is a mask of those bits and the board is the two end values plus the mask of the tiles played,
+ * so finding the legal moves is an AND of the hand with the masks of the two end values.
+ * The engine doesn't keep the order of the line, {@link DominoLine} does that for the players.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class DominoEngine {
+    /**
+     * The number of tiles in the set
+     */
+    public static final int TILE_COUNT = 28;
+    /**
+     * The number of hands dealt
+     */
+    public static final int PLAYER_COUNT = 4;
+    /**
+     * The highest value on a tile
+     */
+    public static final int MAX_PIPS = 6;
+    /**
+     * The end value of an empty board
+     */
+    public static final int NO_END = -1;
+    /**
+     * The mask with every tile
+     */
+    public static final int ALL_TILES = (1 << TILE_COUNT) - 1;
+    /**
+     * The double six, the tile that opens the first game
+     */
+    public static final int DOUBLE_SIX = DominoEngine.tileOf(MAX_PIPS, MAX_PIPS);
+    /**
+     * The tiles that have each value
+     */
+    private static final int[] VALUE_MASKS = new int[MAX_PIPS + 1];
+    /**
+     * The higher value of each tile
+     */
+    private static final int[] HIGH = new int[TILE_COUNT];
+    /**
+     * The lower value of each tile
+     */
+    private static final int[] LOW = new int[TILE_COUNT];
+    /**
+     * The mask of the doubles
+     */
+    private static final int DOUBLES;
+
+    static {
+        int doubles = 0;
+        for(int high = 0; high <= MAX_PIPS; high++) {
+            for(int low = 0; low <= high; low++) {
+                int tile = DominoEngine.tileOf(high, low);
+                HIGH[tile] = high;
+                LOW[tile] = low;
+                VALUE_MASKS[high] |= 1 << tile;
+                VALUE_MASKS[low] |= 1 << tile;
+                if(high == low) {
+                    doubles |= 1 << tile;
+                }
+            }
+        }
+        DOUBLES = doubles;
+    }
+
+    /**
+     * The hands by position
+     */
+    private final int[] hands;
+    /**
+     * The tiles on the board
+     */
+    private int played;
+    /**
+     * The value on the first end, {@link #NO_END} if the board is empty
+     */
+    private int firstEnd;
+    /**
+     * The value on the last end, {@link #NO_END} if the board is empty
+     */
+    private int lastEnd;
+    /**
+     * The values each player is known not to have, bit n is set once the player passed with an n on the board
+     */
+    private final int[] voids;
+
+    /**
+     * Constructor for a new game
+     * @param hands The hand masks by position
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public DominoEngine(int[] hands) {
+        this.hands = hands.clone();
+        this.played = 0;
+        this.firstEnd = NO_END;
+        this.lastEnd = NO_END;
+        this.voids = new int[hands.length];
+    }
+
+    /**
+     * Constructor for a copy
+     * @param other The engine to copy
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private DominoEngine(DominoEngine other) {
+        this.hands = other.hands.clone();
+        this.played = other.played;
+        this.firstEnd = other.firstEnd;
+        this.lastEnd = other.lastEnd;
+        this.voids = other.voids.clone();
+    }
+
+    /**
+     * Returns a copy to simulate plays on
+     * @return The copy
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public DominoEngine copy() {
+        return new DominoEngine(this);
+    }
+
+    /**
+     * Returns the number of a tile
+     * @param first One value
+     * @param second The other value
+     * @return The tile number from 0 to 27
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static int tileOf(int first, int second) {
+        int high = Math.max(first, second);
+        return high * (high + 1) / 2 + Math.min(first, second);
+    }
+
+    /**
+     * Returns the number of a chip
+     * @param chip The chip
+     * @return The tile number from 0 to 27
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static int tileOf(DominoChip chip) {
+        return DominoEngine.tileOf(chip.getFirst(), chip.getSecond());
+    }
+
+    /**
+     * Returns the higher value of a tile
+     * @param tile The tile number
+     * @return The higher value
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static int high(int tile) {
+        return HIGH[tile];
+    }
+
+    /**
+     * Returns the lower value of a tile
+     * @param tile The tile number
+     * @return The lower value
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static int low(int tile) {
+        return LOW[tile];
+    }
+
+    /**
+     * Returns the tiles that have a value
+     * @param value The value from 0 to 6
+     * @return The mask of the tiles
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static int tilesWith(int value) {
+        return VALUE_MASKS[value];
+    }
+
+    /**
+     * Returns whether a tile is a double
+     * @param tile The tile number
+     * @return True if both values are the same
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static boolean isDouble(int tile) {
+        return (DOUBLES & (1 << tile)) != 0;
+    }
+
+    /**
+     * Returns the mask of a list of chips
+     * @param chips The chips
+     * @return The mask
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static int maskOf(List<DominoChip> chips) {
+        int mask = 0;
+        for(DominoChip chip : chips) {
+            mask |= 1 << DominoEngine.tileOf(chip);
+        }
+        return mask;
+    }
+
+    /**
+     * Creates the chips of a mask, for the views that still work with chips
+     * @param mask The mask
+     * @return The chips with the higher value first, from the lowest tile number
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static ArrayList<DominoChip> chipsOf(int mask) {
+        ArrayList<DominoChip> chips = new ArrayList<DominoChip>(Integer.bitCount(mask));
+        for(int tiles = mask; tiles != 0; tiles &= tiles - 1) {
+            int tile = Integer.numberOfTrailingZeros(tiles);
+            chips.add(new DominoChip(HIGH[tile], LOW[tile]));
+        }
+        return chips;
+    }
+
+    /**
+     * Encodes the tiles of a mask
+     * @param mask The mask
+     * @return The encoded tiles with the higher value first, from the lowest tile number
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static byte[] asBytes(int mask) {
+        byte[] bytes = new byte[Integer.bitCount(mask)];
+        int count = 0;
+        for(int tiles = mask; tiles != 0; tiles &= tiles - 1) {
+            bytes[count++] = DominoTile.of(Integer.numberOfTrailingZeros(tiles)).asByte(false);
+        }
+        return bytes;
+    }
+
+    /**
+     * Adds up the values of the tiles in a mask
+     * @param mask The mask
+     * @return The sum of the values
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static int pipCountOf(int mask) {
+        int count = 0;
+        for(int tiles = mask; tiles != 0; tiles &= tiles - 1) {
+            int tile = Integer.numberOfTrailingZeros(tiles);
+            count += HIGH[tile] + LOW[tile];
+        }
+        return count;
+    }
+
+    /**
+     * Returns the doubles in a mask
+     * @param mask The mask
+     * @return The mask of the doubles
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static int doublesOf(int mask) {
+        return mask & DOUBLES;
+    }
+
+    /**
+     * Returns the first tile of a mask, in the order {@link #chipsOf(int)} lists them
+     * @param mask The mask, not empty
+     * @return The lowest tile number
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static int first(int mask) {
+        return Integer.numberOfTrailingZeros(mask);
+    }
+
+    /**
+     * Returns the tile with the highest values in a mask
+     * @param mask The mask, not empty
+     * @return The tile number, the highest one on a tie
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static int heaviest(int mask) {
+        int heaviest = -1, heaviestCount = -1;
+        for(int tiles = mask; tiles != 0; tiles &= tiles - 1) {
+            int tile = Integer.numberOfTrailingZeros(tiles);
+            if(HIGH[tile] + LOW[tile] >= heaviestCount) {
+                heaviest = tile;
+                heaviestCount = HIGH[tile] + LOW[tile];
+            }
+        }
+        return heaviest;
+    }
+
+    /**
+     * Returns a hand
+     * @param player The player position
+     * @return The mask of the hand
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int getHand(int player) {
+        return hands[player];
+    }
+
+    /**
+     * Returns the tiles on the board
+     * @return The mask of the tiles played
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int getPlayed() {
+        return played;
+    }
+
+    /**
+     * Returns the value on the first end
+     * @return The value or {@link #NO_END} if the board is empty
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int getFirstEnd() {
+        return firstEnd;
+    }
+
+    /**
+     * Returns the value on the last end
+     * @return The value or {@link #NO_END} if the board is empty
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int getLastEnd() {
+        return lastEnd;
+    }
+
+    /**
+     * Returns whether the board is empty
+     * @return True if no tile was played
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public boolean isEmpty() {
+        return played == 0;
+    }
+
+    /**
+     * Returns the number of tiles left in a hand
+     * @param player The player position
+     * @return The number of tiles
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int getTilesLeft(int player) {
+        return Integer.bitCount(hands[player]);
+    }
+
+    /**
+     * Adds up the values left in a hand
+     * @param player The player position
+     * @return The sum of the values
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int pipCount(int player) {
+        return DominoEngine.pipCountOf(hands[player]);
+    }
+
+    /**
+     * Returns the values a player is known not to have
+     * @param player The player position
+     * @return The mask of the values, bit n for the value n
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int getVoids(int player) {
+        return voids[player];
+    }
+
+    /**
+     * Returns the player that holds a tile
+     * @param tile The tile number
+     * @return The player position or -1 if the tile is not in a hand
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int holderOf(int tile) {
+        for(int player = 0; player < hands.length; player++) {
+            if((hands[player] & (1 << tile)) != 0) {
+                return player;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the tiles that can go on the board
+     * @param context The rules of the game
+     * @return The mask of the tiles that match an end
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int playableTiles(GameContext context) {
+        if(played == 0) {
+            return context.openingTiles();
+        }
+        return VALUE_MASKS[firstEnd] | VALUE_MASKS[lastEnd];
+    }
+
+    /**
+     * Returns the tiles a player can play
+     * @param player The player position
+     * @param context The rules of the game
+     * @return The mask of the legal tiles, 0 if the player must pass
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int legalMoves(int player, GameContext context) {
+        return hands[player] & this.playableTiles(context);
+    }
+
+    /**
+     * Tells whether a tile can go on the first end
+     * @param tile The tile number
+     * @param context The rules of the game
+     * @return True if it can go on the first end
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public boolean canPlayFirst(int tile, GameContext context) {
+        if(played == 0) {
+            return (context.openingTiles() & (1 << tile)) != 0;
+        }
+        return (VALUE_MASKS[firstEnd] & (1 << tile)) != 0;
+    }
+
+    /**
+     * Tells whether a tile can go on the last end
+     * @param tile The tile number
+     * @param context The rules of the game
+     * @return True if it can go on the last end
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public boolean canPlayLast(int tile, GameContext context) {
+        if(played == 0) {
+            return (context.openingTiles() & (1 << tile)) != 0;
+        }
+        return (VALUE_MASKS[lastEnd] & (1 << tile)) != 0;
+    }
+
+    /**
+     * Tells whether a player can play a tile on an end
+     * @param player The player position
+     * @param tile The tile number
+     * @param placeFirst True for the first end
+     * @param context The rules of the game
+     * @return True if the tile is in the hand and matches the end
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public boolean isLegal(int player, int tile, boolean placeFirst, GameContext context) {
+        if((hands[player] & (1 << tile)) == 0) {
+            return false;
+        }
+        return placeFirst ? this.canPlayFirst(tile, context) : this.canPlayLast(tile, context);
+    }
+
+    /**
+     * Tells whether nobody can play
+     * @return True if the board has tiles and no hand has a tile matching an end
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public boolean isBlocked() {
+        int left = 0;
+        for(int hand : hands) {
+            left |= hand;
+        }
+        return played != 0 && (left & this.playableTiles(GameContext.NEXT_GAME)) == 0;
+    }
+
+    /**
+     * Plays a tile, the higher value goes first if it opens the board
+     * @param player The player position
+     * @param tile The tile number
+     * @param placeFirst True for the first end
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void play(int player, int tile, boolean placeFirst) {
+        this.play(player, HIGH[tile], LOW[tile], placeFirst);
+    }
+
+    /**
+     * Plays a chip the way {@link DominoLine#playChip(DominoChip)} lays it, the legality is not checked
+     * @param player The player position
+     * @param first The first value of the chip
+     * @param second The second value of the chip
+     * @param placeFirst True for the first end
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void play(int player, int first, int second, boolean placeFirst) {
+        int bit = 1 << DominoEngine.tileOf(first, second);
+        hands[player] &= ~bit;
+        if(played == 0) {
+            firstEnd = first;
+            lastEnd = second;
+        } else if(placeFirst) {
+            firstEnd = firstEnd == first ? second : first;
+        } else {
+            lastEnd = lastEnd == first ? second : first;
+        }
+        played |= bit;
+    }
+
+    /**
+     * Records a pass, the player has no tile with either value on the ends
+     * @param player The player position
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void pass(int player) {
+        if(played != 0) {
+            voids[player] |= 1 << firstEnd | 1 << lastEnd;
+        }
+    }
+}
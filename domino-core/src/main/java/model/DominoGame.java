@@ -27,14 +27,19 @@ public class DominoGame {
      * The Domino Game line
      */
     private DominoLine line;
+    /**
+     * The rules of this game
+     */
+    private final GameContext context;
 
     /**
      * Constructor for the Domino Game
      * @param players The list of players
+     * @param context The rules of the game
      * @author Dario Urdapilleta
      * @since 03/31/2023
      */
-    public DominoGame(ArrayList<Player> players, DominoPlayer currentPlayer) {
+    public DominoGame(ArrayList<Player> players, DominoPlayer currentPlayer, GameContext context) {
         // Set the default players
         defaultPlayers = new Player[4];
         defaultPlayers[0] = new Player("102946901#$%", "Rockadoodle");
@@ -45,9 +50,20 @@ public class DominoGame {
         // Set the object attributes
         this.players = players;
         this.currentPlayer = currentPlayer;
+        this.context = context;
         line = new DominoLine();
     }
 
+    /**
+     * Returns the rules of the game
+     * @return The game context
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public GameContext getContext() {
+        return context;
+    }
+
     /**
      * Gets a specific player
      * @param position The position in the player's list
@@ -97,6 +113,26 @@ public class DominoGame {
         line.update(chips);
     }
 
+    /**
+     * Adds a chip played by any player to the line
+     * @param chip The chip with the end it was placed on
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void playChip(DominoChip chip) {
+        line.playChip(chip);
+    }
+
+    /**
+     * Returns the number of chips on the line
+     * @return The number of chips
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int getLineSize() {
+        return line.size();
+    }
+
     /**
      * Checks if a chip can be played
      * @param chip The chip to be played
@@ -104,8 +140,8 @@ public class DominoGame {
      * @author Dario Urdapilleta
      * @since 04/11/2023
      */
-    public boolean canPlay (DominoChip chip, boolean firstGame) {
-        return line.canPlay(chip, firstGame);
+    public boolean canPlay (DominoChip chip) {
+        return line.canPlay(chip, context);
     }
 
     /**
@@ -115,7 +151,7 @@ public class DominoGame {
      * @since 04/12/2023
      */
     public boolean canPlayAny () {
-        return line.canPlayAny(this.currentPlayer.getHand());
+        return line.canPlayAny(this.currentPlayer.getHand(), context);
     }
 
     /**
@@ -130,25 +166,23 @@ public class DominoGame {
     /**
      * Tells whether the player can play on the first end
      * @param chip The chip to play
-     * @param firstGame True if it is the first game
      * @return True if the player can play in the first end, and false otherwise.
      * @author Dario Urdapilleta
      * @since 04/11/2023
      */
-    public boolean canPlayFirst (DominoChip chip, boolean firstGame) {
-        return line.canPlayFirst(chip, firstGame);
+    public boolean canPlayFirst (DominoChip chip) {
+        return line.canPlayFirst(chip, context);
     }
 
     /**
      * Tells whether the player can play on the last end
      * @param chip The chip to play
-     * @param firstGame True if it is the first game
      * @return True if the player can play in the last end, and false otherwise.
      * @author Dario Urdapilleta
      * @since 04/11/2023
      */
-    public boolean canPlayLast (DominoChip chip, boolean firstGame) {
-        return line.canPlayLast(chip, firstGame);
+    public boolean canPlayLast (DominoChip chip) {
+        return line.canPlayLast(chip, context);
     }
 
     /**
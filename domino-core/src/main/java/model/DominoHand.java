@@ -1,5 +1,7 @@
 package model;
 
+import utilities.JsonCodec;
+
 import java.util.ArrayList;
 
 /**
@@ -70,6 +72,20 @@ public class DominoHand {
         return hasDouble6;
     }
 
+    /**
+     * Returns the hand chips as bytes for the binary codec
+     * @return The hand chips as bytes
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public byte[] asBytes() {
+        byte[] bytes = new byte[chips.size()];
+        for (int chip = 0; chip < bytes.length; chip++) {
+            bytes[chip] = chips.get(chip).asByte();
+        }
+        return bytes;
+    }
+
     /**
      * Returns the hand information as JSON.
      * @return The hand information as JSON
@@ -77,18 +93,7 @@ public class DominoHand {
      * @since 04/11/2023
      */
     public String asJson() {
-        String json = "[";
-        boolean first = true;
-        for (DominoChip chip : chips) {
-            if (first) {
-                first = false;
-            } else {
-                json += ",";
-            }
-            json += chip.asJson();
-        }
-        json += "]";
-        return json;
+        return JsonCodec.tilesAsJson(this.asBytes());
     }
 
     /**
@@ -1,6 +1,6 @@
 package model;
 
-import client.DominoClient;
+import utilities.JsonCodec;
 
 import java.util.ArrayList;
 import java.util.LinkedList;
@@ -54,13 +54,14 @@ public class DominoLine {
     /**
      * Checks if a hand can play a chip
      * @param hand The hand to check
+     * @param context The rules of the game
      * @return True if there's at least one chip that can be played
      * @author Dario Urdapilleta
      * @since 04/11/2023
      */
-    public boolean canPlayAny(DominoHand hand) {
+    public boolean canPlayAny(DominoHand hand, GameContext context) {
         for (DominoChip chip : hand.getChips()) {
-            if(this.canPlay(chip, DominoClient.firstGame)) {
+            if(this.canPlay(chip, context)) {
                 return true;
             }
         }
@@ -70,17 +71,15 @@ public class DominoLine {
     /**
      * Checks if a chip can be played
      * @param chip The chip to be played
+     * @param context The rules of the game
      * @return True if the chip can be played and false otherwise.
      * @author Dario Urdapilleta
      * @since 04/11/2023
      */
-    public boolean canPlay(DominoChip chip, boolean firstGame) {
-        if (!firstGame && line.isEmpty()) {
-            // The player can start with any chip
-            return true;
-        } else if(line.isEmpty()) {
-            // If it's the first chip, it must be the mule of sixes
-            return chip.getFirst() == 6 && chip.getSecond() == 6;
+    public boolean canPlay(DominoChip chip, GameContext context) {
+        if(line.isEmpty()) {
+            // The first chip depends on the game, the first one must open with the mule of sixes
+            return context.canOpenWith(chip);
         }
         if(chip.getFirst() == line.getFirst() ||
                 chip.getSecond() == line.getFirst() ||
@@ -95,18 +94,15 @@ public class DominoLine {
     /**
      * Tells whether the player can play on the first end
      * @param chip The chip to play
-     * @param firstGame True if it is the first game
+     * @param context The rules of the game
      * @return True if the player can play in the first end, and folse otherwise.
      * @author Dario Urdapilleta
      * @since 04/11/2023
      */
-    public boolean canPlayFirst (DominoChip chip, boolean firstGame) {
-        if (!firstGame && line.isEmpty()) {
-            // The player can start with any chip
-            return true;
-        } else if(line.isEmpty()) {
-            // If it's the first chip, it must be the mule of sixes
-            return chip.getFirst() == 6 && chip.getSecond() == 6;
+    public boolean canPlayFirst (DominoChip chip, GameContext context) {
+        if(line.isEmpty()) {
+            // The first chip depends on the game, the first one must open with the mule of sixes
+            return context.canOpenWith(chip);
         }
         if(chip.getFirst() == line.getFirst() ||
                 chip.getSecond() == line.getFirst()) {
@@ -119,18 +115,15 @@ public class DominoLine {
     /**
      * Tells whether the player can play on the last end
      * @param chip The chip to play
-     * @param firstGame True if it is the first game
+     * @param context The rules of the game
      * @return True if the player can play in the last end, and false otherwise.
      * @author Dario Urdapilleta
      * @since 04/11/2023
      */
-    public boolean canPlayLast (DominoChip chip, boolean firstGame) {
-        if (!firstGame && line.isEmpty()) {
-            // The player can start with any chip
-            return true;
-        } else if(line.isEmpty()) {
-            // If it's the first chip, it must be the mule of sixes
-            return chip.getFirst() == 6 && chip.getSecond() == 6;
+    public boolean canPlayLast (DominoChip chip, GameContext context) {
+        if(line.isEmpty()) {
+            // The first chip depends on the game, the first one must open with the mule of sixes
+            return context.canOpenWith(chip);
         }
         if(chip.getFirst() == line.getLast() ||
                 chip.getSecond() == line.getLast()) {
@@ -192,6 +185,20 @@ public class DominoLine {
         chips.add(chip);
     }
 
+    /**
+     * Returns the line chips as bytes for the binary codec
+     * @return The line chips as bytes
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public byte[] asBytes() {
+        byte[] bytes = new byte[chips.size()];
+        for (int chip = 0; chip < bytes.length; chip++) {
+            bytes[chip] = chips.get(chip).asByte();
+        }
+        return bytes;
+    }
+
     /**
      * Returns the line as Json
      * @return The line as a JSON
@@ -199,18 +206,7 @@ public class DominoLine {
      * @since 04/11/2023
      */
     public String asJson() {
-        String json = "[";
-        boolean first = true;
-        for (DominoChip chip : chips) {
-            if (first) {
-                first = false;
-            } else {
-                json += ",";
-            }
-            json += chip.asJson();
-        }
-        json += "]";
-        return json;
+        return JsonCodec.tilesAsJson(this.asBytes());
     }
 
     /**
@@ -245,6 +241,16 @@ public class DominoLine {
         return line.getLast();
     }
 
+    /**
+     * Returns the number of chips on the line
+     * @return The number of chips
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int size() {
+        return chips.size();
+    }
+
     /**
      * Returns whether the line is empty.
      * @return True if the line is empty and fase otherwise.
@@ -0,0 +1,58 @@
+package model;
+
+/**
+ * A tile and the end of the line it goes on.
+ * There are only 56 placements, {@link #of(DominoTile, boolean)} and {@link #fromByte(byte)} return shared instances.
+ * @param tile The tile
+ * @param placeFirst True for the first end of the line
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public record DominoPlacement(DominoTile tile, boolean placeFirst) {
+    /**
+     * The placements by tile number, on the last end and on the first end
+     */
+    private static final DominoPlacement[] PLACEMENTS = new DominoPlacement[DominoEngine.TILE_COUNT * 2];
+
+    static {
+        for(int index = 0; index < DominoEngine.TILE_COUNT; index++) {
+            PLACEMENTS[index * 2] = new DominoPlacement(DominoTile.of(index), false);
+            PLACEMENTS[index * 2 + 1] = new DominoPlacement(DominoTile.of(index), true);
+        }
+    }
+
+    /**
+     * Returns the placement of a tile on an end
+     * @param tile The tile
+     * @param placeFirst True for the first end
+     * @return The shared placement
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static DominoPlacement of(DominoTile tile, boolean placeFirst) {
+        return PLACEMENTS[tile.getIndex() * 2 + (placeFirst ? 1 : 0)];
+    }
+
+    /**
+     * Returns the placement of an encoded tile
+     * @param tile The encoded tile
+     * @return The shared placement or null if the byte is not a tile
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static DominoPlacement fromByte(byte tile) {
+        DominoTile decoded = DominoTile.fromByte(tile);
+        return decoded == null ? null : PLACEMENTS[decoded.getIndex() * 2 + (tile & 1)];
+    }
+
+    /**
+     * Encodes the placement in one byte
+     * @return The encoded tile
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public byte asByte() {
+        return tile.asByte(placeFirst);
+    }
+}
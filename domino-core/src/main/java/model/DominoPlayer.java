@@ -0,0 +1,691 @@
+package model;
+
+import utilities.BinaryProtocol;
+import utilities.Connection;
+import utilities.Frame;
+import utilities.JsonCodec;
+import utilities.Messages;
+import utilities.NetworkProtocols;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.concurrent.locks.ReentrantLock;
+/**
+ * Model for a Domino Player.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 03/31/2023
+ */
+public class DominoPlayer {
+    /**
+     * The user id
+     */
+    private String id;
+    /**
+     * The username
+     */
+    private String name;
+    /**
+     * The player's hand
+     */
+    private DominoHand hand;
+    /**
+     * The client's {@link java.net.Socket Socket}.
+     */
+    private Socket socket;
+    /**
+     * The player position according to the server
+     */
+    private int position;
+    /**
+     * The Object output stream.
+     */
+    private ObjectOutputStream output;
+    /**
+     * The Object input stream
+     */
+    private ObjectInputStream input;
+    /**
+     * The conection status
+     */
+    private boolean isConnected;
+    /**
+     * The protocol version agreed with the other end of the socket
+     */
+    private int protocolVersion;
+    /**
+     * The codec agreed with the other end of the socket
+     */
+    private String codec;
+    /**
+     * The frame output stream, only used with the binary codec
+     */
+    private DataOutputStream frameOutput;
+    /**
+     * The frame input stream, only used with the binary codec
+     */
+    private DataInputStream frameInput;
+    /**
+     * The non-blocking connection, used instead of the socket by the event loop server
+     */
+    private Connection connection;
+    /**
+     * Keeps writes from different threads apart. A lock instead of synchronized so a virtual thread
+     * blocked on the socket doesn't pin its carrier thread.
+     */
+    private final ReentrantLock sendLock = new ReentrantLock();
+    /**
+     * The time it took to connect to the server in milliseconds, an estimate of the round trip time. -1 if unknown
+     */
+    private long roundTripMillis = -1;
+    /**
+     * The number of humans wanted at the table, 0 for the server default
+     */
+    private int tableSize = 0;
+    /**
+     * The region used to find players nearby, null to let the server use the round trip time
+     */
+    private String region = null;
+    /**
+     * The player rating used to find players of the same level, -1 if unrated
+     */
+    private int rating = -1;
+    /**
+     * The server host the client connected to, used to reconnect
+     */
+    private String host;
+    /**
+     * The server port the client connected to, used to reconnect
+     */
+    private int port;
+    /**
+     * The number of the last table event received, see {@link NetworkProtocols#isTableEvent(String)}
+     */
+    private int lastEvent = 0;
+    /**
+     * The token the server gave the session, sent back to resume it, null if the server gave none
+     */
+    private String resumeToken;
+
+    /**
+     * Constructor for the Domino Player for the server side
+     * @param socket The communication socket
+     * @author Dario Urdapilleta
+     * @since 03/31/2023
+     */
+    public DominoPlayer (Socket socket) {
+        this.socket = socket;
+        this.isConnected = true;
+        this.protocolVersion = NetworkProtocols.LEGACY_PROTOCOL_VERSION;
+        this.codec = NetworkProtocols.JSON_CODEC;
+    }
+
+    /**
+     * Constructor for the Domino Player for the event loop server.
+     * Messages are pushed to the server by the connection, so {@link #getMessage()} is not used.
+     * @param connection The non-blocking connection
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public DominoPlayer (Connection connection) {
+        this.connection = connection;
+        this.isConnected = true;
+        this.protocolVersion = NetworkProtocols.LEGACY_PROTOCOL_VERSION;
+        this.codec = NetworkProtocols.JSON_CODEC;
+    }
+
+    /**
+     * Constructor for the Domino Player for a server that reads the socket and writes through a connection.
+     * Messages are read with {@link #getMessage()} and sent by the connection, which writes them on its own thread.
+     * @param socket The communication socket, only used to read
+     * @param connection The connection that writes to the socket
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public DominoPlayer (Socket socket, Connection connection) {
+        this.socket = socket;
+        this.connection = connection;
+        this.isConnected = true;
+        this.protocolVersion = NetworkProtocols.LEGACY_PROTOCOL_VERSION;
+        this.codec = NetworkProtocols.JSON_CODEC;
+    }
+
+    /**
+     * Constructor for the Domino User for the client side
+     * @param host The Host address.
+     * @param port The port to create the Socket.
+     * @author Dario Urdapilleta
+     * @since 03/31/2023
+     */
+    public DominoPlayer (String host, int port) {
+        this.host = host;
+        this.port = port;
+        this.connect();
+    }
+
+    /**
+     * Connects to the server, the protocol version and codec start over
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void connect() {
+        this.protocolVersion = NetworkProtocols.LEGACY_PROTOCOL_VERSION;
+        this.codec = NetworkProtocols.JSON_CODEC;
+
+        // Connect to the server
+        if(host.equals("localhost") || NetworkProtocols.isValidIPAddress(host)) {
+            try {
+                // The TCP handshake takes one round trip, good enough to group players by latency.
+                // The name lookup and socket setup are done first so only the handshake is timed.
+                InetSocketAddress address = new InetSocketAddress(host, port);
+                this.socket = new Socket();
+                long connectStart = System.nanoTime();
+                this.socket.connect(address);
+                this.roundTripMillis = (System.nanoTime() - connectStart) / 1_000_000;
+                this.isConnected = true;
+            } catch (IOException e) {
+                this.isConnected = false;
+            }
+        }
+    }
+
+    /**
+     * Opens a new connection to the server after the last one dropped, the hand and the position are kept.
+     * The caller sends {@link #resume()} next to get its seat back.
+     * @return True if the client connected again
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public boolean reconnect() {
+        sendLock.lock();
+        try {
+            this.close();
+            this.input = null;
+            this.output = null;
+            this.frameInput = null;
+            this.frameOutput = null;
+            this.connect();
+        } finally {
+            sendLock.unlock();
+        }
+        return this.isConnected;
+    }
+
+    /**
+     * Sets the preferences sent to the matchmaker at login
+     * @param tableSize The number of humans wanted at the table from 1 to 4, 0 for the server default
+     * @param region The region used to find players nearby, null to use the round trip time
+     * @param rating The player rating, -1 if unrated
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void setMatchPreferences(int tableSize, String region, int rating) {
+        this.tableSize = tableSize;
+        this.region = region;
+        this.rating = rating;
+    }
+
+    /**
+     * Returns the time it took to connect to the server
+     * @return The connection time in milliseconds or -1 if unknown
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public long getRoundTripMillis() {
+        return roundTripMillis;
+    }
+
+    /**
+     * Sets the player position according to the server
+     * @param position The player position
+     * @author Dario Urdapilleta
+     * @since 04/11/2023
+     */
+    public void setPosition(int position) {
+        this.position = position;
+    }
+
+    /**
+     * Returns the player's position according to the server
+     * @return the player's position according to the server
+     * @author Dario Urdapilleta
+     * @since 04/11/2023
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * Sets the protocol version agreed with the other end of the socket.
+     * The streams that carried the negotiation are kept from then on if the version uses persistent streams.
+     * @param protocolVersion The protocol version
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void setProtocolVersion(int protocolVersion) {
+        this.protocolVersion = protocolVersion;
+        if(this.connection != null) {
+            this.connection.setProtocolVersion(protocolVersion);
+        }
+    }
+
+    /**
+     * Returns the protocol version agreed with the other end of the socket
+     * @return the protocol version
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int getProtocolVersion() {
+        return protocolVersion;
+    }
+
+    /**
+     * Sets the codec agreed with the other end of the socket.
+     * With the binary codec the object streams are left behind and frames go straight through the socket.
+     * @param codec The codec
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void setCodec(String codec) {
+        sendLock.lock();
+        try {
+            this.codec = codec;
+            if(this.connection != null) {
+                this.connection.setCodec(codec);
+            }
+            if(this.socket != null && this.usesBinaryFrames() && this.frameInput == null) {
+                this.frameInput = new DataInputStream(new BufferedInputStream(this.socket.getInputStream()));
+                if(this.connection == null) {
+                    this.frameOutput = new DataOutputStream(new BufferedOutputStream(this.socket.getOutputStream()));
+                }
+            }
+        } catch (IOException e) {
+            this.close();
+        } finally {
+            sendLock.unlock();
+        }
+    }
+
+    /**
+     * Tells whether the connection uses the binary codec
+     * @return True if the connection sends binary frames and false if it sends JSON strings
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public boolean usesBinaryFrames() {
+        return NetworkProtocols.BINARY_CODEC.equals(codec);
+    }
+
+    /**
+     * Tells whether the connection keeps one object stream per direction
+     * @return True if the streams are persistent and false if a new one is created per message
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private boolean usesPersistentStreams() {
+        return protocolVersion >= NetworkProtocols.STREAM_PROTOCOL_VERSION;
+    }
+
+    /**
+     * Receives a Message from this user
+     * @return the message sent by the user
+     * @author Dario Urdapilleta
+     * @since 03/31/2023
+     */
+    public String getMessage () {
+        String message = "";
+        try {
+            // Get the message, the stream header is only read once for persistent streams
+            if(this.input == null || !this.usesPersistentStreams()) {
+                this.input = new ObjectInputStream(this.socket.getInputStream());
+            }
+            message = (String)this.input.readObject();
+        } catch (IOException e) {
+            this.isConnected = false;
+            this.close();
+        } catch (ClassNotFoundException e) {
+            throw new RuntimeException(e);
+        }
+        return message;
+    }
+
+    /**
+     * Sends a message through the output stream.
+     * @param message The message to send.
+     * @author Dario Urdapilleta
+     * @since 03/31/2023
+     */
+    public void sendMessage(String message) {
+        if(this.connection != null) {
+            this.connection.sendMessage(message);
+            return;
+        }
+        sendLock.lock();
+        try {
+            // Send the message, the stream header is only written once for persistent streams
+            if(this.output == null || !this.usesPersistentStreams()) {
+                this.output = new ObjectOutputStream(this.socket.getOutputStream());
+            }
+            if(this.usesPersistentStreams()) {
+                // Don't keep every sent message in the handle table, the reset goes before
+                // the message so nothing is left unread behind it
+                this.output.reset();
+            }
+            this.output.writeObject(message);
+            this.output.flush();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            sendLock.unlock();
+        }
+    }
+
+    /**
+     * Sends a message with the codec agreed with the other end of the socket.
+     * @param message The message as JSON
+     * @param frame The message as a binary frame
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void sendMessage(String message, Frame frame) {
+        if(this.usesBinaryFrames()) {
+            this.sendFrame(frame);
+        } else {
+            this.sendMessage(message);
+        }
+    }
+
+    /**
+     * Sends a message with the codec agreed with the other end of the socket
+     * @param message The message
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void send(Messages.Message message) {
+        if(this.usesBinaryFrames()) {
+            this.sendFrame(BinaryProtocol.encode(message));
+        } else {
+            this.sendMessage(JsonCodec.encode(message));
+        }
+    }
+
+    /**
+     * Receives a binary frame from this user
+     * @return the frame sent by the user or null if the connection was closed
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public Frame getFrame() {
+        Frame frame = null;
+        try {
+            // The length includes the opcode
+            int length = this.frameInput.readUnsignedShort();
+            if(length < 1) {
+                throw new IOException("Frame without opcode");
+            }
+            byte opcode = this.frameInput.readByte();
+            byte[] payload = new byte[length - 1];
+            this.frameInput.readFully(payload);
+            frame = new Frame(opcode, payload);
+        } catch (IOException e) {
+            this.isConnected = false;
+            this.close();
+        }
+        return frame;
+    }
+
+    /**
+     * Sends a binary frame through the output stream.
+     * @param frame The frame to send.
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void sendFrame(Frame frame) {
+        if(this.connection != null) {
+            this.connection.sendFrame(frame);
+            return;
+        }
+        sendLock.lock();
+        try {
+            this.frameOutput.writeShort(frame.getPayload().length + 1);
+            this.frameOutput.writeByte(frame.getOpcode());
+            this.frameOutput.write(frame.getPayload());
+            this.frameOutput.flush();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            sendLock.unlock();
+        }
+    }
+
+    /**
+     * Closes connections.
+     * @author Dario Urdapilleta
+     * @since 03/31/2023
+     */
+    public void close() {
+        if(this.connection != null) {
+            this.connection.close();
+            return;
+        }
+        try {
+            if(this.input != null) {
+                this.input.close();
+            }
+            if(this.output != null) {
+                this.output.close();
+            }
+            if(this.frameInput != null) {
+                this.frameInput.close();
+            }
+            if(this.frameOutput != null) {
+                this.frameOutput.close();
+            }
+            if(this.socket != null) {
+                this.socket.close();
+            }
+        } catch (IOException e) {
+            System.out.println(e.getStackTrace());
+        }
+    }
+
+    /**
+     * Returns the user's connection status
+     * @return True if the user is connencted and false otherwise.
+     * @author Dario Urdapilleta
+     * @since 03/31/2023
+     */
+    public boolean isConnected() {
+        return isConnected;
+    }
+
+    /**
+     * Returns the user's id
+     * @return The user's id
+     * @author Dario Urdapilleta
+     * @since 03/31/2023
+     */
+    public String getId () {
+        return id;
+    }
+
+    /**
+     * Returns the user's name
+     * @return The user's name
+     * @author Dario Urdapilleta
+     * @since 03/31/2023
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Sets the user's credentials
+     * @param userId The user id
+     * @param userName The username
+     * @author Dario Urdapilleta
+     * @since 03/31/2023
+     */
+    public void setCredentials (String userId, String userName) {
+        this.id = userId;
+        this.name = userName;
+    }
+
+    /**
+     * Logins to the chat server
+     * @author Dario Urdapilleta
+     * @since 03/31/2023
+     */
+    public void login () {
+        this.sendMessage(JsonCodec.encode(new Messages.Login(id, name, NetworkProtocols.PROTOCOL_VERSION, NetworkProtocols.CODEC,
+                tableSize, region, rating, roundTripMillis)));
+    }
+
+    /**
+     * Logs in again after a dropped connection, asking for the table events after the last one received
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void resume () {
+        this.sendMessage(JsonCodec.encode(new Messages.Resume(id, name, NetworkProtocols.PROTOCOL_VERSION,
+                NetworkProtocols.CODEC, lastEvent, resumeToken)));
+    }
+
+    /**
+     * Sets the token of the session, from a PROTOCOL response
+     * @param resumeToken The token, null keeps the one the client has
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void setResumeToken (String resumeToken) {
+        if(resumeToken != null) {
+            this.resumeToken = resumeToken;
+        }
+    }
+
+    /**
+     * Counts a table event received from the server
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void countEvent () {
+        this.lastEvent++;
+    }
+
+    /**
+     * Returns the number of the last table event received
+     * @return The event number, 0 if none
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int getLastEvent () {
+        return lastEvent;
+    }
+
+    /**
+     * Sets the number of the last table event received, from a RESUMED response
+     * @param lastEvent The event number
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void setLastEvent (int lastEvent) {
+        this.lastEvent = lastEvent;
+    }
+
+    /**
+     * Logs out to the chat server
+     * @author Dario Urdapilleta
+     * @since 03/31/2023
+     */
+    public void logout () {
+        this.isConnected = false;
+        if(socket != null) {
+            this.send(new Messages.Text(NetworkProtocols.LOGOUT_ACTION, null));
+            close();
+        }
+    }
+
+    /**
+     * Sends the user action to the server
+     * @param chatMessage The text to send
+     * @author Dario Urdapilleta
+     * @since 03/31/2023
+     */
+    public void sendAction(String chatMessage) {
+        this.send(new Messages.Send(id, name, chatMessage));
+    }
+
+    /**
+     * Returns a json object that represents this player
+     * @return A Json object that represent the player
+     * @author Dario Urdapilleta
+     * @since 03/31/2023
+     */
+    public String toJson() {
+        return "{\"user_id\":" + JsonCodec.quote(this.id) + ",\"user_name\":" + JsonCodec.quote(this.name) + "}";
+    }
+
+    /**
+     * Sets the hand
+     * @param hand The hand
+     * @author Dario Urdapilleta
+     * @since 04/11/2023
+     */
+    public void setHand(DominoHand hand) {
+        this.hand = hand;
+    }
+
+    /**
+     * Gets the hand
+     * @return The player's hand
+     * @author Dario Urdapilleta
+     * @since 04/11/2023
+     */
+    public DominoHand getHand() {
+        return this.hand;
+    }
+
+    /**
+     * Passes their turn
+     * @author Dario Urdapilleta
+     * @since 04/12/2023
+     */
+    public void pass() {
+       this.send(new Messages.Text(NetworkProtocols.PASS_ACTION, null));
+    }
+
+    /**
+     * Asks the server for the whole line after missing a move
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void resync() {
+        this.send(new Messages.Text(NetworkProtocols.RESYNC_ACTION, null));
+    }
+
+    /**
+     * Answers a PING from the server
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void pong() {
+        this.send(new Messages.Text(NetworkProtocols.PONG_ACTION, null));
+    }
+
+    /**
+     * Plays a chip
+     * @param chip The chip to play, with the end it is placed on
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void playChip(DominoChip chip) {
+        this.send(new Messages.PlayChip(chip.asByte()));
+    }
+}
@@ -0,0 +1,167 @@
+package model;
+
+import utilities.BinaryProtocol;
+
+/**
+ * One of the 28 tiles of the double-six set.
+ * Tiles are never created outside this class, there's one instance per tile so they can be compared with ==.
+ * Where the tile goes on the board is kept apart in a {@link DominoPlacement}.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public final class DominoTile {
+    /**
+     * The tiles by number
+     */
+    private static final DominoTile[] TILES = new DominoTile[DominoEngine.TILE_COUNT];
+
+    static {
+        for(int high = 0; high <= DominoEngine.MAX_PIPS; high++) {
+            for(int low = 0; low <= high; low++) {
+                int index = DominoEngine.tileOf(high, low);
+                TILES[index] = new DominoTile(index, high, low);
+            }
+        }
+    }
+
+    /**
+     * The tile number from 0 to 27, see {@link DominoEngine}
+     */
+    private final int index;
+    /**
+     * The higher value
+     */
+    private final int high;
+    /**
+     * The lower value
+     */
+    private final int low;
+
+    /**
+     * Constructor for a tile
+     * @param index The tile number
+     * @param high The higher value
+     * @param low The lower value
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private DominoTile(int index, int high, int low) {
+        this.index = index;
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * Returns a tile by number
+     * @param index The tile number from 0 to 27
+     * @return The tile
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static DominoTile of(int index) {
+        return TILES[index];
+    }
+
+    /**
+     * Returns the tile with two values
+     * @param first One value
+     * @param second The other value
+     * @return The tile or null if a value is not between 0 and 6
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static DominoTile of(int first, int second) {
+        if(first < 0 || second < 0 || first > DominoEngine.MAX_PIPS || second > DominoEngine.MAX_PIPS) {
+            return null;
+        }
+        return TILES[DominoEngine.tileOf(first, second)];
+    }
+
+    /**
+     * Returns the tile of an encoded tile, the end it is placed on is ignored
+     * @param tile The encoded tile
+     * @return The tile or null if the byte is not a tile
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static DominoTile fromByte(byte tile) {
+        return DominoTile.of(BinaryProtocol.tileFirst(tile), BinaryProtocol.tileSecond(tile));
+    }
+
+    /**
+     * Returns the tile number
+     * @return The number from 0 to 27
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the higher value
+     * @return The higher value
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int getHigh() {
+        return high;
+    }
+
+    /**
+     * Returns the lower value
+     * @return The lower value
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int getLow() {
+        return low;
+    }
+
+    /**
+     * Returns the sum of both values
+     * @return The sum
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int getCount() {
+        return high + low;
+    }
+
+    /**
+     * Returns whether both values are the same
+     * @return True for a double
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public boolean isDouble() {
+        return high == low;
+    }
+
+    /**
+     * Returns the bit of the tile in a hand mask
+     * @return The bit
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int getMask() {
+        return 1 << index;
+    }
+
+    /**
+     * Encodes the tile in one byte, the higher value first
+     * @param placeFirst Whether the tile is placed on the first end
+     * @return The encoded tile
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public byte asByte(boolean placeFirst) {
+        return BinaryProtocol.encodeTile(high, low, placeFirst);
+    }
+
+    @Override
+    public String toString() {
+        return "[" + high + "|" + low + "]";
+    }
+}
@@ -1,8 +1,9 @@
 package model;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 /**
  * Model for a Domino Tiles.
@@ -12,9 +13,9 @@ import java.util.List;
  */
 public class DominoTiles {
     /**
-     * The list of chips
+     * The shared tiles in dealing order
      */
-    private List<DominoChip> chips;
+    private List<DominoTile> chips;
     /**
      * The current tile pointer
      */
@@ -26,16 +27,14 @@ public class DominoTiles {
      * @since 03/31/2023
      */
     public DominoTiles() {
-        int first, second;
+        DominoTile[] tiles = new DominoTile[DominoEngine.TILE_COUNT];
         next = 0;
-        chips = new ArrayList<DominoChip>();
 
-        // Create all the chips
-        for(first = 0; first < 7; first++) {
-            for(second = 0; second <= first; second ++) {
-                chips.add(new DominoChip(first, second));
-            }
+        // Take all the tiles, they are shared by every set
+        for(int tile = 0; tile < tiles.length; tile++) {
+            tiles[tile] = DominoTile.of(tile);
         }
+        chips = Arrays.asList(tiles);
     }
 
     /**
@@ -48,20 +47,31 @@ public class DominoTiles {
         next = 0;
     }
 
+    /**
+     * Shuffles the tiles with a generator, the same seed deals the same hands
+     * @param random The random generator
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void shuffle(RandomGenerator random) {
+        Collections.shuffle(chips, random);
+        next = 0;
+    }
+
     /**
      * Gets a hand from the tileset.
-     * @return A list of 7 Domino Chips
+     * @return The mask of 7 tiles, see {@link DominoEngine}, 0 if all the tiles were dealt
      * @author Dario Urdapilleta
      * @since 03/31/2023
      */
-    public ArrayList<DominoChip> getHand() {
-        ArrayList<DominoChip> hand = new ArrayList<DominoChip>();
+    public int getHand() {
+        int hand = 0;
         int tile;
 
         // Get 7 chips
         if(next < chips.size()) {
             for(tile = next; tile < next + 7; tile++) {
-                hand.add(chips.get(tile));
+                hand |= chips.get(tile).getMask();
             }
             next = tile;
         }
@@ -0,0 +1,58 @@
+package model;
+
+/**
+ * Plays its heaviest legal double before anything else, a double only fits one value and is the hardest tile to
+ * get rid of, and otherwise plays like {@link HeaviestStrategy}.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public final class DoublesFirstStrategy implements CpuStrategy {
+    /**
+     * The strategy name
+     */
+    public static final String NAME = "doubles";
+    /**
+     * The strategy, it keeps no state
+     */
+    public static final DoublesFirstStrategy INSTANCE = new DoublesFirstStrategy();
+
+    /**
+     * Constructor for the strategy, use {@link #INSTANCE}
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private DoublesFirstStrategy() {
+    }
+
+    /**
+     * Returns the strategy name
+     * @return The name
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     * Picks the heaviest legal double, or the heaviest legal tile
+     * @param engine The game
+     * @param player The player position
+     * @param context The rules of the game
+     * @return The move or {@link #PASS}
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Override
+    public int choose(DominoEngine engine, int player, GameContext context) {
+        int legal = engine.legalMoves(player, context);
+        if(legal == 0) {
+            return PASS;
+        }
+        int doubles = DominoEngine.doublesOf(legal);
+        int tile = DominoEngine.heaviest(doubles != 0 ? doubles : legal);
+        return CpuStrategy.move(tile, engine.canPlayFirst(tile, context));
+    }
+}
@@ -0,0 +1,114 @@
+package model;
+
+/**
+ * A strategy that tries every legal tile on every end it fits and keeps the move that leaves the best ends.
+ * A subclass only scores the two ends a move leaves, a tie goes to the heavier tile.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public abstract class EndScoringStrategy implements CpuStrategy {
+    /**
+     * The multiplier of the end score, higher than the heaviest tile so the tile weight only breaks ties
+     */
+    private static final int TIE_BREAK = 2 * DominoEngine.MAX_PIPS + 1;
+
+    /**
+     * Picks the legal move with the best score
+     * @param engine The game
+     * @param player The player position
+     * @param context The rules of the game
+     * @return The move or {@link #PASS}
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Override
+    public final int choose(DominoEngine engine, int player, GameContext context) {
+        int best = PASS, bestScore = Integer.MIN_VALUE;
+        int firstEnd = engine.getFirstEnd(), lastEnd = engine.getLastEnd();
+        for(int tiles = engine.legalMoves(player, context); tiles != 0; tiles &= tiles - 1) {
+            int tile = Integer.numberOfTrailingZeros(tiles);
+            int high = DominoEngine.high(tile), low = DominoEngine.low(tile);
+            int score;
+            if(engine.isEmpty()) {
+                // The opening tile leaves its two values
+                score = this.score(engine, player, high, low) * TIE_BREAK + high + low;
+                if(score > bestScore) {
+                    best = CpuStrategy.move(tile, true);
+                    bestScore = score;
+                }
+                continue;
+            }
+            if(engine.canPlayFirst(tile, context)) {
+                score = this.score(engine, player, high == firstEnd ? low : high, lastEnd) * TIE_BREAK + high + low;
+                if(score > bestScore) {
+                    best = CpuStrategy.move(tile, true);
+                    bestScore = score;
+                }
+            }
+            if(engine.canPlayLast(tile, context)) {
+                score = this.score(engine, player, firstEnd, high == lastEnd ? low : high) * TIE_BREAK + high + low;
+                if(score > bestScore) {
+                    best = CpuStrategy.move(tile, false);
+                    bestScore = score;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Scores the ends a move leaves
+     * @param engine The game before the move
+     * @param player The player position
+     * @param firstEnd The value on the first end after the move
+     * @param lastEnd The value on the last end after the move
+     * @return The score, higher is better
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    protected abstract int score(DominoEngine engine, int player, int firstEnd, int lastEnd);
+
+    /**
+     * Scores how hard an end is to follow for an opponent
+     * @param engine The game
+     * @param player The player position
+     * @param opponent The opponent position
+     * @param value The value on the end
+     * @return 8 if the opponent passed on the value, or else 7 less the tiles with the value the player hasn't seen
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    protected static int blocks(DominoEngine engine, int player, int opponent, int value) {
+        if(EndScoringStrategy.lacks(engine, opponent, value)) {
+            return DominoEngine.MAX_PIPS + 2;
+        }
+        return DominoEngine.MAX_PIPS + 1 - EndScoringStrategy.unseen(engine, player, value);
+    }
+
+    /**
+     * Counts the tiles with a value a player hasn't seen, they are in the other hands
+     * @param engine The game
+     * @param player The player position
+     * @param value The value
+     * @return The number of tiles, from 0 to 7
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    protected static int unseen(DominoEngine engine, int player, int value) {
+        return Integer.bitCount(DominoEngine.tilesWith(value) & ~engine.getPlayed() & ~engine.getHand(player));
+    }
+
+    /**
+     * Tells whether a player is known not to have a value, it passed with that value on the board
+     * @param engine The game
+     * @param player The player position
+     * @param value The value
+     * @return True if the player has no tile with the value
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    protected static boolean lacks(DominoEngine engine, int player, int value) {
+        return (engine.getVoids(player) & 1 << value) != 0;
+    }
+}
@@ -0,0 +1,57 @@
+package model;
+
+/**
+ * Plays the first legal tile of its hand, on the first end if it fits there.
+ * It is the way the server played its CPU players before the strategies, and the default.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public final class FirstFitStrategy implements CpuStrategy {
+    /**
+     * The strategy name
+     */
+    public static final String NAME = "first";
+    /**
+     * The strategy, it keeps no state
+     */
+    public static final FirstFitStrategy INSTANCE = new FirstFitStrategy();
+
+    /**
+     * Constructor for the strategy, use {@link #INSTANCE}
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private FirstFitStrategy() {
+    }
+
+    /**
+     * Returns the strategy name
+     * @return The name
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     * Picks the first legal tile in the order the hand lists them
+     * @param engine The game
+     * @param player The player position
+     * @param context The rules of the game
+     * @return The move or {@link #PASS}
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Override
+    public int choose(DominoEngine engine, int player, GameContext context) {
+        int legal = engine.legalMoves(player, context);
+        if(legal == 0) {
+            return PASS;
+        }
+        int tile = DominoEngine.first(legal);
+        return CpuStrategy.move(tile, engine.canPlayFirst(tile, context));
+    }
+}
@@ -0,0 +1,53 @@
+package model;
+
+/**
+ * The rules a game is played with.
+ * Every rule check gets the context of its game instead of reading shared state,
+ * so any number of games can be checked at the same time from different threads.
+ * @param firstGame True if it is the first game of the match, it must open with the double six
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public record GameContext(boolean firstGame) {
+    /**
+     * The first game of a match
+     */
+    public static final GameContext FIRST_GAME = new GameContext(true);
+    /**
+     * Any game after the first one
+     */
+    public static final GameContext NEXT_GAME = new GameContext(false);
+
+    /**
+     * Returns the shared context for a game
+     * @param firstGame True if it is the first game of the match
+     * @return The shared context
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static GameContext of(boolean firstGame) {
+        return firstGame ? FIRST_GAME : NEXT_GAME;
+    }
+
+    /**
+     * Returns the tiles that can open the line
+     * @return The mask of the tiles, see {@link DominoEngine}
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int openingTiles() {
+        return firstGame ? 1 << DominoEngine.DOUBLE_SIX : DominoEngine.ALL_TILES;
+    }
+
+    /**
+     * Tells whether a chip can open the line
+     * @param chip The chip
+     * @return True if the chip can be the first one on the line
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public boolean canOpenWith(DominoChip chip) {
+        return !firstGame || (chip.getFirst() == DominoEngine.MAX_PIPS && chip.getSecond() == DominoEngine.MAX_PIPS);
+    }
+}
@@ -0,0 +1,56 @@
+package model;
+
+/**
+ * Plays the heaviest legal tile, on the first end if it fits there, to be left with as few points as possible.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public final class HeaviestStrategy implements CpuStrategy {
+    /**
+     * The strategy name
+     */
+    public static final String NAME = "heaviest";
+    /**
+     * The strategy, it keeps no state
+     */
+    public static final HeaviestStrategy INSTANCE = new HeaviestStrategy();
+
+    /**
+     * Constructor for the strategy, use {@link #INSTANCE}
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private HeaviestStrategy() {
+    }
+
+    /**
+     * Returns the strategy name
+     * @return The name
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     * Picks the heaviest legal tile
+     * @param engine The game
+     * @param player The player position
+     * @param context The rules of the game
+     * @return The move or {@link #PASS}
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Override
+    public int choose(DominoEngine engine, int player, GameContext context) {
+        int legal = engine.legalMoves(player, context);
+        if(legal == 0) {
+            return PASS;
+        }
+        int tile = DominoEngine.heaviest(legal);
+        return CpuStrategy.move(tile, engine.canPlayFirst(tile, context));
+    }
+}
@@ -0,0 +1,83 @@
+package model;
+
+/**
+ * Plays for the team: it blocks the next player like {@link BlockingStrategy}, and also leaves the ends the other
+ * opponent passed on and keeps away from the ends the partner passed on, more so once the partner is close to going out.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public final class PartnerStrategy extends EndScoringStrategy {
+    /**
+     * The strategy name
+     */
+    public static final String NAME = "partner";
+    /**
+     * The strategy, it keeps no state
+     */
+    public static final PartnerStrategy INSTANCE = new PartnerStrategy();
+    /**
+     * The tiles left in the partner's hand from which it is close to going out
+     */
+    private static final int PARTNER_CLOSE = 2;
+
+    /**
+     * Constructor for the strategy, use {@link #INSTANCE}
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private PartnerStrategy() {
+    }
+
+    /**
+     * Returns the strategy name
+     * @return The name
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     * Scores the ends for the team
+     * @param engine The game before the move
+     * @param player The player position
+     * @param firstEnd The value on the first end after the move
+     * @param lastEnd The value on the last end after the move
+     * @return The score, higher is better
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Override
+    protected int score(DominoEngine engine, int player, int firstEnd, int lastEnd) {
+        int partner = (player + 2) % DominoEngine.PLAYER_COUNT;
+        int partnerWeight = engine.getTilesLeft(partner) <= PARTNER_CLOSE ? 8 : 4;
+        return PartnerStrategy.endScore(engine, player, partner, partnerWeight, firstEnd)
+                + PartnerStrategy.endScore(engine, player, partner, partnerWeight, lastEnd);
+    }
+
+    /**
+     * Scores an end for the team
+     * @param engine The game
+     * @param player The player position
+     * @param partner The partner position
+     * @param partnerWeight The score taken off if the partner can't follow the end
+     * @param value The value on the end
+     * @return The score, higher is better
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static int endScore(DominoEngine engine, int player, int partner, int partnerWeight, int value) {
+        // The next player moves right after, the other opponent only after the partner
+        int score = EndScoringStrategy.blocks(engine, player, (player + 1) % DominoEngine.PLAYER_COUNT, value);
+        if(EndScoringStrategy.lacks(engine, (player + 3) % DominoEngine.PLAYER_COUNT, value)) {
+            score += 2;
+        }
+        if(EndScoringStrategy.lacks(engine, partner, value)) {
+            score -= partnerWeight;
+        }
+        return score;
+    }
+}
@@ -0,0 +1,511 @@
+package utilities;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Dictionary class for the binary frame codec.
+ * Every frame is written as a two byte length, a one byte opcode and the payload.
+ * A tile travels as one byte: bit 0 is the place first flag, bits 1-3 the second value and bits 4-6 the first value.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class BinaryProtocol {
+    /**
+     * Opcode: LOGIN
+     */
+    public static final byte LOGIN = 1;
+    /**
+     * Opcode: ERROR
+     */
+    public static final byte ERROR = 2;
+    /**
+     * Opcode: PLAY_CHIP
+     */
+    public static final byte PLAY_CHIP = 3;
+    /**
+     * Opcode: LOGOUT
+     */
+    public static final byte LOGOUT = 4;
+    /**
+     * Opcode: SEND
+     */
+    public static final byte SEND = 5;
+    /**
+     * Opcode: PASS
+     */
+    public static final byte PASS = 6;
+    /**
+     * Opcode: RESYNC
+     */
+    public static final byte RESYNC = 7;
+    /**
+     * Opcode: PONG
+     */
+    public static final byte PONG = 8;
+    /**
+     * Opcode: SAME_USER
+     */
+    public static final byte SAME_USER = 16;
+    /**
+     * Opcode: GAME_READY
+     */
+    public static final byte GAME_READY = 17;
+    /**
+     * Opcode: PLAYER_PLAYED
+     */
+    public static final byte PLAYER_PLAYED = 18;
+    /**
+     * Opcode: MESSAGE_RECEIVED
+     */
+    public static final byte MESSAGE_RECEIVED = 19;
+    /**
+     * Opcode: PLAYER_TURN
+     */
+    public static final byte PLAYER_TURN = 20;
+    /**
+     * Opcode: WINNER
+     */
+    public static final byte WINNER = 21;
+    /**
+     * Opcode: PLAYER_MOVED
+     */
+    public static final byte PLAYER_MOVED = 22;
+    /**
+     * Opcode: LINE
+     */
+    public static final byte LINE = 23;
+    /**
+     * Opcode: PING
+     */
+    public static final byte PING = 24;
+    /**
+     * Opcode: RESUMED
+     */
+    public static final byte RESUMED = 25;
+    /**
+     * Opcode: REJECTED
+     */
+    public static final byte REJECTED = 26;
+    /**
+     * Tile value used when there is no tile
+     */
+    public static final byte NO_TILE = (byte)0xFF;
+    /**
+     * The largest payload a frame can carry, the opcode included
+     */
+    public static final int MAX_FRAME_LENGTH = 0xFFFF;
+    /**
+     * The most UTF-8 bytes written for a string, longer strings are cut so a GAME_READY with every name still fits
+     * in a frame
+     */
+    public static final int MAX_STRING_LENGTH = 4096;
+
+    /**
+     * Returns the opcode of an action
+     * @param action The action or response name from {@link NetworkProtocols}
+     * @return The opcode, or the ERROR opcode if the action is unknown
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static byte opcodeOf(String action) {
+        switch (action) {
+            case NetworkProtocols.LOGIN_ACTION:
+                return LOGIN;
+            case NetworkProtocols.PLAY_CHIP_ACTION:
+                return PLAY_CHIP;
+            case NetworkProtocols.LOGOUT_ACTION:
+                return LOGOUT;
+            case NetworkProtocols.SEND_ACTION:
+                return SEND;
+            case NetworkProtocols.PASS_ACTION:
+                return PASS;
+            case NetworkProtocols.RESYNC_ACTION:
+                return RESYNC;
+            case NetworkProtocols.PONG_ACTION:
+                return PONG;
+            case NetworkProtocols.SAME_USER_RESPONSE:
+                return SAME_USER;
+            case NetworkProtocols.GAME_READY_RESPONSE:
+                return GAME_READY;
+            case NetworkProtocols.PLAYER_PLAYED_RESPONSE:
+                return PLAYER_PLAYED;
+            case NetworkProtocols.MESSAGE_RECEIVED_RESPONSE:
+                return MESSAGE_RECEIVED;
+            case NetworkProtocols.PLAYER_TURN_RESPONSE:
+                return PLAYER_TURN;
+            case NetworkProtocols.WINNER_RESPONSE:
+                return WINNER;
+            case NetworkProtocols.PLAYER_MOVED_RESPONSE:
+                return PLAYER_MOVED;
+            case NetworkProtocols.LINE_RESPONSE:
+                return LINE;
+            case NetworkProtocols.PING_RESPONSE:
+                return PING;
+            case NetworkProtocols.RESUMED_RESPONSE:
+                return RESUMED;
+            case NetworkProtocols.REJECTED_RESPONSE:
+                return REJECTED;
+            default:
+                return ERROR;
+        }
+    }
+
+    /**
+     * Encodes a tile in one byte
+     * @param first The first value
+     * @param second The second value
+     * @param placeFirst Whether the tile is placed on the first end
+     * @return The encoded tile
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static byte encodeTile(int first, int second, boolean placeFirst) {
+        if(first < 0 || second < 0) {
+            return NO_TILE;
+        }
+        return (byte)((first << 4) | (second << 1) | (placeFirst ? 1 : 0));
+    }
+
+    /**
+     * Returns the first value of an encoded tile
+     * @param tile The encoded tile
+     * @return The first value or -1 if there is no tile
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static int tileFirst(byte tile) {
+        return tile == NO_TILE ? -1 : (tile >> 4) & 0x7;
+    }
+
+    /**
+     * Returns the second value of an encoded tile
+     * @param tile The encoded tile
+     * @return The second value or -1 if there is no tile
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static int tileSecond(byte tile) {
+        return tile == NO_TILE ? -1 : (tile >> 1) & 0x7;
+    }
+
+    /**
+     * Returns whether an encoded tile is placed on the first end
+     * @param tile The encoded tile
+     * @return True if it is placed on the first end
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static boolean tilePlacedFirst(byte tile) {
+        return (tile & 1) == 1;
+    }
+
+    /**
+     * Creates the frame of a message
+     * @param message The message
+     * @return The frame
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static Frame encode(Messages.Message message) {
+        return switch (message) {
+            case Messages.PlayChip play -> playChip(play.tile());
+            case Messages.GameReady ready -> gameReady(ready.hand(), ready.start(), ready.userIds(), ready.userNames());
+            case Messages.PlayerPlayed played -> playerPlayed(played.tile(), played.player(), played.line());
+            case Messages.PlayerMoved moved -> playerMoved(moved.tile(), moved.player(), moved.sequence());
+            case Messages.Line line -> line(line.sequence(), line.line());
+            case Messages.Winner winner -> winner(winner.winner(), winner.firstScore(), winner.secondScore());
+            case Messages.Resumed resumed -> resumed(resumed.event());
+            case Messages.Rejected rejected -> rejected(rejected.error());
+            case Messages.Send send -> text(SEND, send.message());
+            case Messages.Text text when text.text() != null -> text(opcodeOf(text.action()), text.text());
+            default -> empty(opcodeOf(message.action()));
+        };
+    }
+
+    /**
+     * Reads the message of a frame
+     * @param frame The frame, read from its start
+     * @return The message, a Text with the action for the frames that carry a text or nothing
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static Messages.Message decode(Frame frame) {
+        switch (frame.getOpcode()) {
+            case PLAY_CHIP:
+                return new Messages.PlayChip(frame.readByte());
+            case GAME_READY: {
+                byte[] hand = frame.readBytes();
+                boolean start = frame.readByte() == 1;
+                int players = frame.readUnsignedByte();
+                String[] ids = new String[players];
+                String[] names = new String[players];
+                for(int player = 0; player < players; player++) {
+                    ids[player] = frame.readString();
+                    names[player] = frame.readString();
+                }
+                return new Messages.GameReady(hand, start, ids, names);
+            }
+            case PLAYER_PLAYED: {
+                byte tile = frame.readByte();
+                int player = frame.readUnsignedByte();
+                return new Messages.PlayerPlayed(tile, player, frame.readBytes());
+            }
+            case PLAYER_MOVED: {
+                byte tile = frame.readByte();
+                int player = frame.readUnsignedByte();
+                return new Messages.PlayerMoved(tile, player, frame.readUnsignedShort());
+            }
+            case LINE: {
+                int sequence = frame.readUnsignedShort();
+                return new Messages.Line(sequence, frame.readBytes());
+            }
+            case WINNER: {
+                int winner = frame.readUnsignedByte();
+                int firstScore = frame.readUnsignedShort();
+                return new Messages.Winner(winner, firstScore, frame.readUnsignedShort());
+            }
+            case RESUMED:
+                return new Messages.Resumed(frame.readInt());
+            case REJECTED: {
+                MoveError error = MoveError.of(frame.readUnsignedByte());
+                if(error != null) {
+                    return new Messages.Rejected(error);
+                }
+                return new Messages.Text(NetworkProtocols.REJECTED_RESPONSE, null);
+            }
+            default:
+                return new Messages.Text(actionOf(frame.getOpcode()), frame.getPayload().length > 0 ? frame.readString() : null);
+        }
+    }
+
+    /**
+     * Returns the action of an opcode
+     * @param opcode The opcode
+     * @return The action or response name from {@link NetworkProtocols}, ERROR if the opcode is unknown
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static String actionOf(byte opcode) {
+        switch (opcode) {
+            case LOGIN:
+                return NetworkProtocols.LOGIN_ACTION;
+            case PLAY_CHIP:
+                return NetworkProtocols.PLAY_CHIP_ACTION;
+            case LOGOUT:
+                return NetworkProtocols.LOGOUT_ACTION;
+            case SEND:
+                return NetworkProtocols.SEND_ACTION;
+            case PASS:
+                return NetworkProtocols.PASS_ACTION;
+            case RESYNC:
+                return NetworkProtocols.RESYNC_ACTION;
+            case PONG:
+                return NetworkProtocols.PONG_ACTION;
+            case SAME_USER:
+                return NetworkProtocols.SAME_USER_RESPONSE;
+            case GAME_READY:
+                return NetworkProtocols.GAME_READY_RESPONSE;
+            case PLAYER_PLAYED:
+                return NetworkProtocols.PLAYER_PLAYED_RESPONSE;
+            case MESSAGE_RECEIVED:
+                return NetworkProtocols.MESSAGE_RECEIVED_RESPONSE;
+            case PLAYER_TURN:
+                return NetworkProtocols.PLAYER_TURN_RESPONSE;
+            case WINNER:
+                return NetworkProtocols.WINNER_RESPONSE;
+            case PLAYER_MOVED:
+                return NetworkProtocols.PLAYER_MOVED_RESPONSE;
+            case LINE:
+                return NetworkProtocols.LINE_RESPONSE;
+            case PING:
+                return NetworkProtocols.PING_RESPONSE;
+            case RESUMED:
+                return NetworkProtocols.RESUMED_RESPONSE;
+            case REJECTED:
+                return NetworkProtocols.REJECTED_RESPONSE;
+            default:
+                return NetworkProtocols.ERROR_ACTION;
+        }
+    }
+
+    /**
+     * Creates a frame without payload
+     * @param opcode The opcode
+     * @return The frame
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static Frame empty(byte opcode) {
+        return new Frame(opcode, new byte[0]);
+    }
+
+    /**
+     * Creates a frame that only carries a text
+     * @param opcode The opcode
+     * @param text The text
+     * @return The frame
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static Frame text(byte opcode, String text) {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(text == null ? 2 : text.length() + 2);
+        writeString(payload, text);
+        return new Frame(opcode, payload.toByteArray());
+    }
+
+    /**
+     * Creates a PLAY_CHIP frame
+     * @param tile The encoded tile
+     * @return The frame
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static Frame playChip(byte tile) {
+        return new Frame(PLAY_CHIP, new byte[] {tile});
+    }
+
+    /**
+     * Creates a PLAYER_PLAYED frame
+     * @param tile The encoded tile that was played
+     * @param player The player position
+     * @param line The encoded tiles of the line
+     * @return The frame
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static Frame playerPlayed(byte tile, int player, byte[] line) {
+        byte[] payload = new byte[3 + line.length];
+        payload[0] = tile;
+        payload[1] = (byte)player;
+        payload[2] = (byte)line.length;
+        System.arraycopy(line, 0, payload, 3, line.length);
+        return new Frame(PLAYER_PLAYED, payload);
+    }
+
+    /**
+     * Creates a PLAYER_MOVED frame
+     * @param tile The encoded tile that was played
+     * @param player The player position
+     * @param sequence The number of tiles on the line after the move
+     * @return The frame
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static Frame playerMoved(byte tile, int player, int sequence) {
+        return new Frame(PLAYER_MOVED, new byte[] {tile, (byte)player, (byte)(sequence >> 8), (byte)sequence});
+    }
+
+    /**
+     * Creates a LINE frame
+     * @param sequence The number of tiles on the line
+     * @param line The encoded tiles of the line
+     * @return The frame
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static Frame line(int sequence, byte[] line) {
+        byte[] payload = new byte[3 + line.length];
+        payload[0] = (byte)(sequence >> 8);
+        payload[1] = (byte)sequence;
+        payload[2] = (byte)line.length;
+        System.arraycopy(line, 0, payload, 3, line.length);
+        return new Frame(LINE, payload);
+    }
+
+    /**
+     * Creates a GAME_READY frame
+     * @param hand The encoded tiles of the hand
+     * @param start Whether the player starts
+     * @param ids The ids of the players in the game
+     * @param names The names of the players in the game
+     * @return The frame
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static Frame gameReady(byte[] hand, boolean start, String[] ids, String[] names) {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(64);
+        payload.write(hand.length);
+        payload.write(hand, 0, hand.length);
+        payload.write(start ? 1 : 0);
+        payload.write(ids.length);
+        for(int player = 0; player < ids.length; player++) {
+            writeString(payload, ids[player]);
+            writeString(payload, names[player]);
+        }
+        return new Frame(GAME_READY, payload.toByteArray());
+    }
+
+    /**
+     * Creates a WINNER frame
+     * @param winner The winning player
+     * @param firstScore The first team score
+     * @param secondScore The second team score
+     * @return The frame
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static Frame winner(int winner, int firstScore, int secondScore) {
+        return new Frame(WINNER, new byte[] {
+                (byte)winner,
+                (byte)(firstScore >> 8), (byte)firstScore,
+                (byte)(secondScore >> 8), (byte)secondScore});
+    }
+
+    /**
+     * Creates a RESUMED frame
+     * @param event The number of the last table event the client is considered to have
+     * @return The frame
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static Frame resumed(int event) {
+        return new Frame(RESUMED, new byte[] {(byte)(event >> 24), (byte)(event >> 16), (byte)(event >> 8), (byte)event});
+    }
+
+    /**
+     * Creates a REJECTED frame
+     * @param error The reason the move was rejected
+     * @return The frame, the payload is the code of the reason
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static Frame rejected(MoveError error) {
+        return new Frame(REJECTED, new byte[] {(byte)error.ordinal()});
+    }
+
+    /**
+     * Tells whether a frame carries a table event, see {@link NetworkProtocols#isTableEvent(String)}
+     * @param opcode The opcode
+     * @return True for GAME_READY, PLAYER_PLAYED, PLAYER_MOVED, LINE, PLAYER_TURN and WINNER
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static boolean isTableEvent(byte opcode) {
+        return opcode == GAME_READY || opcode == PLAYER_PLAYED || opcode == PLAYER_MOVED
+                || opcode == LINE || opcode == PLAYER_TURN || opcode == WINNER;
+    }
+
+    /**
+     * Writes a UTF-8 string prefixed by its length in two bytes, cut to {@link #MAX_STRING_LENGTH} bytes
+     * @param payload The payload being built
+     * @param text The text to write
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static void writeString(ByteArrayOutputStream payload, String text) {
+        byte[] bytes = (text == null ? "" : text).getBytes(StandardCharsets.UTF_8);
+        int length = bytes.length;
+        if(length > MAX_STRING_LENGTH) {
+            // Cut before a character so the text stays valid UTF-8
+            length = MAX_STRING_LENGTH;
+            while(length > 0 && (bytes[length] & 0xC0) == 0x80) {
+                length--;
+            }
+        }
+        payload.write(length >> 8);
+        payload.write(length);
+        payload.write(bytes, 0, length);
+    }
+}
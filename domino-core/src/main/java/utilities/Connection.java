@@ -0,0 +1,49 @@
+package utilities;
+
+/**
+ * A connection to a player that sends messages without blocking the caller.
+ * Messages are encoded with the protocol version and codec agreed at login.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public interface Connection {
+    /**
+     * Sends a JSON message
+     * @param message The message to send
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    void sendMessage(String message);
+
+    /**
+     * Sends a binary frame
+     * @param frame The frame to send
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    void sendFrame(Frame frame);
+
+    /**
+     * Sets the protocol version agreed with the player
+     * @param protocolVersion The protocol version
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    void setProtocolVersion(int protocolVersion);
+
+    /**
+     * Sets the codec agreed with the player
+     * @param codec The codec
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    void setCodec(String codec);
+
+    /**
+     * Closes the connection
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    void close();
+}
@@ -0,0 +1,138 @@
+package utilities;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A binary frame: an opcode followed by a small payload.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class Frame {
+    /**
+     * The frame opcode
+     */
+    private final byte opcode;
+    /**
+     * The frame payload
+     */
+    private final byte[] payload;
+    /**
+     * The read position in the payload
+     */
+    private int position;
+
+    /**
+     * Constructor for a Frame
+     * @param opcode The opcode
+     * @param payload The payload
+     * @throws IllegalArgumentException If the payload and the opcode don't fit in {@link BinaryProtocol#MAX_FRAME_LENGTH}
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public Frame(byte opcode, byte[] payload) {
+        if(payload.length + 1 > BinaryProtocol.MAX_FRAME_LENGTH) {
+            // The length prefix would wrap and the reader would lose its place in the stream
+            throw new IllegalArgumentException("Frame too long: " + (payload.length + 1) + " bytes");
+        }
+        this.opcode = opcode;
+        this.payload = payload;
+        this.position = 0;
+    }
+
+    /**
+     * Returns the frame opcode
+     * @return The frame opcode
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public byte getOpcode() {
+        return opcode;
+    }
+
+    /**
+     * Returns the frame payload
+     * @return The frame payload
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    /**
+     * Returns the number of payload bytes not read yet
+     * @return The number of bytes left
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int remaining() {
+        return payload.length - position;
+    }
+
+    /**
+     * Reads the next byte of the payload
+     * @return The next byte
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public byte readByte() {
+        return payload[position++];
+    }
+
+    /**
+     * Reads the next byte of the payload as an unsigned value
+     * @return The next byte between 0 and 255
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int readUnsignedByte() {
+        return payload[position++] & 0xFF;
+    }
+
+    /**
+     * Reads the next two bytes of the payload as an unsigned value
+     * @return The next short between 0 and 65535
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int readUnsignedShort() {
+        return (readUnsignedByte() << 8) | readUnsignedByte();
+    }
+
+    /**
+     * Reads the next four bytes of the payload as a signed value
+     * @return The next int
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int readInt() {
+        return (readUnsignedShort() << 16) | readUnsignedShort();
+    }
+
+    /**
+     * Reads a byte array prefixed by its length in one byte
+     * @return The byte array
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public byte[] readBytes() {
+        byte[] bytes = new byte[readUnsignedByte()];
+        System.arraycopy(payload, position, bytes, 0, bytes.length);
+        position += bytes.length;
+        return bytes;
+    }
+
+    /**
+     * Reads a UTF-8 string prefixed by its length in two bytes
+     * @return The string
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public String readString() {
+        int length = readUnsignedShort();
+        String text = new String(payload, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return text;
+    }
+}
@@ -0,0 +1,191 @@
+package utilities;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe histogram of positive values with a fixed number of logarithmic buckets.
+ * Each power of two is split in eight buckets, so percentiles are within 12.5% of the recorded values.
+ * Recording a value never allocates, and the count and the sum are striped so threads that record at once don't
+ * fight over them.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class Histogram {
+    /**
+     * Values below this one get a bucket each
+     */
+    private static final int LINEAR_VALUES = 16;
+    /**
+     * Buckets per power of two, as a number of bits
+     */
+    private static final int SUB_BUCKET_BITS = 3;
+    /**
+     * The number of buckets
+     */
+    private static final int BUCKETS = LINEAR_VALUES + (64 - 4) * (1 << SUB_BUCKET_BITS);
+    /**
+     * The count of each bucket
+     */
+    private final AtomicLongArray counts;
+    /**
+     * The number of recorded values
+     */
+    private final LongAdder count;
+    /**
+     * The sum of the recorded values
+     */
+    private final LongAdder sum;
+    /**
+     * The highest recorded value
+     */
+    private final AtomicLong max;
+
+    /**
+     * Constructor for the histogram
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public Histogram() {
+        this.counts = new AtomicLongArray(BUCKETS);
+        this.count = new LongAdder();
+        this.sum = new LongAdder();
+        this.max = new AtomicLong();
+    }
+
+    /**
+     * Records a value, negative values are recorded as zero
+     * @param value The value
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void record(long value) {
+        long current;
+        value = Math.max(0, value);
+        counts.incrementAndGet(bucketOf(value));
+        count.increment();
+        sum.add(value);
+        while(value > (current = max.get()) && !max.compareAndSet(current, value)) {
+            // Someone else raised the max, check again
+        }
+    }
+
+    /**
+     * Returns the number of recorded values
+     * @return The number of recorded values
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the highest recorded value
+     * @return The highest recorded value
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the mean of the recorded values
+     * @return The mean or 0 if nothing was recorded
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public double getMean() {
+        long recorded = count.sum();
+        return recorded == 0 ? 0 : (double)sum.sum() / recorded;
+    }
+
+    /**
+     * Returns a percentile of the recorded values
+     * @param percentile The percentile between 0 and 100
+     * @return The highest value of the bucket that holds the percentile, or 0 if nothing was recorded
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public long getPercentile(double percentile) {
+        long recorded = count.sum();
+        long seen = 0;
+        if(recorded == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long)Math.ceil(recorded * percentile / 100.0));
+        for(int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts.get(bucket);
+            if(seen >= rank) {
+                return Math.min(highestValueOf(bucket), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Clears the recorded values
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void reset() {
+        for(int bucket = 0; bucket < BUCKETS; bucket++) {
+            counts.set(bucket, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.set(0);
+    }
+
+    /**
+     * Returns a one line summary with the count, mean and main percentiles
+     * @param unit The unit of the values, appended to each number
+     * @return The summary
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public String summary(String unit) {
+        return "count=" + getCount()
+                + " mean=" + Math.round(getMean()) + unit
+                + " p50=" + getPercentile(50) + unit
+                + " p90=" + getPercentile(90) + unit
+                + " p99=" + getPercentile(99) + unit
+                + " max=" + getMax() + unit;
+    }
+
+    /**
+     * Returns the bucket of a value
+     * @param value The value
+     * @return The bucket index
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static int bucketOf(long value) {
+        if(value < LINEAR_VALUES) {
+            return (int)value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int)(value >>> (exponent - SUB_BUCKET_BITS)) & ((1 << SUB_BUCKET_BITS) - 1);
+        return LINEAR_VALUES + (exponent - 4) * (1 << SUB_BUCKET_BITS) + subBucket;
+    }
+
+    /**
+     * Returns the highest value that falls in a bucket
+     * @param bucket The bucket index
+     * @return The highest value of the bucket
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static long highestValueOf(int bucket) {
+        if(bucket < LINEAR_VALUES) {
+            return bucket;
+        }
+        int exponent = (bucket - LINEAR_VALUES) / (1 << SUB_BUCKET_BITS) + 4;
+        int subBucket = (bucket - LINEAR_VALUES) % (1 << SUB_BUCKET_BITS);
+        long lowest = (1L << exponent) + ((long)subBucket << (exponent - SUB_BUCKET_BITS));
+        return lowest + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
@@ -0,0 +1,798 @@
+package utilities;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Reads and writes the JSON messages as {@link Messages} records.
+ * The messages have fixed shapes, so they are read token by token with a streaming parser instead of building a
+ * tree for each one, and written straight into a buffer that each thread reuses. The mapper and its factory are
+ * shared and thread-safe.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public final class JsonCodec {
+    /**
+     * The shared mapper, raw line breaks are accepted inside strings
+     */
+    public static final ObjectMapper MAPPER = JsonMapper.builder()
+            .enable(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+    /**
+     * The factory of the shared mapper
+     */
+    private static final JsonFactory FACTORY = MAPPER.getFactory();
+    /**
+     * The largest number of tiles or players read from an array
+     */
+    private static final int MAX_ARRAY_LENGTH = 255;
+    /**
+     * The initial size of the write buffer, enough for a full line and four players
+     */
+    private static final int BUFFER_SIZE = 1024;
+    /**
+     * Buffers that grew past this size are not kept for the next message
+     */
+    private static final int MAX_KEPT_BUFFER_SIZE = 64 * 1024;
+    /**
+     * The write buffer of each thread
+     */
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(BUFFER_SIZE));
+    /**
+     * One message in this many is timed while the timing is on
+     */
+    public static final int ENCODE_SAMPLE_RATE = 16;
+    /**
+     * The time spent writing the sampled messages in nanoseconds
+     */
+    private static final Histogram ENCODE_TIMES = new Histogram();
+    /**
+     * Whether the messages written are sampled into {@link #ENCODE_TIMES}, off for the clients that never read it
+     */
+    private static volatile boolean encodeTiming = false;
+    /**
+     * Digits used to escape control characters
+     */
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * JsonCodec is not instantiated
+     */
+    private JsonCodec() {
+    }
+
+    /**
+     * Writes a message
+     * @param message The message
+     * @return The message as JSON
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static String encode(Messages.Message message) {
+        // Only a sample is timed, so the clock and the shared histogram stay off the path of most messages
+        boolean timed = encodeTiming && ThreadLocalRandom.current().nextInt(ENCODE_SAMPLE_RATE) == 0;
+        long start = timed ? System.nanoTime() : 0;
+        StringBuilder json = BUFFER.get();
+        String encoded;
+        json.setLength(0);
+        json.append("{\"action\":");
+        JsonCodec.appendString(json, message.action());
+        json.append(",\"data\":");
+        switch (message) {
+            case Messages.Login login -> {
+                json.append("{\"user_id\":");
+                JsonCodec.appendString(json, login.userId());
+                json.append(",\"user_name\":");
+                JsonCodec.appendString(json, login.userName());
+                json.append(",\"protocol_version\":").append(login.protocolVersion());
+                json.append(",\"codec\":");
+                JsonCodec.appendString(json, login.codec());
+                json.append(",\"rtt_ms\":").append(login.roundTripMillis());
+                if(login.tableSize() > 0) {
+                    json.append(",\"table_size\":").append(login.tableSize());
+                }
+                if(login.region() != null) {
+                    json.append(",\"region\":");
+                    JsonCodec.appendString(json, login.region());
+                }
+                if(login.rating() >= 0) {
+                    json.append(",\"rating\":").append(login.rating());
+                }
+                json.append('}');
+            }
+            case Messages.Resume resume -> {
+                json.append("{\"user_id\":");
+                JsonCodec.appendString(json, resume.userId());
+                json.append(",\"user_name\":");
+                JsonCodec.appendString(json, resume.userName());
+                json.append(",\"protocol_version\":").append(resume.protocolVersion());
+                json.append(",\"codec\":");
+                JsonCodec.appendString(json, resume.codec());
+                json.append(",\"last_event\":").append(resume.lastEvent());
+                if(resume.resumeToken() != null) {
+                    json.append(",\"resume_token\":");
+                    JsonCodec.appendString(json, resume.resumeToken());
+                }
+                json.append('}');
+            }
+            case Messages.Resumed resumed -> json.append("{\"event\":").append(resumed.event()).append('}');
+            case Messages.Rejected rejected -> {
+                json.append("{\"error\":");
+                JsonCodec.appendString(json, rejected.error().name());
+                json.append(",\"text\":");
+                JsonCodec.appendString(json, rejected.error().getText());
+                json.append('}');
+            }
+            case Messages.Protocol protocol -> {
+                json.append("{\"protocol_version\":").append(protocol.protocolVersion()).append(",\"codec\":");
+                JsonCodec.appendString(json, protocol.codec());
+                if(protocol.resumeToken() != null) {
+                    json.append(",\"resume_token\":");
+                    JsonCodec.appendString(json, protocol.resumeToken());
+                }
+                json.append('}');
+            }
+            case Messages.PlayChip play -> JsonCodec.appendTile(json, play.tile());
+            case Messages.GameReady ready -> {
+                json.append("{\"hand\":");
+                JsonCodec.appendTiles(json, ready.hand());
+                json.append(",\"start\":").append(ready.start()).append(",\"players\":[");
+                for(int player = 0; player < ready.userIds().length; player++) {
+                    json.append(player == 0 ? "{\"user_id\":" : ",{\"user_id\":");
+                    JsonCodec.appendString(json, ready.userIds()[player]);
+                    json.append(",\"user_name\":");
+                    JsonCodec.appendString(json, ready.userNames()[player]);
+                    json.append('}');
+                }
+                json.append("]}");
+            }
+            case Messages.PlayerPlayed played -> {
+                json.append("{\"chip\":");
+                JsonCodec.appendTile(json, played.tile());
+                json.append(",\"player\":").append(played.player()).append(",\"line\":");
+                JsonCodec.appendTiles(json, played.line());
+                json.append('}');
+            }
+            case Messages.PlayerMoved moved -> {
+                json.append("{\"chip\":");
+                JsonCodec.appendTile(json, moved.tile());
+                json.append(",\"player\":").append(moved.player()).append(",\"seq\":").append(moved.sequence()).append('}');
+            }
+            case Messages.Line line -> {
+                json.append("{\"seq\":").append(line.sequence()).append(",\"line\":");
+                JsonCodec.appendTiles(json, line.line());
+                json.append('}');
+            }
+            case Messages.Winner winner -> json.append("{\"winner\":").append(winner.winner())
+                    .append(",\"first_score\":").append(winner.firstScore())
+                    .append(",\"second_score\":").append(winner.secondScore()).append('}');
+            case Messages.Send send -> {
+                json.append("{\"user_id\":");
+                JsonCodec.appendString(json, send.userId());
+                json.append(",\"user_name\":");
+                JsonCodec.appendString(json, send.userName());
+                json.append(",\"message\":");
+                JsonCodec.appendString(json, send.message());
+                json.append('}');
+            }
+            case Messages.Text text -> JsonCodec.appendString(json, text.text());
+            default -> json.append("null");
+        }
+        json.append('}');
+        encoded = json.toString();
+
+        // Don't keep a buffer that grew for an unusually big message
+        if(json.capacity() > MAX_KEPT_BUFFER_SIZE) {
+            BUFFER.remove();
+        }
+        if(timed) {
+            ENCODE_TIMES.record(System.nanoTime() - start);
+        }
+        return encoded;
+    }
+
+    /**
+     * Writes a list of encoded tiles as a JSON array of chips
+     * @param tiles The encoded tiles
+     * @return The JSON array
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static String tilesAsJson(byte[] tiles) {
+        StringBuilder json = new StringBuilder(2 + tiles.length * 45);
+        JsonCodec.appendTiles(json, tiles);
+        return json.toString();
+    }
+
+    /**
+     * Writes an encoded tile as a JSON chip
+     * @param tile The encoded tile
+     * @return The JSON object
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static String tileAsJson(byte tile) {
+        StringBuilder json = new StringBuilder(45);
+        JsonCodec.appendTile(json, tile);
+        return json.toString();
+    }
+
+    /**
+     * Writes a text as a quoted and escaped JSON string
+     * @param text The text or null
+     * @return The JSON string, or null unquoted
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static String quote(String text) {
+        StringBuilder json = new StringBuilder(text == null ? 4 : text.length() + 2);
+        JsonCodec.appendString(json, text);
+        return json.toString();
+    }
+
+    /**
+     * Turns the timing of the messages written on or off
+     * @param timing True to time one message in {@link #ENCODE_SAMPLE_RATE}
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static void setEncodeTiming(boolean timing) {
+        encodeTiming = timing;
+    }
+
+    /**
+     * Returns the time spent writing the sampled messages, nothing is recorded until the timing is turned on
+     * @return The write times in nanoseconds
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static Histogram getEncodeTimes() {
+        return ENCODE_TIMES;
+    }
+
+    /**
+     * Reads a message
+     * @param json The message as JSON
+     * @return The message
+     * @throws IOException If the JSON is not a valid message
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static Messages.Message decode(String json) throws IOException {
+        String action = null;
+        Messages.Message message = null;
+        TokenBuffer pendingData = null;
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            if(parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "A message must be an object");
+            }
+            while(parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if("action".equals(field)) {
+                    action = parser.getValueAsString();
+                } else if("data".equals(field) && action != null) {
+                    message = JsonCodec.decodeData(action, parser);
+                } else if("data".equals(field)) {
+                    // The data came before the action, keep its tokens until the action is known
+                    pendingData = new TokenBuffer(parser);
+                    pendingData.copyCurrentStructure(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if(action == null) {
+                throw new JsonParseException(parser, "A message must have an action");
+            }
+        }
+
+        // Read the data that came first, or the message without data
+        if(pendingData != null) {
+            try (JsonParser data = pendingData.asParser()) {
+                data.nextToken();
+                message = JsonCodec.decodeData(action, data);
+            }
+        }
+        return message != null ? message : new Messages.Text(action, null);
+    }
+
+    /**
+     * Reads the data of a message
+     * @param action The message action
+     * @param parser The parser on the first token of the data
+     * @return The message
+     * @throws IOException If the data doesn't have the shape of the action
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static Messages.Message decodeData(String action, JsonParser parser) throws IOException {
+        // Requests and responses that carry an object
+        if(parser.currentToken() == JsonToken.START_OBJECT) {
+            switch (action) {
+                case NetworkProtocols.LOGIN_ACTION:
+                    return JsonCodec.readLogin(parser);
+                case NetworkProtocols.PROTOCOL_RESPONSE:
+                    return JsonCodec.readProtocol(parser);
+                case NetworkProtocols.RESUME_ACTION:
+                    return JsonCodec.readResume(parser);
+                case NetworkProtocols.RESUMED_RESPONSE:
+                    return JsonCodec.readResumed(parser);
+                case NetworkProtocols.REJECTED_RESPONSE:
+                    return JsonCodec.readRejected(parser);
+                case NetworkProtocols.PLAY_CHIP_ACTION:
+                    return new Messages.PlayChip(JsonCodec.readTile(parser));
+                case NetworkProtocols.GAME_READY_RESPONSE:
+                    return JsonCodec.readGameReady(parser);
+                case NetworkProtocols.PLAYER_PLAYED_RESPONSE:
+                    return JsonCodec.readPlayerPlayed(parser);
+                case NetworkProtocols.PLAYER_MOVED_RESPONSE:
+                    return JsonCodec.readPlayerMoved(parser);
+                case NetworkProtocols.LINE_RESPONSE:
+                    return JsonCodec.readLine(parser);
+                case NetworkProtocols.WINNER_RESPONSE:
+                    return JsonCodec.readWinner(parser);
+                case NetworkProtocols.SEND_ACTION:
+                    return JsonCodec.readSend(parser);
+                default:
+                    parser.skipChildren();
+                    return new Messages.Text(action, null);
+            }
+        }
+
+        // The rest carry a text or nothing
+        if(parser.currentToken() == JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return new Messages.Text(action, null);
+        }
+        return new Messages.Text(action, parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getValueAsString());
+    }
+
+    /**
+     * Reads the data of a LOGIN request
+     * @param parser The parser on the start of the object
+     * @return The message
+     * @throws IOException If the JSON is not valid
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static Messages.Login readLogin(JsonParser parser) throws IOException {
+        String userId = null, userName = null, codec = null, region = null;
+        int protocolVersion = 0, tableSize = 0, rating = -1;
+        long roundTripMillis = -1;
+        while(parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "user_id" -> userId = parser.getValueAsString();
+                case "user_name" -> userName = parser.getValueAsString();
+                case "protocol_version" -> protocolVersion = parser.getValueAsInt();
+                case "codec" -> codec = parser.getValueAsString();
+                case "table_size" -> tableSize = parser.getValueAsInt();
+                case "region" -> region = parser.getValueAsString();
+                case "rating" -> rating = parser.getValueAsInt(-1);
+                case "rtt_ms" -> roundTripMillis = parser.getValueAsLong(-1);
+                default -> parser.skipChildren();
+            }
+        }
+        if(userId == null || userName == null) {
+            throw new JsonParseException(parser, "A login needs a user id and a user name");
+        }
+        return new Messages.Login(userId, userName, protocolVersion, codec, tableSize, region, rating, roundTripMillis);
+    }
+
+    /**
+     * Reads the data of a RESUME request
+     * @param parser The parser on the start of the object
+     * @return The message
+     * @throws IOException If the JSON is not valid
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static Messages.Resume readResume(JsonParser parser) throws IOException {
+        String userId = null, userName = null, codec = null, resumeToken = null;
+        int protocolVersion = 0, lastEvent = 0;
+        while(parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "user_id" -> userId = parser.getValueAsString();
+                case "user_name" -> userName = parser.getValueAsString();
+                case "protocol_version" -> protocolVersion = parser.getValueAsInt();
+                case "codec" -> codec = parser.getValueAsString();
+                case "last_event" -> lastEvent = parser.getValueAsInt();
+                case "resume_token" -> resumeToken = parser.getValueAsString();
+                default -> parser.skipChildren();
+            }
+        }
+        if(userId == null || userName == null) {
+            throw new JsonParseException(parser, "A resume needs a user id and a user name");
+        }
+        return new Messages.Resume(userId, userName, protocolVersion, codec, lastEvent, resumeToken);
+    }
+
+    /**
+     * Reads the data of a RESUMED response
+     * @param parser The parser on the start of the object
+     * @return The message
+     * @throws IOException If the JSON is not valid
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static Messages.Resumed readResumed(JsonParser parser) throws IOException {
+        int event = 0;
+        while(parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if("event".equals(field)) {
+                event = parser.getValueAsInt();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new Messages.Resumed(event);
+    }
+
+    /**
+     * Reads the data of a REJECTED response
+     * @param parser The parser on the start of the object
+     * @return The message, a Text with the action if the reason is unknown
+     * @throws IOException If the JSON is not valid
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static Messages.Message readRejected(JsonParser parser) throws IOException {
+        MoveError error = null;
+        String text = null;
+        while(parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "error" -> error = MoveError.of(parser.getValueAsString());
+                case "text" -> text = parser.getValueAsString();
+                default -> parser.skipChildren();
+            }
+        }
+        return error != null ? new Messages.Rejected(error) : new Messages.Text(NetworkProtocols.REJECTED_RESPONSE, text);
+    }
+
+    /**
+     * Reads the data of a PROTOCOL response
+     * @param parser The parser on the start of the object
+     * @return The message
+     * @throws IOException If the JSON is not valid
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static Messages.Protocol readProtocol(JsonParser parser) throws IOException {
+        int protocolVersion = NetworkProtocols.LEGACY_PROTOCOL_VERSION;
+        String codec = null, resumeToken = null;
+        while(parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "protocol_version" -> protocolVersion = parser.getValueAsInt();
+                case "codec" -> codec = parser.getValueAsString();
+                case "resume_token" -> resumeToken = parser.getValueAsString();
+                default -> parser.skipChildren();
+            }
+        }
+        return new Messages.Protocol(protocolVersion, codec, resumeToken);
+    }
+
+    /**
+     * Reads the data of a GAME_READY response
+     * @param parser The parser on the start of the object
+     * @return The message
+     * @throws IOException If the JSON is not valid
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static Messages.GameReady readGameReady(JsonParser parser) throws IOException {
+        byte[] hand = new byte[0];
+        boolean start = false;
+        ArrayList<String> userIds = new ArrayList<String>(4);
+        ArrayList<String> userNames = new ArrayList<String>(4);
+        while(parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "hand" -> hand = JsonCodec.readTiles(parser);
+                case "start" -> start = parser.getValueAsBoolean();
+                case "players" -> JsonCodec.readPlayers(parser, userIds, userNames);
+                default -> parser.skipChildren();
+            }
+        }
+        return new Messages.GameReady(hand, start, userIds.toArray(new String[0]), userNames.toArray(new String[0]));
+    }
+
+    /**
+     * Reads the data of a PLAYER_PLAYED response
+     * @param parser The parser on the start of the object
+     * @return The message
+     * @throws IOException If the JSON is not valid
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static Messages.PlayerPlayed readPlayerPlayed(JsonParser parser) throws IOException {
+        byte tile = BinaryProtocol.NO_TILE;
+        byte[] line = new byte[0];
+        int player = 0;
+        while(parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "chip" -> tile = JsonCodec.readTile(parser);
+                case "player" -> player = parser.getValueAsInt();
+                case "line" -> line = JsonCodec.readTiles(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return new Messages.PlayerPlayed(tile, player, line);
+    }
+
+    /**
+     * Reads the data of a PLAYER_MOVED response
+     * @param parser The parser on the start of the object
+     * @return The message
+     * @throws IOException If the JSON is not valid
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static Messages.PlayerMoved readPlayerMoved(JsonParser parser) throws IOException {
+        byte tile = BinaryProtocol.NO_TILE;
+        int player = 0, sequence = -1;
+        while(parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "chip" -> tile = JsonCodec.readTile(parser);
+                case "player" -> player = parser.getValueAsInt();
+                case "seq" -> sequence = parser.getValueAsInt(-1);
+                default -> parser.skipChildren();
+            }
+        }
+        if(tile == BinaryProtocol.NO_TILE || sequence < 1) {
+            throw new JsonParseException(parser, "A move needs a chip and a sequence number");
+        }
+        return new Messages.PlayerMoved(tile, player, sequence);
+    }
+
+    /**
+     * Reads the data of a LINE response
+     * @param parser The parser on the start of the object
+     * @return The message
+     * @throws IOException If the JSON is not valid
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static Messages.Line readLine(JsonParser parser) throws IOException {
+        byte[] line = new byte[0];
+        int sequence = -1;
+        while(parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "seq" -> sequence = parser.getValueAsInt(-1);
+                case "line" -> line = JsonCodec.readTiles(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return new Messages.Line(sequence < 0 ? line.length : sequence, line);
+    }
+
+    /**
+     * Reads the data of a WINNER response
+     * @param parser The parser on the start of the object
+     * @return The message
+     * @throws IOException If the JSON is not valid
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static Messages.Winner readWinner(JsonParser parser) throws IOException {
+        int winner = 0, firstScore = 0, secondScore = 0;
+        while(parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "winner" -> winner = parser.getValueAsInt();
+                case "first_score" -> firstScore = parser.getValueAsInt();
+                case "second_score" -> secondScore = parser.getValueAsInt();
+                default -> parser.skipChildren();
+            }
+        }
+        return new Messages.Winner(winner, firstScore, secondScore);
+    }
+
+    /**
+     * Reads the data of a SEND request
+     * @param parser The parser on the start of the object
+     * @return The message
+     * @throws IOException If the JSON is not valid
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static Messages.Send readSend(JsonParser parser) throws IOException {
+        String userId = null, userName = null, message = null;
+        while(parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "user_id" -> userId = parser.getValueAsString();
+                case "user_name" -> userName = parser.getValueAsString();
+                case "message" -> message = parser.getValueAsString();
+                default -> parser.skipChildren();
+            }
+        }
+        return new Messages.Send(userId, userName, message);
+    }
+
+    /**
+     * Reads a chip object into an encoded tile
+     * @param parser The parser on the start of the chip
+     * @return The encoded tile, {@link BinaryProtocol#NO_TILE} for a chip with negative values
+     * @throws IOException If the JSON is not valid
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static byte readTile(JsonParser parser) throws IOException {
+        int first = -1, second = -1;
+        boolean placeFirst = false;
+        if(parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "A chip must be an object");
+        }
+        while(parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "first" -> first = parser.getValueAsInt(-1);
+                case "second" -> second = parser.getValueAsInt(-1);
+                case "place_first" -> placeFirst = parser.getValueAsBoolean();
+                default -> parser.skipChildren();
+            }
+        }
+        if(first > 6 || second > 6) {
+            throw new JsonParseException(parser, "A chip value must be between 0 and 6");
+        }
+        return BinaryProtocol.encodeTile(first, second, placeFirst);
+    }
+
+    /**
+     * Reads an array of chips into encoded tiles
+     * @param parser The parser on the start of the array
+     * @return The encoded tiles
+     * @throws IOException If the JSON is not valid
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static byte[] readTiles(JsonParser parser) throws IOException {
+        byte[] tiles = new byte[28];
+        int count = 0;
+        if(parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "The chips must be an array");
+        }
+        while(parser.nextToken() != JsonToken.END_ARRAY) {
+            if(count == MAX_ARRAY_LENGTH) {
+                throw new JsonParseException(parser, "Too many chips");
+            }
+            if(count == tiles.length) {
+                tiles = Arrays.copyOf(tiles, Math.min(tiles.length * 2, MAX_ARRAY_LENGTH));
+            }
+            tiles[count++] = JsonCodec.readTile(parser);
+        }
+        return Arrays.copyOf(tiles, count);
+    }
+
+    /**
+     * Reads an array of players
+     * @param parser The parser on the start of the array
+     * @param userIds Receives the user ids
+     * @param userNames Receives the usernames
+     * @throws IOException If the JSON is not valid
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static void readPlayers(JsonParser parser, ArrayList<String> userIds, ArrayList<String> userNames) throws IOException {
+        if(parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "The players must be an array");
+        }
+        while(parser.nextToken() != JsonToken.END_ARRAY) {
+            String userId = null, userName = null;
+            if(parser.currentToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "A player must be an object");
+            }
+            while(parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "user_id" -> userId = parser.getValueAsString();
+                    case "user_name" -> userName = parser.getValueAsString();
+                    default -> parser.skipChildren();
+                }
+            }
+            if(userIds.size() == MAX_ARRAY_LENGTH) {
+                throw new JsonParseException(parser, "Too many players");
+            }
+            userIds.add(userId);
+            userNames.add(userName);
+        }
+    }
+
+    /**
+     * Appends an encoded tile as a chip object
+     * @param json The buffer
+     * @param tile The encoded tile
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static void appendTile(StringBuilder json, byte tile) {
+        json.append("{\"first\":").append(BinaryProtocol.tileFirst(tile))
+                .append(",\"second\":").append(BinaryProtocol.tileSecond(tile))
+                .append(",\"place_first\":").append(tile != BinaryProtocol.NO_TILE && BinaryProtocol.tilePlacedFirst(tile))
+                .append('}');
+    }
+
+    /**
+     * Appends encoded tiles as an array of chips
+     * @param json The buffer
+     * @param tiles The encoded tiles
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static void appendTiles(StringBuilder json, byte[] tiles) {
+        json.append('[');
+        for(int tile = 0; tile < tiles.length; tile++) {
+            if(tile > 0) {
+                json.append(',');
+            }
+            JsonCodec.appendTile(json, tiles[tile]);
+        }
+        json.append(']');
+    }
+
+    /**
+     * Appends a quoted and escaped string, or null
+     * @param json The buffer
+     * @param text The text or null
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static void appendString(StringBuilder json, String text) {
+        if(text == null) {
+            json.append("null");
+            return;
+        }
+        json.append('"');
+        for(int index = 0; index < text.length(); index++) {
+            char character = text.charAt(index);
+            switch (character) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if(character < 0x20) {
+                        json.append("\\u00").append(HEX_DIGITS[character >> 4]).append(HEX_DIGITS[character & 0xF]);
+                    } else {
+                        json.append(character);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+}
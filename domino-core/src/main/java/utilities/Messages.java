@@ -0,0 +1,196 @@
+package utilities;
+
+/**
+ * The typed messages exchanged by the client and the server.
+ * Tiles are kept in the byte encoding of {@link BinaryProtocol}, so a message carries the same data whether it
+ * came as JSON or as a binary frame.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public final class Messages {
+    /**
+     * A message with its action
+     */
+    public interface Message {
+        /**
+         * Returns the message action
+         * @return The action name from {@link NetworkProtocols}
+         */
+        String action();
+    }
+
+    /**
+     * LOGIN request sent by the client
+     * @param userId The user id
+     * @param userName The username
+     * @param protocolVersion The protocol version requested, 0 if not sent
+     * @param codec The codec requested or null
+     * @param tableSize The number of humans wanted at the table, 0 if not sent
+     * @param region The region or null
+     * @param rating The rating or -1
+     * @param roundTripMillis The round trip time measured by the client or -1
+     */
+    public record Login(String userId, String userName, int protocolVersion, String codec,
+                        int tableSize, String region, int rating, long roundTripMillis) implements Message {
+        @Override
+        public String action() {
+            return NetworkProtocols.LOGIN_ACTION;
+        }
+    }
+
+    /**
+     * RESUME request sent by a client that lost its connection
+     * @param userId The user id
+     * @param userName The username
+     * @param protocolVersion The protocol version requested
+     * @param codec The codec requested or null
+     * @param lastEvent The number of the last table event received, 0 if none
+     * @param resumeToken The token of the session being resumed, null if the client has none
+     */
+    public record Resume(String userId, String userName, int protocolVersion, String codec, int lastEvent,
+                         String resumeToken) implements Message {
+        @Override
+        public String action() {
+            return NetworkProtocols.RESUME_ACTION;
+        }
+    }
+
+    /**
+     * RESUMED response, sent before the events a client gets back at its seat
+     * @param event The number of the last table event the client is considered to have
+     */
+    public record Resumed(int event) implements Message {
+        @Override
+        public String action() {
+            return NetworkProtocols.RESUMED_RESPONSE;
+        }
+    }
+
+    /**
+     * REJECTED response, sent when a move is illegal
+     * @param error The reason
+     */
+    public record Rejected(MoveError error) implements Message {
+        @Override
+        public String action() {
+            return NetworkProtocols.REJECTED_RESPONSE;
+        }
+    }
+
+    /**
+     * PROTOCOL response with the agreed protocol version and codec
+     * @param protocolVersion The protocol version
+     * @param codec The codec or null
+     * @param resumeToken The token a RESUME must send to take the session back, null if there's none
+     */
+    public record Protocol(int protocolVersion, String codec, String resumeToken) implements Message {
+        @Override
+        public String action() {
+            return NetworkProtocols.PROTOCOL_RESPONSE;
+        }
+    }
+
+    /**
+     * PLAY_CHIP request
+     * @param tile The encoded tile with the end it is placed on
+     */
+    public record PlayChip(byte tile) implements Message {
+        @Override
+        public String action() {
+            return NetworkProtocols.PLAY_CHIP_ACTION;
+        }
+    }
+
+    /**
+     * GAME_READY response
+     * @param hand The encoded tiles of the hand
+     * @param start Whether the player starts
+     * @param userIds The user ids by position
+     * @param userNames The usernames by position
+     */
+    public record GameReady(byte[] hand, boolean start, String[] userIds, String[] userNames) implements Message {
+        @Override
+        public String action() {
+            return NetworkProtocols.GAME_READY_RESPONSE;
+        }
+    }
+
+    /**
+     * PLAYER_PLAYED response
+     * @param tile The encoded tile played, {@link BinaryProtocol#NO_TILE} when only the line is sent
+     * @param player The position of the player that played it
+     * @param line The encoded tiles of the line
+     */
+    public record PlayerPlayed(byte tile, int player, byte[] line) implements Message {
+        @Override
+        public String action() {
+            return NetworkProtocols.PLAYER_PLAYED_RESPONSE;
+        }
+    }
+
+    /**
+     * PLAYER_MOVED response, a single move for clients that keep their own line
+     * @param tile The encoded tile played with the end it was placed on
+     * @param player The position of the player that played it
+     * @param sequence The number of tiles on the line after the move
+     */
+    public record PlayerMoved(byte tile, int player, int sequence) implements Message {
+        @Override
+        public String action() {
+            return NetworkProtocols.PLAYER_MOVED_RESPONSE;
+        }
+    }
+
+    /**
+     * LINE response, the whole line sent when a client comes back or misses a move
+     * @param sequence The number of tiles on the line, the sequence of the last move in it
+     * @param line The encoded tiles of the line
+     */
+    public record Line(int sequence, byte[] line) implements Message {
+        @Override
+        public String action() {
+            return NetworkProtocols.LINE_RESPONSE;
+        }
+    }
+
+    /**
+     * WINNER response
+     * @param winner The winner
+     * @param firstScore The first team score
+     * @param secondScore The second team score
+     */
+    public record Winner(int winner, int firstScore, int secondScore) implements Message {
+        @Override
+        public String action() {
+            return NetworkProtocols.WINNER_RESPONSE;
+        }
+    }
+
+    /**
+     * SEND request with a chat message
+     * @param userId The user id
+     * @param userName The username
+     * @param message The chat message
+     */
+    public record Send(String userId, String userName, String message) implements Message {
+        @Override
+        public String action() {
+            return NetworkProtocols.SEND_ACTION;
+        }
+    }
+
+    /**
+     * Any other message, its data is a text or nothing
+     * @param action The action
+     * @param text The text or null
+     */
+    public record Text(String action, String text) implements Message {
+    }
+
+    /**
+     * Messages is not instantiated
+     */
+    private Messages() {
+    }
+}
@@ -0,0 +1,83 @@
+package utilities;
+
+/**
+ * The reasons the server rejects a move, sent in a REJECTED response.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public enum MoveError {
+    /**
+     * Another player has the turn
+     */
+    NOT_YOUR_TURN("It is not your turn."),
+    /**
+     * The tile is not in the player's hand
+     */
+    NOT_IN_HAND("You don't have that tile."),
+    /**
+     * The tile doesn't match the end it was placed on
+     */
+    NO_MATCHING_END("That tile doesn't match that end of the line."),
+    /**
+     * The player passed with a tile it could play
+     */
+    MUST_PLAY("You can't pass while you have a tile to play."),
+    /**
+     * The match is over
+     */
+    GAME_OVER("The game is over.");
+
+    /**
+     * The text shown to the player
+     */
+    private final String text;
+
+    /**
+     * Constructor for a move error
+     * @param text The text shown to the player
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    MoveError(String text) {
+        this.text = text;
+    }
+
+    /**
+     * Returns the text shown to the player
+     * @return The text
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Returns the error with a code, the code is its position in the enum
+     * @param code The code
+     * @return The error or null if the code is unknown
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static MoveError of(int code) {
+        MoveError[] errors = MoveError.values();
+        return code >= 0 && code < errors.length ? errors[code] : null;
+    }
+
+    /**
+     * Returns the error with a name
+     * @param name The name
+     * @return The error or null if the name is unknown
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static MoveError of(String name) {
+        for(MoveError error : MoveError.values()) {
+            if(error.name().equals(name)) {
+                return error;
+            }
+        }
+        return null;
+    }
+}
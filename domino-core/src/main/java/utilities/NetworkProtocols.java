@@ -0,0 +1,239 @@
+package utilities;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Dictionary class to store all the communications.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 03/31/2023
+ */
+public class NetworkProtocols {
+    /**
+     * Static PORT to use during the communication.
+     */
+    public static int PORT = 9876;
+    /**
+     * Static host to connect to the server
+     */
+    public static String HOST = "localhost";
+    /**
+     * Protocol version: a new object stream is created for every message
+     */
+    public static final int LEGACY_PROTOCOL_VERSION = 1;
+    /**
+     * Protocol version: each connection keeps one object stream per direction
+     */
+    public static final int STREAM_PROTOCOL_VERSION = 2;
+    /**
+     * Protocol version: moves are sent as PLAYER_MOVED with a sequence number instead of the whole line
+     */
+    public static final int DELTA_PROTOCOL_VERSION = 3;
+    /**
+     * Protocol version: the server pings quiet connections and the client answers with a PONG
+     */
+    public static final int HEARTBEAT_PROTOCOL_VERSION = 4;
+    /**
+     * Protocol version: the client counts the table events and reconnects with RESUME to get the ones it missed,
+     * see {@link #isTableEvent(String)}
+     */
+    public static final int RESUME_PROTOCOL_VERSION = 5;
+    /**
+     * Protocol version: an illegal move is answered with REJECTED and the reason, see {@link MoveError}
+     */
+    public static final int VALIDATION_PROTOCOL_VERSION = 6;
+    /**
+     * The highest protocol version this build can speak
+     */
+    public static final int PROTOCOL_VERSION = VALIDATION_PROTOCOL_VERSION;
+    /**
+     * Codec: JSON strings sent through object streams
+     */
+    public static final String JSON_CODEC = "json";
+    /**
+     * Codec: length-prefixed binary frames, see {@link BinaryProtocol}
+     */
+    public static final String BINARY_CODEC = "binary";
+    /**
+     * The codec the client asks for when logging in
+     */
+    public static String CODEC = BINARY_CODEC;
+    /**
+     * Action: LOGIN
+     */
+    public static final String LOGIN_ACTION = "LOGIN";
+    /**
+     * Action: ERROR
+     */
+    public static final String ERROR_ACTION = "ERROR";
+    /**
+     * Action: PLAY_CHIP_ACTION
+     */
+    public static final String PLAY_CHIP_ACTION = "PLAY_CHIP";
+    /**
+     * Action: LOGOUT
+     */
+    public static final String LOGOUT_ACTION = "LOGOUT";
+    /**
+     * Action: SEND_ACTION
+     */
+    public static final String SEND_ACTION = "SEND";
+    /**
+     * Action: PASS_ACTION
+     */
+    public static final String PASS_ACTION = "PASS";
+    /**
+     * Action: RESYNC_ACTION, asks for the LINE after a missed move
+     */
+    public static final String RESYNC_ACTION = "RESYNC";
+    /**
+     * Action: PONG_ACTION, answers a PING
+     */
+    public static final String PONG_ACTION = "PONG";
+    /**
+     * Action: RESUME_ACTION, logs in again after a dropped connection with the number of the last table event received
+     */
+    public static final String RESUME_ACTION = "RESUME";
+
+    /**
+     * Response: SAME USER
+     */
+    public static final String SAME_USER_RESPONSE = "SAME_USER";
+    /**
+     * Response: GAME_READY_RESPONSE
+     */
+    public static final String GAME_READY_RESPONSE = "GAME_READY";
+    /**
+     * Response: PLAYER_PLAYED_RESPONSE
+     */
+    public static final String PLAYER_PLAYED_RESPONSE = "PLAYER_PLAYED";
+    /**
+     * Response: PLAYER_MOVED_RESPONSE
+     */
+    public static final String PLAYER_MOVED_RESPONSE = "PLAYER_MOVED";
+    /**
+     * Response: LINE_RESPONSE
+     */
+    public static final String LINE_RESPONSE = "LINE";
+    /**
+     * Response: MESSAGE_RECEIVED_RESPONSE
+     */
+    public static final String MESSAGE_RECEIVED_RESPONSE = "MESSAGE_RECEIVED";
+    /**
+     * Response: PLAYER_TURN_RESPONSE
+     */
+    public static final String PLAYER_TURN_RESPONSE = "PLAYER_TURN";
+
+    /**
+     * Response: WINNER_RESPONSE
+     */
+    public static final String WINNER_RESPONSE = "WINNER";
+    /**
+     * Response: PROTOCOL_RESPONSE
+     */
+    public static final String PROTOCOL_RESPONSE = "PROTOCOL";
+    /**
+     * Response: PING_RESPONSE, asks a quiet client to show it is still there
+     */
+    public static final String PING_RESPONSE = "PING";
+    /**
+     * Response: RESUMED_RESPONSE, the number of the table event the client is at, the next events follow it
+     */
+    public static final String RESUMED_RESPONSE = "RESUMED";
+    /**
+     * Response: REJECTED_RESPONSE, the move was illegal, the hand and the line follow
+     */
+    public static final String REJECTED_RESPONSE = "REJECTED";
+
+    /**
+     * Server NAME
+     */
+    public static final String SERVER_NAME = "SERVER";
+    /**
+     * Tells whether a response is a table event.
+     * The table events sent to a seat are numbered from 1 in the order they are sent, a client counts them to know
+     * the number of the last one it got.
+     * @param action The response action
+     * @return True for GAME_READY, PLAYER_PLAYED, PLAYER_MOVED, LINE, PLAYER_TURN and WINNER
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static boolean isTableEvent(String action) {
+        switch (action) {
+            case GAME_READY_RESPONSE:
+            case PLAYER_PLAYED_RESPONSE:
+            case PLAYER_MOVED_RESPONSE:
+            case LINE_RESPONSE:
+            case PLAYER_TURN_RESPONSE:
+            case WINNER_RESPONSE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Checks if a string is an IP Address V4
+     * @param address The string to check if it is an IP address
+     * @return True if the string is an IP address and False otherwise
+     * @author Dario Urdapilleta
+     * @since 03/31/2023
+     */
+    public static boolean isValidIPAddress(String address) {
+        String regex = "^(([0-9]|[1-9][0-9]|1[0-9][0-9]|2[0-4][0-9]|25[0-5])(\\.(?!$)|$)){4}$";
+        Pattern pattern = Pattern.compile(regex);
+        Matcher matcher = pattern.matcher(address);
+        return matcher.matches();
+    }
+
+    /**
+     * Negotiates the protocol version to use with a peer
+     * @param requested The version requested by the peer, or a value lower than 1 if it did not send one
+     * @return The highest version both sides can speak
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static int negotiateVersion(int requested) {
+        if(requested < LEGACY_PROTOCOL_VERSION) {
+            return LEGACY_PROTOCOL_VERSION;
+        }
+        return Math.min(requested, PROTOCOL_VERSION);
+    }
+
+    /**
+     * Negotiates the codec to use with a peer
+     * @param requested The codec requested by the peer, or null if it did not send one
+     * @return The codec to use
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static String negotiateCodec(String requested) {
+        return BINARY_CODEC.equals(requested) ? BINARY_CODEC : JSON_CODEC;
+    }
+
+    /**
+     * Loads the host, port and optional codec from a file.
+     * @author Dario Urdapilleta
+     * @since 03/31/2023
+     */
+    public static void loadFromFile() throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(NetworkProtocols.class.getClassLoader().getResourceAsStream("config.dat")));
+        if(reader.ready()) {
+            NetworkProtocols.HOST = reader.readLine();
+        }
+        if(reader.ready()) {
+            NetworkProtocols.PORT = Integer.parseInt(reader.readLine());
+        }
+        if(reader.ready()) {
+            NetworkProtocols.CODEC = reader.readLine().trim();
+        }
+    }
+}
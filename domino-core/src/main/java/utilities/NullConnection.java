@@ -0,0 +1,72 @@
+package utilities;
+
+/**
+ * A connection that drops everything, for players that are never heard from such as the ones of the tests and the
+ * benchmarks. Extend it to keep only the messages that matter.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class NullConnection implements Connection {
+    /**
+     * The connection, it keeps no state
+     */
+    public static final NullConnection INSTANCE = new NullConnection();
+
+    /**
+     * Constructor for the connection, use {@link #INSTANCE} unless a message must be kept
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    protected NullConnection() {
+    }
+
+    /**
+     * Drops a JSON message
+     * @param message The message to send
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Override
+    public void sendMessage(String message) {
+    }
+
+    /**
+     * Drops a binary frame
+     * @param frame The frame to send
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Override
+    public void sendFrame(Frame frame) {
+    }
+
+    /**
+     * Ignores the protocol version
+     * @param protocolVersion The protocol version
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Override
+    public void setProtocolVersion(int protocolVersion) {
+    }
+
+    /**
+     * Ignores the codec
+     * @param codec The codec
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Override
+    public void setCodec(String codec) {
+    }
+
+    /**
+     * Does nothing, there's nothing to close
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Override
+    public void close() {
+    }
+}
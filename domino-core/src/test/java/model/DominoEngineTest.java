@@ -0,0 +1,205 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the bitmask game engine, checked against the tile lists of {@link DominoLine} and {@link DominoHand}.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class DominoEngineTest {
+    /**
+     * The number of random games played against the tile lists
+     */
+    private static final int GAMES = 20_000;
+    /**
+     * The number of tiles in a hand
+     */
+    private static final int HAND_SIZE = DominoEngine.TILE_COUNT / DominoEngine.PLAYER_COUNT;
+
+    /**
+     * Every tile has its own bit and its values come back in either order
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void numbersEveryTileOnce() {
+        int seen = 0;
+        for(int first = 0; first <= DominoEngine.MAX_PIPS; first++) {
+            for(int second = 0; second <= DominoEngine.MAX_PIPS; second++) {
+                int tile = DominoEngine.tileOf(first, second);
+                assertEquals(tile, DominoEngine.tileOf(second, first));
+                assertEquals(Math.max(first, second), DominoEngine.high(tile));
+                assertEquals(Math.min(first, second), DominoEngine.low(tile));
+                assertEquals(first == second, DominoEngine.isDouble(tile));
+                seen |= 1 << tile;
+            }
+        }
+        assertEquals(DominoEngine.ALL_TILES, seen);
+        assertEquals(DominoEngine.ALL_TILES, DominoEngine.maskOf(DominoEngine.chipsOf(DominoEngine.ALL_TILES)));
+        assertEquals(7 * 6 * 8 / 2, DominoEngine.pipCountOf(DominoEngine.ALL_TILES));
+    }
+
+    /**
+     * The first game opens with the double six, later games with any tile
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void opensTheFirstGameWithTheDoubleSix() {
+        int[] hands = new int[DominoEngine.PLAYER_COUNT];
+        hands[0] = 1 << DominoEngine.DOUBLE_SIX | 1 << DominoEngine.tileOf(6, 5);
+        DominoEngine engine = new DominoEngine(hands);
+
+        assertEquals(1 << DominoEngine.DOUBLE_SIX, engine.legalMoves(0, GameContext.FIRST_GAME));
+        assertEquals(hands[0], engine.legalMoves(0, GameContext.NEXT_GAME));
+        assertEquals(0, engine.holderOf(DominoEngine.DOUBLE_SIX));
+
+        engine.play(0, 6, 6, true);
+        assertEquals(6, engine.getFirstEnd());
+        assertEquals(6, engine.getLastEnd());
+        assertEquals(1 << DominoEngine.tileOf(6, 5), engine.legalMoves(0, GameContext.FIRST_GAME));
+        assertFalse(engine.isLegal(0, DominoEngine.DOUBLE_SIX, true, GameContext.FIRST_GAME));
+    }
+
+    /**
+     * The first tile of a mask is the first chip its hand lists
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void picksTheFirstTileTheHandLists() {
+        int mask = 1 << DominoEngine.tileOf(4, 2) | 1 << DominoEngine.tileOf(6, 1) | 1 << DominoEngine.tileOf(3, 3);
+        DominoChip first = DominoEngine.chipsOf(mask).get(0);
+
+        assertEquals(DominoEngine.tileOf(first), DominoEngine.first(mask));
+        assertEquals(DominoEngine.tileOf(6, 1), DominoEngine.heaviest(mask));
+    }
+
+    /**
+     * Plays random games on the engine and on the tile lists side by side, the legal moves, the ends of the line,
+     * the hands and the blocked games must always agree
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void agreesWithTheTileLists() {
+        for(int game = 0; game < GAMES; game++) {
+            this.playBoth(new Random(game), game);
+        }
+    }
+
+    /**
+     * Plays one random game on the engine and on the tile lists
+     * @param random The random generator of the game
+     * @param game The game number, for the failure messages
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void playBoth(Random random, int game) {
+        GameContext context = GameContext.of(random.nextBoolean());
+        int[] masks = DominoEngineTest.deal(random);
+        List<DominoHand> hands = new ArrayList<DominoHand>();
+        for(int player = 0; player < DominoEngine.PLAYER_COUNT; player++) {
+            hands.add(new DominoHand(DominoEngine.chipsOf(masks[player])));
+        }
+        DominoEngine engine = new DominoEngine(masks);
+        DominoLine line = new DominoLine();
+        int player = context.firstGame() ? engine.holderOf(DominoEngine.DOUBLE_SIX) : random.nextInt(DominoEngine.PLAYER_COUNT);
+        int passes = 0;
+        int last = -1;
+        while(passes < DominoEngine.PLAYER_COUNT && (last < 0 || engine.getTilesLeft(last) > 0)) {
+            // The legal moves of the line
+            List<DominoChip> legal = new ArrayList<DominoChip>();
+            for(DominoChip chip : hands.get(player).getChips()) {
+                if(line.canPlay(chip, context)) {
+                    legal.add(chip);
+                }
+            }
+            assertEquals(DominoEngine.maskOf(legal), engine.legalMoves(player, context), "game " + game);
+            if(legal.isEmpty()) {
+                passes++;
+                player = (player + 1) % DominoEngine.PLAYER_COUNT;
+                continue;
+            }
+            passes = 0;
+
+            // Play a random legal tile on a random end it fits, in a random direction
+            DominoChip chip = legal.get(random.nextInt(legal.size()));
+            int tile = DominoEngine.tileOf(chip);
+            boolean first = line.canPlayFirst(chip, context);
+            boolean placeFirst = first && (!line.canPlayLast(chip, context) || random.nextBoolean());
+            assertEquals(first, engine.canPlayFirst(tile, context), "game " + game);
+            assertEquals(line.canPlayLast(chip, context), engine.canPlayLast(tile, context), "game " + game);
+            assertTrue(engine.isLegal(player, tile, placeFirst, context), "game " + game);
+            DominoChip played = random.nextBoolean() ? new DominoChip(chip.getFirst(), chip.getSecond())
+                    : new DominoChip(chip.getSecond(), chip.getFirst());
+            played.setPlaceFirst(placeFirst);
+            hands.get(player).getChips().remove(chip);
+            line.playChip(played);
+            engine.play(player, played.getFirst(), played.getSecond(), placeFirst);
+
+            // The line and the hands
+            assertEquals(line.getFirst(), engine.getFirstEnd(), "game " + game);
+            assertEquals(line.getLast(), engine.getLastEnd(), "game " + game);
+            assertEquals(line.size(), Integer.bitCount(engine.getPlayed()), "game " + game);
+            for(int hand = 0; hand < DominoEngine.PLAYER_COUNT; hand++) {
+                assertEquals(hands.get(hand).count(), engine.pipCount(hand), "game " + game);
+                assertEquals(hands.get(hand).getChips().size(), engine.getTilesLeft(hand), "game " + game);
+            }
+            last = player;
+            player = (player + 1) % DominoEngine.PLAYER_COUNT;
+        }
+        assertEquals(DominoEngineTest.nobodyCanPlay(line, hands), engine.isBlocked(), "game " + game);
+        assertTrue(passes < DominoEngine.PLAYER_COUNT || engine.isBlocked(), "game " + game);
+    }
+
+    /**
+     * Shuffles the tiles and deals them to the four players
+     * @param random The random generator of the game
+     * @return The hands as tile masks
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static int[] deal(Random random) {
+        List<Integer> tiles = new ArrayList<Integer>(DominoEngine.TILE_COUNT);
+        int[] hands = new int[DominoEngine.PLAYER_COUNT];
+        for(int tile = 0; tile < DominoEngine.TILE_COUNT; tile++) {
+            tiles.add(tile);
+        }
+        Collections.shuffle(tiles, random);
+        for(int tile = 0; tile < DominoEngine.TILE_COUNT; tile++) {
+            hands[tile / HAND_SIZE] |= 1 << tiles.get(tile);
+        }
+        return hands;
+    }
+
+    /**
+     * Tells from the tile lists whether no hand has a tile that fits the line
+     * @param line The line
+     * @param hands The hands
+     * @return True if nobody can play
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static boolean nobodyCanPlay(DominoLine line, List<DominoHand> hands) {
+        for(DominoHand hand : hands) {
+            for(DominoChip chip : hand.getChips()) {
+                if(line.canPlay(chip, GameContext.NEXT_GAME)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
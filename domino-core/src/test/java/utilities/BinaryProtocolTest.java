@@ -0,0 +1,44 @@
+package utilities;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests of the binary frames, the strings they carry and the size they can have.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class BinaryProtocolTest {
+    /**
+     * A text longer than a frame string is cut before a character and its length prefix matches what was written
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void cutsALongTextBeforeACharacter() {
+        // One byte and then two bytes per character, so the limit falls in the middle of one
+        String text = "a" + "\u00f1".repeat(BinaryProtocol.MAX_FRAME_LENGTH);
+        Frame frame = BinaryProtocol.text(BinaryProtocol.SEND, text);
+
+        String read = frame.readString();
+        assertEquals(BinaryProtocol.MAX_STRING_LENGTH - 1, frame.getPayload().length - 2);
+        assertEquals(frame.getPayload().length - 2, read.getBytes(StandardCharsets.UTF_8).length);
+        assertEquals(text.substring(0, read.length()), read);
+    }
+
+    /**
+     * A frame whose length doesn't fit in its prefix is never made
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void refusesAFrameThatIsTooLong() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new Frame(BinaryProtocol.LINE, new byte[BinaryProtocol.MAX_FRAME_LENGTH]));
+    }
+}
@@ -0,0 +1,405 @@
+package model;
+
+import utilities.JsonCodec;
+import utilities.MoveError;
+
+import java.util.Arrays;
+
+/**
+ * Model for a Domino Game for the server.
+ * It keeps the rules and the state of the game, the table it is played at sends the messages to the players.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 04/06/2023
+ */
+public class DominoServerGame {
+    /**
+     * The starting team enum
+     */
+    public enum StartingPlayer { PLAYER_1, PLAYER_2, PLAYER_3, PLAYER_4, FIRST_GAME }
+    /**
+     * The tile set
+     */
+    private DominoTiles tiles;
+    /**
+     * The Domino Game line, the tiles encoded with the end they went on in the order they were played
+     */
+    private final byte[] line;
+    /**
+     * The number of tiles on the line, written after the tile so a reader never sees a tile that isn't there
+     */
+    private volatile int lineLength;
+    /**
+     * The hands and the board ends, used for the legality and the scores
+     */
+    private DominoEngine engine;
+    /**
+     * The game status
+     */
+    private boolean gameEnded;
+    /**
+     * The winning player
+     */
+    private int gameWinner;
+    /**
+     * The first team score
+     */
+    private int firstTeamScore;
+    /**
+     * The second team score
+     */
+    private int secondTeamScore;
+    /**
+     * The player that started the game
+     */
+    public int startedThisGame;
+    /**
+     * The rules of the current game
+     */
+    private GameContext context;
+    /**
+     * Times players have passed in a row
+     */
+    public int timesPassed;
+    /**
+     * The player whose turn it is, -1 before the first turn
+     */
+    private volatile int turn = -1;
+    /**
+     * The strategy of each seat when a CPU player has it
+     */
+    private final CpuStrategy[] strategies;
+
+    /**
+     * Constructor for the Domino Game
+     * @param strategies The strategy of each seat when a CPU player has it
+     * @author Dario Urdapilleta
+     * @since 04/06/2023
+     */
+    public DominoServerGame(CpuStrategy[] strategies) {
+        this.strategies = strategies.clone();
+        tiles = new DominoTiles();
+        line = new byte[DominoEngine.TILE_COUNT];
+        firstTeamScore = 0;
+        secondTeamScore = 0;
+        context = GameContext.FIRST_GAME;
+    }
+
+    /**
+     * Starts a new Domino Game
+     * @param startingPlayer The starting player
+     * @param context The rules of the new game
+     * @return the starting player
+     * @author Dario Urdapilleta
+     * @since 04/11/2023
+     */
+    public int startNewGame(StartingPlayer startingPlayer, GameContext context) {
+        int hand, nextPlayer;
+        int[] dealt = new int[DominoEngine.PLAYER_COUNT];
+        this.gameEnded = false;
+        this.gameWinner = -1;
+        this.context = context;
+        timesPassed = 0;
+
+        // Empty the line
+        lineLength = 0;
+
+        // Shuffle and deal the tiles
+        tiles.shuffle();
+        for(hand = 0; hand < DominoEngine.PLAYER_COUNT; hand++) {
+            dealt[hand] = tiles.getHand();
+        }
+        engine = new DominoEngine(dealt);
+
+        // Find the first player
+        if(startingPlayer == StartingPlayer.FIRST_GAME) {
+            nextPlayer = engine.holderOf(DominoEngine.DOUBLE_SIX);
+        } else {
+            nextPlayer = startingPlayer.ordinal();
+        }
+
+        this.startedThisGame = nextPlayer;
+
+        return nextPlayer;
+    }
+
+    /**
+     * Returns the player whose turn it is, human or CPU
+     * @return The player position or -1 before the first turn
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int getTurn() {
+        return turn;
+    }
+
+    /**
+     * Gives the turn to a player, the table tells a human player it is their turn
+     * @param player The player position
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void setTurn(int player) {
+        this.turn = player;
+    }
+
+    /**
+     * Returns the specified hand
+     * @param position The hand position in the array.
+     * @return A copy of the player's hand in the specified position.
+     * @author Dario Urdapilleta
+     * @since 04/11/2023
+     */
+    public DominoHand getHand (int position) {
+        return new DominoHand(DominoEngine.chipsOf(engine.getHand(position)));
+    }
+
+    /**
+     * Returns the tiles of a hand
+     * @param position The player position
+     * @return The encoded tiles
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public byte[] getHandAsBytes (int position) {
+        return DominoEngine.asBytes(engine.getHand(position));
+    }
+
+    /**
+     * Returns the number of tiles left in a hand
+     * @param position The player position
+     * @return The number of tiles
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int getTilesLeft (int position) {
+        return engine.getTilesLeft(position);
+    }
+
+    /**
+     * Returns the game state, for the CPU players to look ahead
+     * @return The engine of the current game
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public DominoEngine getEngine () {
+        return engine;
+    }
+
+    /**
+     * Makes a CPU play with the strategy of the seat
+     * @param player The player position
+     * @return The tile played and its end, or null if passed
+     * @author Dario Urdapilleta
+     * @since 04/11/2023
+     */
+    public DominoPlacement makePlay(int player) {
+        DominoPlacement placement;
+        int move = strategies[player].choose(engine, player, context);
+        if(!this.isLegal(move, player)) {
+            // A strategy is not trusted more than a player, the seat falls back to the first tile that fits
+            System.out.println("SERVER: The " + strategies[player].getName() + " strategy made an illegal move, player " + player + " plays the first tile that fits.");
+            move = FirstFitStrategy.INSTANCE.choose(engine, player, context);
+        }
+        if(move == CpuStrategy.PASS) {
+            return null;
+        }
+        placement = DominoPlacement.of(DominoTile.of(CpuStrategy.tileOf(move)), CpuStrategy.placesFirst(move));
+        this.playChip(placement, player);
+        if(engine.getTilesLeft(player) <= 0) {
+            this.victory(player);
+        }
+        return placement;
+    }
+
+    /**
+     * Checks a move picked by a CPU strategy
+     * @param move The move or {@link CpuStrategy#PASS}
+     * @param player The player position
+     * @return True if the tile fits its end, or the player passed with nothing to play
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private boolean isLegal(int move, int player) {
+        if(move == CpuStrategy.PASS) {
+            return engine.legalMoves(player, context) == 0;
+        }
+        return engine.isLegal(player, CpuStrategy.tileOf(move), CpuStrategy.placesFirst(move), context);
+    }
+
+    /**
+     * Records a pass, the CPU strategies learn the values the player doesn't have
+     * @param player The player position
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void pass(int player) {
+        engine.pass(player);
+    }
+
+    /**
+     * Performs the necessary steps when a player wins
+     * @param player The player's position
+     * @author Dario Urdapilleta
+     * @since 04/12/2023
+     */
+    public void victory(int player) {
+        this.gameEnded = true;
+        this.gameWinner = player;
+        if(player == 0 || player == 2) {
+            firstTeamScore += engine.pipCount(1) + engine.pipCount(3);
+        } else {
+            secondTeamScore += engine.pipCount(2) + engine.pipCount(0);
+        }
+    }
+
+    /**
+     * Performs the necessary steps when a game is closed
+     * @author Dario Urdapilleta
+     * @since 04/12/2023
+     */
+    public void isClosed() {
+        int firstTeamCount = engine.pipCount(1) + engine.pipCount(3);
+        int secondTeamCount = engine.pipCount(2) + engine.pipCount(0);
+        if(firstTeamCount > secondTeamCount ) {
+            this.victory(0);
+        } else if (secondTeamCount > firstTeamCount) {
+            this.victory(1);
+        } else {
+            this.victory(this.startedThisGame);
+        }
+    }
+
+    /**
+     * Indicates ig the current game is over
+     * @return True if the game is over
+     * @author Dario Urdapilleta
+     * @since 04/12/2023
+     */
+    public boolean hasEnded() {
+        return this.gameEnded;
+    }
+
+    /**
+     * Returns the winning player
+     * @return The winning player
+     * @author Dario Urdapilleta
+     * @since 04/12/2023
+     */
+    public int getWinner() {
+        return this.gameWinner;
+    }
+
+    /**
+     * Returns the current first team score
+     * @return the first team score
+     * @author Dario Urdapilleta
+     * @since 04/12/2023
+     */
+    public int getFirstTeamScore () {
+        return this.firstTeamScore;
+    }
+
+    /**
+     * Returns the current second team score
+     * @return the second team score
+     * @author Dario Urdapilleta
+     * @since 04/12/2023
+     */
+    public int getSecondTeamScore () {
+        return this.secondTeamScore;
+    }
+
+    /**
+     * Performs a specific play
+     * @param placement The tile to play and its end
+     * @param player The player
+     * @return False if the tile is not in the player's hand
+     * @author Dario Urdapilleta
+     * @since 04/11/2023
+     */
+    public boolean playChip (DominoPlacement placement, int player) {
+        int length = lineLength;
+        if((engine.getHand(player) & placement.tile().getMask()) == 0) {
+            return false;
+        }
+        engine.play(player, placement.tile().getIndex(), placement.placeFirst());
+        line[length] = placement.asByte();
+        lineLength = length + 1;
+        return true;
+    }
+
+    /**
+     * Checks a tile sent by a player, each check is a test against the masks of the engine
+     * @param placement The tile with the end it is placed on
+     * @param player The player position
+     * @return The reason the tile can't be played, or null if it can
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public MoveError checkPlay(DominoPlacement placement, int player) {
+        if(gameEnded) {
+            return MoveError.GAME_OVER;
+        }
+        if(turn != player) {
+            return MoveError.NOT_YOUR_TURN;
+        }
+        if((engine.getHand(player) & placement.tile().getMask()) == 0) {
+            return MoveError.NOT_IN_HAND;
+        }
+        if(!engine.isLegal(player, placement.tile().getIndex(), placement.placeFirst(), context)) {
+            return MoveError.NO_MATCHING_END;
+        }
+        return null;
+    }
+
+    /**
+     * Checks a pass sent by a player
+     * @param player The player position
+     * @return The reason the player can't pass, or null if it can
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public MoveError checkPass(int player) {
+        if(gameEnded) {
+            return MoveError.GAME_OVER;
+        }
+        if(turn != player) {
+            return MoveError.NOT_YOUR_TURN;
+        }
+        if(engine.legalMoves(player, context) != 0) {
+            return MoveError.MUST_PLAY;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of tiles on the line
+     * @return The number of tiles
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int getLineLength () {
+        return lineLength;
+    }
+
+    /**
+     * Returns a copy of the line
+     * @return The encoded tiles in the order they were played
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public byte[] getLineAsBytes () {
+        return Arrays.copyOf(line, lineLength);
+    }
+
+    /**
+     * Returns the line as Json
+     * @return The line as a JSON
+     * @author Dario Urdapilleta
+     * @since 04/11/2023
+     */
+    public String getLineAsJson () {
+        return JsonCodec.tilesAsJson(this.getLineAsBytes());
+    }
+}
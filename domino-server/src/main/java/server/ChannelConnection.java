@@ -0,0 +1,374 @@
+package server;
+
+import utilities.Frame;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+
+/**
+ * A non-blocking player connection served by an {@link EventLoop}.
+ * It decodes the same wire formats as {@link model.DominoPlayer}: serialized strings, with a stream header per
+ * message or a single one per connection, and binary frames once they are agreed at login.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class ChannelConnection extends QueuedConnection {
+    /**
+     * The largest message accepted from a client
+     */
+    private static final int MAX_MESSAGE_LENGTH = 64 * 1024;
+    /**
+     * The initial size of the read buffer, it grows for bigger messages
+     */
+    private static final int INITIAL_BUFFER_SIZE = 512;
+    /**
+     * Serialization stream magic and version
+     */
+    private static final int STREAM_MAGIC = 0xACED0005;
+    /**
+     * Serialization type code: the first byte of the stream header
+     */
+    private static final int TC_HEADER = 0xAC;
+    /**
+     * Serialization type code: reset
+     */
+    private static final int TC_RESET = 0x79;
+    /**
+     * Serialization type code: string
+     */
+    private static final int TC_STRING = 0x74;
+    /**
+     * Serialization type code: long string
+     */
+    private static final int TC_LONGSTRING = 0x7C;
+    /**
+     * The most queued messages written with a single call
+     */
+    private static final int WRITE_BATCH = 16;
+    /**
+     * The socket channel
+     */
+    private final SocketChannel channel;
+    /**
+     * The loop that serves this connection
+     */
+    private final EventLoop loop;
+    /**
+     * The selection key, set once the channel is registered
+     */
+    private SelectionKey key;
+    /**
+     * The bytes received and not decoded yet
+     */
+    private ByteBuffer input;
+    /**
+     * The buffers handed to a single gathering write
+     */
+    private final ByteBuffer[] writing;
+
+    /**
+     * Constructor for the channel connection
+     * @param channel The accepted socket channel
+     * @param loop The loop that serves this connection
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public ChannelConnection(SocketChannel channel, EventLoop loop) {
+        super();
+        this.channel = channel;
+        this.loop = loop;
+        this.input = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+        this.writing = new ByteBuffer[WRITE_BATCH];
+    }
+
+    /**
+     * Registers the channel in the loop selector, must run on the loop thread
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void register() {
+        try {
+            this.key = channel.register(loop.getSelector(), SelectionKey.OP_READ, this);
+
+            // Write anything queued before the channel was registered
+            this.flush();
+        } catch (IOException e) {
+            this.disconnected();
+        }
+    }
+
+    /**
+     * Reads the available bytes and handles every complete message, must run on the loop thread
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void read() {
+        int count;
+        try {
+            count = channel.read(input);
+        } catch (IOException e) {
+            count = -1;
+        }
+        if(count < 0) {
+            this.disconnected();
+            return;
+        }
+
+        // Handle every complete message
+        input.flip();
+        try {
+            while(open && this.decode()) {
+                // Keep decoding
+            }
+        } catch (IOException e) {
+            System.out.println("SERVER: Thread: " + handler.threadNumber + ". ERROR reading the stream: " + e.getMessage());
+            this.disconnected();
+            return;
+        }
+        input.compact();
+
+        // Make room for a message bigger than the buffer
+        if(!input.hasRemaining()) {
+            if(input.capacity() >= MAX_MESSAGE_LENGTH + 16) {
+                System.out.println("SERVER: Thread: " + handler.threadNumber + ". ERROR message too long.");
+                this.disconnected();
+                return;
+            }
+            ByteBuffer bigger = ByteBuffer.allocate(Math.min(input.capacity() * 2, MAX_MESSAGE_LENGTH + 16));
+            input.flip();
+            bigger.put(input);
+            input = bigger;
+        }
+    }
+
+    /**
+     * Decodes and handles the next message in the input buffer
+     * @return True if something was consumed and false if more bytes are needed
+     * @throws IOException If the bytes don't follow the agreed format
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private boolean decode() throws IOException {
+        int position = input.position();
+        int available = input.remaining();
+        int length;
+
+        // Binary frames: two byte length, opcode and payload
+        if(binary) {
+            if(available < 2) {
+                return false;
+            }
+            length = input.getShort(position) & 0xFFFF;
+            if(length < 1) {
+                throw new StreamCorruptedException("Frame without opcode");
+            }
+            if(available < 2 + length) {
+                return false;
+            }
+            byte[] payload = new byte[length - 1];
+            input.position(position + 3);
+            input.get(payload);
+            this.dispatch(new Frame(input.get(position + 2), payload));
+            return true;
+        }
+
+        // Serialized strings
+        if(available < 1) {
+            return false;
+        }
+        switch (input.get(position) & 0xFF) {
+            case TC_HEADER:
+                if(available < 4) {
+                    return false;
+                }
+                if(input.getInt(position) != STREAM_MAGIC) {
+                    throw new StreamCorruptedException("Invalid stream header");
+                }
+                input.position(position + 4);
+                return true;
+            case TC_RESET:
+                input.position(position + 1);
+                return true;
+            case TC_STRING:
+                if(available < 3) {
+                    return false;
+                }
+                length = input.getShort(position + 1) & 0xFFFF;
+                if(available < 3 + length) {
+                    return false;
+                }
+                String message = decodeString(input, position + 3, length);
+                input.position(position + 3 + length);
+                this.dispatch(message);
+                return true;
+            case TC_LONGSTRING:
+                if(available < 9) {
+                    return false;
+                }
+                long longLength = input.getLong(position + 1);
+                if(longLength < 0 || longLength > MAX_MESSAGE_LENGTH) {
+                    throw new StreamCorruptedException("Message too long");
+                }
+                if(available < 9 + longLength) {
+                    return false;
+                }
+                String longMessage = decodeString(input, position + 9, (int)longLength);
+                input.position(position + 9 + (int)longLength);
+                this.dispatch(longMessage);
+                return true;
+            default:
+                throw new StreamCorruptedException("Unexpected type code " + (input.get(position) & 0xFF));
+        }
+    }
+
+    /**
+     * Hands a JSON message to the player thread
+     * @param message The message
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void dispatch(String message) {
+        try {
+            handler.handleJson(message);
+        } catch (RuntimeException e) {
+            System.out.println("SERVER: Thread: " + handler.threadNumber + ". ERROR handling the message: " + e);
+            this.disconnected();
+        }
+    }
+
+    /**
+     * Hands a binary frame to the player thread
+     * @param frame The frame
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void dispatch(Frame frame) {
+        try {
+            handler.handleFrame(frame);
+        } catch (RuntimeException e) {
+            System.out.println("SERVER: Thread: " + handler.threadNumber + ". ERROR handling the frame: " + e);
+            this.disconnected();
+        }
+    }
+
+    /**
+     * Asks the loop to write the queue, the messages queued until it runs go out together
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    protected void scheduleFlush() {
+        loop.execute(this::flush);
+    }
+
+    /**
+     * Writes as many queued bytes as the socket takes, must run on the loop thread
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void flush() {
+        ByteBuffer bytes;
+        int count;
+        if(!open || key == null) {
+            return;
+        }
+        try {
+            while((count = output.peek(writing)) > 0) {
+                // Hand a batch of messages to a single write, the first one may be partly written already
+                channel.write(writing, 0, count);
+                while((bytes = output.peek()) != null && !bytes.hasRemaining()) {
+                    output.poll();
+                }
+                if(writing[count - 1].hasRemaining()) {
+                    // The socket is full, wait until it can take more
+                    Arrays.fill(writing, null);
+                    key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                    return;
+                }
+            }
+            Arrays.fill(writing, null);
+            key.interestOps(SelectionKey.OP_READ);
+            this.flushed();
+        } catch (IOException e) {
+            this.disconnected();
+        }
+    }
+
+    /**
+     * Closes the connection of a client that fell behind
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    protected void slowClientDropped() {
+        loop.execute(this::disconnected);
+    }
+
+    /**
+     * Closes the connection
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void close() {
+        this.open = false;
+        if(key != null) {
+            key.cancel();
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            System.out.println("SERVER: Thread: " + handler.threadNumber + ". ERROR closing the channel: " + e.getMessage());
+        }
+        output.clear();
+    }
+
+    /**
+     * Closes the connection and lets the server know the player is gone
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void disconnected() {
+        if(open) {
+            // The player thread closes the connection and gives back the session and the seat
+            handler.terminate();
+        }
+    }
+
+    /**
+     * Decodes a string written with the modified UTF-8 of the serialization streams
+     * @param buffer The buffer
+     * @param start The index of the first byte
+     * @param length The number of bytes
+     * @return The string
+     * @throws UTFDataFormatException If the bytes are not valid modified UTF-8
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static String decodeString(ByteBuffer buffer, int start, int length) throws UTFDataFormatException {
+        char[] chars = new char[length];
+        int count = 0;
+        int index = start;
+        int end = start + length;
+        int first, second, third;
+        while(index < end) {
+            first = buffer.get(index++) & 0xFF;
+            if(first < 0x80) {
+                chars[count++] = (char)first;
+            } else if((first & 0xE0) == 0xC0 && index < end) {
+                second = buffer.get(index++) & 0xFF;
+                chars[count++] = (char)(((first & 0x1F) << 6) | (second & 0x3F));
+            } else if((first & 0xF0) == 0xE0 && index + 1 < end) {
+                second = buffer.get(index++) & 0xFF;
+                third = buffer.get(index++) & 0xFF;
+                chars[count++] = (char)(((first & 0x0F) << 12) | ((second & 0x3F) << 6) | (third & 0x3F));
+            } else {
+                throw new UTFDataFormatException("Invalid byte " + first);
+            }
+        }
+        return new String(chars, 0, count);
+    }
+}
@@ -0,0 +1,281 @@
+package server;
+
+
+import model.GameContext;
+import utilities.JsonCodec;
+import utilities.NetworkProtocols;
+
+import java.io.*;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Main class of the Domino Game for the Server.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 03/31/2023
+ */
+public class DominoServer{
+    /**
+     * The Server socket used for the communication.
+     */
+    private ServerSocket server = null;
+    /**
+     * The connected threads
+     */
+    private static final Set<PlayerThread> connections = ConcurrentHashMap.newKeySet();
+    /**
+     * The players waiting for a game
+     */
+    private static Matchmaker matchmaker;
+    /**
+     * The signed in users
+     */
+    private static SessionRegistry sessions;
+    /**
+     * Runs the tables
+     */
+    private static TableHost tables;
+    /**
+     * Pings the quiet connections and closes the dead ones
+     */
+    private static IdleReaper reaper;
+    /**
+     * Runs the matchmaking and session timers
+     */
+    private static ScheduledExecutorService timer;
+    /**
+     * How often the queues are checked for players that waited too long, in milliseconds
+     */
+    private static final long MATCHMAKING_TICK_MS = 250;
+    /**
+     * How often the sessions of players that didn't come back are removed, in seconds
+     */
+    private static final long SESSION_PURGE_S = 5;
+    /**
+     * Max number of threads
+     */
+    static final int MAX_THREADS = 45;
+    /**
+     * Connections the operating system may queue before they are accepted
+     */
+    static final int ACCEPT_BACKLOG = 1024;
+
+    /**
+     * Main method that contains the chat's main functionality.
+     * @author Dario Urdapilleta
+     * @since 03/31/2023
+     */
+    public static void startServer() {
+
+        // Load the host and port
+        try {
+            NetworkProtocols.loadFromFile();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        DominoServer.startTimers();
+
+        // Serve the players with the configured mode
+        if(ServerConfig.MODE == ServerConfig.Mode.EVENT_LOOP) {
+            System.out.println("SERVER: Listening on PORT: " + NetworkProtocols.PORT);
+            try {
+                new EventLoopServer(NetworkProtocols.PORT, ServerConfig.EVENT_LOOPS).start();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        } else {
+            DominoServer.startBlockingServer();
+        }
+    }
+
+    /**
+     * Creates the matchmaker and the session registry with the configured options and starts their timers
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static void startTimers() {
+        matchmaker = new Matchmaker(ServerConfig.TABLE_SIZE, ServerConfig.RATING_BAND, ServerConfig.MAX_WAIT_MS);
+        sessions = new SessionRegistry(ServerConfig.RESUME_WINDOW_S);
+        tables = new TableHost(ServerConfig.TABLE_WORKERS);
+        reaper = new IdleReaper(ServerConfig.HEARTBEAT_S, ServerConfig.IDLE_TIMEOUT_S);
+        timer = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "domino-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // Seat the players that waited too long, the batch runs on the timer thread
+        timer.scheduleWithFixedDelay(DominoServer::seatWaitingPlayers,
+                MATCHMAKING_TICK_MS, MATCHMAKING_TICK_MS, TimeUnit.MILLISECONDS);
+        timer.scheduleWithFixedDelay(sessions::purgeExpired, SESSION_PURGE_S, SESSION_PURGE_S, TimeUnit.SECONDS);
+        timer.scheduleAtFixedRate(reaper::tick, IdleReaper.TICK_MS, IdleReaper.TICK_MS, TimeUnit.MILLISECONDS);
+        if(ServerConfig.STATS_INTERVAL_S > 0) {
+            JsonCodec.setEncodeTiming(true);
+            timer.scheduleAtFixedRate(DominoServer::printStats,
+                    ServerConfig.STATS_INTERVAL_S, ServerConfig.STATS_INTERVAL_S, TimeUnit.SECONDS);
+        }
+        System.out.println("SERVER: Tables of " + ServerConfig.TABLE_SIZE + " players, CPU players join after "
+                + ServerConfig.MAX_WAIT_MS + " ms.");
+    }
+
+    /**
+     * Starts a game for every group of players that waited longer than the maximum wait
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static void seatWaitingPlayers() {
+        try {
+            for(ArrayList<PlayerThread> players : matchmaker.formExpiredTables()) {
+                tables.open(players, GameContext.FIRST_GAME);
+            }
+        } catch (RuntimeException e) {
+            // An exception would cancel the timer
+            System.out.println("SERVER: ERROR seating the waiting players: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Prints the queue depths, the matchmaking wait times and the time spent writing messages
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static void printStats() {
+        System.out.println("SERVER: Matchmaking: " + matchmaker.summary());
+        System.out.println("SERVER: Tables: " + tables.summary());
+        System.out.println("SERVER: Connections: " + reaper.summary());
+        System.out.println("SERVER: Message encoding, 1 in " + JsonCodec.ENCODE_SAMPLE_RATE + " sampled: "
+                + JsonCodec.getEncodeTimes().summary("ns"));
+    }
+
+    /**
+     * Returns the matchmaker
+     * @return The matchmaker, null before the server starts
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static Matchmaker getMatchmaker() {
+        return matchmaker;
+    }
+
+    /**
+     * Returns the session registry
+     * @return The session registry, null before the server starts
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static SessionRegistry getSessions() {
+        return sessions;
+    }
+
+    /**
+     * Accepts connections and serves each player from its own pool thread or virtual thread.
+     * @author Dario Urdapilleta
+     * @since 03/31/2023
+     */
+    private static void startBlockingServer() {
+        // Prepare the variables
+        PlayerThread thread;
+        Boolean keepGoing = true;
+        DominoServer application = new DominoServer();
+        Socket currentClient;
+        int threadNumber = 1;
+        ExecutorService executor;
+        if(ServerConfig.MODE == ServerConfig.Mode.VIRTUAL_THREADS) {
+            // A virtual thread per player, there's no ceiling on blocked sessions
+            executor = Executors.newVirtualThreadPerTaskExecutor();
+            if(ServerConfig.REPORT_PINNING) {
+                PinningMonitor.start();
+            }
+        } else {
+            executor = Executors.newFixedThreadPool(MAX_THREADS);
+        }
+        System.out.println("SERVER: Listening on PORT: " + NetworkProtocols.PORT);
+
+        try {
+            // Keep accepting connections
+            while(keepGoing) {
+                System.out.println("SERVER: waiting for the client connection ...");
+                currentClient = application.server.accept();
+                System.out.println("SERVER: Connected to client: "+ threadNumber);
+
+                // Start a new thread
+                thread = PlayerThread.forSocket(threadNumber, currentClient);
+                DominoServer.addConnection(thread);
+                executor.execute(thread);
+                threadNumber++;
+            }
+
+            // Close the server Connection
+            application.server.close();
+        } catch (IOException e) {
+            System.out.println(e.getStackTrace());
+        }
+    }
+    /**
+     * Contructor method for the BattleshipNetwork server class.
+     * @author Dario Urdapilleta
+     * @since 03/31/2023
+     */
+    public DominoServer() {
+        try {
+            this.server = new ServerSocket(NetworkProtocols.PORT, ACCEPT_BACKLOG);
+        } catch (IOException e) {
+            System.out.println(e.getStackTrace());
+        }
+    }
+
+    /**
+     * Adds a player thread to the list of connections, it is closed if it stays quiet too long
+     * @param thread The player thread
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    static void addConnection(PlayerThread thread) {
+        connections.add(thread);
+        reaper.watch(thread);
+    }
+
+    /**
+     * Checks if there's enough players to make a game after a new thread has logged in.
+     * The game may include the waiting players only, the new thread then waits for the next one.
+     * @param thread The player thread
+     * @param request The player's matchmaking preferences
+     * @param context The rules of the first game
+     * @return The table or null if not able to
+     * @author Dario Urdapilleta
+     * @since 04/06/2023
+     */
+    public static GameTable makeGame(PlayerThread thread, MatchRequest request, GameContext context) {
+        // Check if there's enough player to play, the queue hands the whole table to a single login
+        ArrayList<PlayerThread> players = matchmaker.join(thread, request);
+        return players == null ? null : tables.open(players, context);
+    }
+
+    /**
+     * Returns the table host
+     * @return The table host, null before the server starts
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static TableHost getTables() {
+        return tables;
+    }
+
+    /**
+     * Removes a thread from the player pool
+     * @param thread The thread to remove
+     * @author Dario Urdapilleta
+     * @since 04/06/2023
+     */
+    public static void remove(PlayerThread thread) {
+        matchmaker.remove(thread);
+        connections.remove(thread);
+    }
+}
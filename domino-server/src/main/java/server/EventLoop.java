@@ -0,0 +1,150 @@
+package server;
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A selector thread that serves many connections without blocking on any of them.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class EventLoop implements Runnable {
+    /**
+     * The selector
+     */
+    private final Selector selector;
+    /**
+     * Tasks submitted from other threads
+     */
+    private final Queue<Runnable> tasks;
+    /**
+     * The thread running the loop
+     */
+    private volatile Thread thread;
+    /**
+     * Keeps the status of the loop
+     */
+    private volatile boolean running;
+
+    /**
+     * Constructor for the event loop
+     * @throws IOException If the selector can't be opened
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public EventLoop() throws IOException {
+        this.selector = Selector.open();
+        this.tasks = new ConcurrentLinkedQueue<Runnable>();
+        this.running = false;
+    }
+
+    /**
+     * Returns the selector
+     * @return The selector
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public Selector getSelector() {
+        return selector;
+    }
+
+    /**
+     * Tells whether the caller is running on this loop
+     * @return True if the current thread is the loop thread
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public boolean inEventLoop() {
+        return Thread.currentThread() == thread;
+    }
+
+    /**
+     * Runs a task on the loop thread
+     * @param task The task
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void execute(Runnable task) {
+        tasks.add(task);
+        selector.wakeup();
+    }
+
+    /**
+     * Runs the loop.
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void run() {
+        this.thread = Thread.currentThread();
+        this.running = true;
+        while(running) {
+            try {
+                selector.select();
+            } catch (IOException e) {
+                System.out.println("SERVER: Event loop: " + thread.getName() + ". ERROR selecting: " + e.getMessage());
+                continue;
+            }
+            this.runTasks();
+
+            // Handle the ready keys
+            Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+            while(keys.hasNext()) {
+                SelectionKey key = keys.next();
+                keys.remove();
+                try {
+                    if(key.isAcceptable()) {
+                        // The server that accepts the connections is attached to its key
+                        ((EventLoopServer)key.attachment()).accept();
+                    } else {
+                        ChannelConnection connection = (ChannelConnection)key.attachment();
+                        if(key.isReadable()) {
+                            connection.read();
+                        }
+                        if(key.isValid() && key.isWritable()) {
+                            connection.flush();
+                        }
+                    }
+                } catch (CancelledKeyException e) {
+                    // The connection was closed while handling another key
+                }
+            }
+        }
+        try {
+            selector.close();
+        } catch (IOException e) {
+            System.out.println("SERVER: " + Thread.currentThread().getName() + ". ERROR closing the selector: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stops the loop
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void stop() {
+        this.running = false;
+        selector.wakeup();
+    }
+
+    /**
+     * Runs the tasks submitted from other threads
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void runTasks() {
+        Runnable task;
+        while((task = tasks.poll()) != null) {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                System.out.println("SERVER: Event loop: " + thread.getName() + ". ERROR running task: " + e);
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package server;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Domino server that serves every player from a small group of event loops instead of a thread per player.
+ * The game logic is the same {@link PlayerThread} used by the blocking server.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class EventLoopServer {
+    /**
+     * The server channel
+     */
+    private final ServerSocketChannel server;
+    /**
+     * The event loops
+     */
+    private final EventLoop[] loops;
+    /**
+     * The next loop to receive a connection
+     */
+    private int nextLoop;
+    /**
+     * The next thread number
+     */
+    private int threadNumber;
+
+    /**
+     * Constructor for the event loop server
+     * @param port The port to listen on
+     * @param loopCount The number of event loops
+     * @throws IOException If the port can't be opened
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public EventLoopServer(int port, int loopCount) throws IOException {
+        this.server = ServerSocketChannel.open();
+        this.server.bind(new InetSocketAddress(port), DominoServer.ACCEPT_BACKLOG);
+        this.server.configureBlocking(false);
+        this.loops = new EventLoop[loopCount];
+        for(int loop = 0; loop < loopCount; loop++) {
+            this.loops[loop] = new EventLoop();
+        }
+        this.nextLoop = 0;
+        this.threadNumber = 1;
+    }
+
+    /**
+     * Starts the loops and waits until they stop
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void start() {
+        Thread[] threads = new Thread[loops.length];
+
+        // The first loop also accepts the connections
+        try {
+            server.register(loops[0].getSelector(), SelectionKey.OP_ACCEPT, this);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        for(int loop = 0; loop < loops.length; loop++) {
+            threads[loop] = new Thread(loops[loop], "domino-loop-" + loop);
+            threads[loop].start();
+        }
+        System.out.println("SERVER: Serving with " + loops.length + " event loops.");
+
+        // Wait for the loops
+        try {
+            for(Thread thread : threads) {
+                thread.join();
+            }
+            server.close();
+        } catch (InterruptedException | IOException e) {
+            System.out.println("SERVER: ERROR stopping the event loops: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Accepts the pending connections and hands them to the loops, runs on the first loop
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    void accept() {
+        SocketChannel channel;
+        try {
+            while((channel = server.accept()) != null) {
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                System.out.println("SERVER: Connected to client: " + threadNumber);
+
+                // Create the player and register it in the next loop
+                EventLoop loop = loops[nextLoop];
+                nextLoop = (nextLoop + 1) % loops.length;
+                ChannelConnection connection = new ChannelConnection(channel, loop);
+                PlayerThread thread = new PlayerThread(threadNumber, connection);
+                connection.setHandler(thread);
+                DominoServer.addConnection(thread);
+                loop.execute(connection::register);
+                threadNumber++;
+            }
+        } catch (IOException e) {
+            System.out.println("SERVER: ERROR accepting a connection: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stops the loops
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void stop() {
+        for(EventLoop loop : loops) {
+            loop.stop();
+        }
+    }
+}
@@ -0,0 +1,740 @@
+package server;
+
+import model.DominoPlacement;
+import model.DominoPlayer;
+import model.DominoServerGame;
+import model.GameContext;
+import utilities.BinaryProtocol;
+import utilities.Frame;
+import utilities.JsonCodec;
+import utilities.Messages;
+import utilities.MoveError;
+import utilities.NetworkProtocols;
+
+import java.util.ArrayList;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * A table that hosts one match.
+ * Player actions and timers are posted to the table's mailbox and a {@link TableHost} worker runs them one at a time,
+ * so the game is only touched by one thread at a time and needs no locks.
+ * The messages sent while a batch of events runs are only queued, they are written once the batch is done.
+ * The methods that change the game are only called from the mailbox.
+ * The table sends the game's events to its players and keeps the latest ones of each seat for the players that
+ * reconnect.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class GameTable {
+    /**
+     * The most events run before the worker moves on to another table
+     */
+    private static final int EVENTS_PER_TURN = 64;
+    /**
+     * The table number
+     */
+    private final int number;
+    /**
+     * The host that runs the mailbox
+     */
+    private final TableHost host;
+    /**
+     * The game played at the table
+     */
+    private final DominoServerGame game;
+    /**
+     * The human players in their seats
+     */
+    private final ArrayList<PlayerThread> players;
+    /**
+     * The latest table events sent to each seat, for the players that reconnect
+     */
+    private final ReplayBuffer[] replays;
+    /**
+     * The events waiting to run
+     */
+    private final Queue<Runnable> mailbox;
+    /**
+     * Whether a worker has been asked to run the mailbox
+     */
+    private final AtomicBoolean scheduled;
+    /**
+     * The number of turns given, a CPU turn that waited for a turn that is gone doesn't play
+     */
+    private long turns;
+    /**
+     * The seats whose players left, a CPU player plays them until the player comes back
+     */
+    private final boolean[] away;
+    /**
+     * The seat of the human player the table is waiting for, -1 while a CPU player has the turn
+     */
+    private volatile int waitingFor = -1;
+    /**
+     * When the human player the table is waiting for was given the turn, from {@link System#nanoTime()}
+     */
+    private volatile long turnGivenAt;
+
+    /**
+     * Constructor for a table
+     * @param number The table number
+     * @param host The host that runs the mailbox
+     * @param players The human players in their seats
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    GameTable(int number, TableHost host, ArrayList<PlayerThread> players) {
+        this.number = number;
+        this.host = host;
+        this.game = new DominoServerGame(ServerConfig.cpuStrategiesOf(number));
+        this.players = players;
+        this.replays = new ReplayBuffer[players.size()];
+        for(int position = 0; position < replays.length; position++) {
+            replays[position] = new ReplayBuffer(ServerConfig.REPLAY_EVENTS);
+        }
+        this.mailbox = new ConcurrentLinkedQueue<Runnable>();
+        this.scheduled = new AtomicBoolean(false);
+        this.away = new boolean[4];
+    }
+
+    /**
+     * Returns the table number
+     * @return The table number
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int getNumber() {
+        return number;
+    }
+
+    /**
+     * Returns the game played at the table, it should only be changed from the mailbox
+     * @return The game
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public DominoServerGame getGame() {
+        return game;
+    }
+
+    /**
+     * Returns the number of events waiting to run
+     * @return The number of events
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int getPendingEvents() {
+        return mailbox.size();
+    }
+
+    /**
+     * Adds an event to the mailbox, it runs after every event posted before it
+     * @param event The event
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void post(Runnable event) {
+        mailbox.add(event);
+        if(scheduled.compareAndSet(false, true)) {
+            host.execute(this::drain);
+        }
+    }
+
+    /**
+     * Adds an event to the mailbox after a delay
+     * @param event The event
+     * @param delay The delay
+     * @param unit The unit of the delay
+     * @return The pending post, it can be cancelled
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public ScheduledFuture<?> postLater(Runnable event, long delay, TimeUnit unit) {
+        return host.schedule(() -> this.post(event), delay, unit);
+    }
+
+    /**
+     * Runs the events in the mailbox, a few at a time so a busy table doesn't hold a worker
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void drain() {
+        Runnable event;
+        int events = 0;
+
+        // The messages of the whole batch are written together once it is done
+        OutboundQueue.cork();
+        try {
+            while(events < EVENTS_PER_TURN && (event = mailbox.poll()) != null) {
+                try {
+                    event.run();
+                } catch (RuntimeException e) {
+                    // One bad event shouldn't stop the table
+                    System.out.println("SERVER: Table: " + this.number + ". ERROR handling an event: " + e);
+                }
+                events++;
+            }
+        } finally {
+            OutboundQueue.uncork();
+        }
+        scheduled.set(false);
+
+        // Events may have been posted after the last one was taken, or there were too many to run at once
+        if(!mailbox.isEmpty() && scheduled.compareAndSet(false, true)) {
+            host.execute(this::drain);
+        }
+    }
+
+    /**
+     * Deals the first game and gives the turn to the player that starts
+     * @param context The rules of the first game
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    void start(GameContext context) {
+        int startingPlayer = game.startNewGame(DominoServerGame.StartingPlayer.FIRST_GAME, context);
+        System.out.println("SERVER: Table: " + this.number + ". Started with " + players.size() + " players.");
+
+        // A player may have left while the table was being formed
+        for(int position = 0; position < players.size(); position++) {
+            away[position] = players.get(position).hasLeft();
+        }
+        this.deal(startingPlayer);
+    }
+
+    /**
+     * Plays a chip for a player
+     * @param player The player
+     * @param placement The tile with the end it is placed on, null if the client sent something else
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    void play(PlayerThread player, DominoPlacement placement) {
+        int position = player.getPlayerCounter();
+        MoveError error;
+        if(placement == null) {
+            System.out.println("SERVER: Thread: " + player.threadNumber + ". ERROR the tile can't be read.");
+            player.sendResponse(NetworkProtocols.ERROR_ACTION, "Error understanding your action.");
+            return;
+        }
+        if(!this.holdsSeat(player)) {
+            System.out.println("SERVER: Thread: " + player.threadNumber + ". The player no longer has the seat, the move is ignored.");
+            return;
+        }
+        error = game.checkPlay(placement, position);
+        if(error != null) {
+            this.reject(player, error);
+            return;
+        }
+        game.playChip(placement, position);
+
+        // Send the play to all players
+        this.sendPlayed(placement, position);
+        game.timesPassed = 0;
+
+        // Check if the player won
+        if(game.getTilesLeft(position) <= 0) {
+            game.victory(position);
+            this.endGame();
+        } else {
+            this.giveTurn((position + 1) % 4);
+        }
+    }
+
+    /**
+     * Passes a player's turn
+     * @param player The player
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    void pass(PlayerThread player) {
+        int position = player.getPlayerCounter();
+        MoveError error;
+        if(!this.holdsSeat(player)) {
+            System.out.println("SERVER: Thread: " + player.threadNumber + ". The player no longer has the seat, the pass is ignored.");
+            return;
+        }
+        error = game.checkPass(position);
+        if(error != null) {
+            this.reject(player, error);
+            return;
+        }
+        this.passed(position);
+    }
+
+    /**
+     * Rejects an illegal move and sends the player the game as the server has it, the client's view may be wrong
+     * @param player The player
+     * @param error The reason
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void reject(PlayerThread player, MoveError error) {
+        System.out.println("SERVER: Thread: " + player.threadNumber + ". ERROR the move was rejected: " + error + ".");
+        this.sendRejected(player.getPlayerCounter(), error);
+        this.sendGame(player);
+    }
+
+    /**
+     * Sends a player its hand, the line and the turn if it is this player's, a CPU move waiting for it is dropped
+     * @param player The player
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void sendGame(PlayerThread player) {
+        int position = player.getPlayerCounter();
+        player.sendStartGame(false);
+        this.sendLine(position);
+        if(game.getTurn() == position && !game.hasEnded()) {
+            this.giveTurn(position);
+        }
+    }
+
+    /**
+     * Counts a pass, the game closes when all the players passed in a row
+     * @param position The player that passed
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void passed(int position) {
+        game.pass(position);
+        game.timesPassed++;
+        if(game.timesPassed >= 4) {
+            // The game has closed
+            game.isClosed();
+            this.endGame();
+        } else {
+            this.giveTurn((position + 1) % 4);
+        }
+    }
+
+    /**
+     * Sends the whole line to a player that missed a move
+     * @param player The player
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    void resync(PlayerThread player) {
+        this.sendLine(player.getPlayerCounter());
+    }
+
+    /**
+     * Sends a player that came back to its seat or fell behind the events it missed,
+     * or the game as it is now if they are no longer kept
+     * @param previous The thread that had the seat, the same player if it fell behind
+     * @param player The player
+     * @param received The number of the last table event the player received, -1 to send the whole game
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    void resume(PlayerThread previous, PlayerThread player, int received) {
+        int position = player.getPlayerCounter();
+        boolean wasAway = away[position];
+        int replayed;
+        if(!this.replacePlayer(position, previous, player)) {
+            // Another connection of the same user took the seat first
+            System.out.println("SERVER: Table: " + this.number + ". Player " + position + " was already taken back.");
+            player.seatLost();
+            return;
+        }
+        if(wasAway) {
+            System.out.println("SERVER: Table: " + this.number + ". Player " + position + " took back its seat.");
+            away[position] = false;
+        }
+
+        // Only the events the player missed
+        replayed = received < 0 ? -1 : this.replay(position, received);
+        if(replayed >= 0) {
+            System.out.println("SERVER: Table: " + this.number + ". Replayed " + replayed + " events to player " + position + ".");
+            if(game.getTurn() == position && !game.hasEnded()) {
+                // The replay leaves out the turns, a CPU move waiting for this one is dropped
+                this.giveTurn(position);
+            }
+            return;
+        }
+
+        // The whole game
+        this.sendResumed(position);
+        this.sendGame(player);
+    }
+
+    /**
+     * Hands the seat of a player that left to a CPU player, until the player comes back
+     * @param player The player
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    void leave(PlayerThread player) {
+        int position = player.getPlayerCounter();
+        if(!this.holdsSeat(player)) {
+            // The player already came back on another connection
+            return;
+        }
+        System.out.println("SERVER: Table: " + this.number + ". Player " + position + " left, a CPU player takes the seat.");
+        away[position] = true;
+        if(game.getTurn() == position && !game.hasEnded()) {
+            this.giveTurn(position);
+        }
+    }
+
+    /**
+     * Tells whether the table is waiting for a human player to move, it can be called from any thread
+     * @param position The player position
+     * @return True if it is the player's turn and no CPU player has the seat
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    boolean isWaitingFor(int position) {
+        return waitingFor == position;
+    }
+
+    /**
+     * Returns when the human player the table is waiting for was given the turn
+     * @return The time from {@link System#nanoTime()}
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    long getTurnGivenAt() {
+        return turnGivenAt;
+    }
+
+    /**
+     * Tells whether a player still plays its seat
+     * @param player The player
+     * @return False if the player left or another connection took the seat
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private boolean holdsSeat(PlayerThread player) {
+        int position = player.getPlayerCounter();
+        return position < players.size() && players.get(position) == player && !away[position];
+    }
+
+    /**
+     * Tells whether a seat is played by a CPU player
+     * @param position The player position
+     * @return True if the seat is empty or its player left
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private boolean isCpu(int position) {
+        return position >= players.size() || away[position];
+    }
+
+    /**
+     * Gives the turn to a player.
+     * A human player is told it is their turn, a CPU player's move is posted as its own event,
+     * after the thinking delay if there's one, so no thread waits for it.
+     * @param position The player position
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void giveTurn(int position) {
+        long turn = ++turns;
+        if(!this.isCpu(position)) {
+            this.sendTurn(position);
+        } else {
+            game.setTurn(position);
+            waitingFor = -1;
+            if(ServerConfig.CPU_DELAY_MS > 0) {
+                this.postLater(() -> this.cpuTurn(position, turn), ServerConfig.CPU_DELAY_MS, TimeUnit.MILLISECONDS);
+            } else {
+                this.post(() -> this.cpuTurn(position, turn));
+            }
+        }
+    }
+
+    /**
+     * Plays a CPU player's turn
+     * @param position The CPU player position
+     * @param turn The turn it was given, the move is dropped if the turn has moved on since
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void cpuTurn(int position, long turn) {
+        if(turn != turns || game.hasEnded()) {
+            return;
+        }
+        DominoPlacement placement = game.makePlay(position);
+        if(placement == null) {
+            this.passed(position);
+            return;
+        }
+
+        // Send the play to all players
+        this.sendPlayed(placement, position);
+        game.timesPassed = 0;
+        if(game.hasEnded()) {
+            // The CPU player won
+            this.endGame();
+        } else {
+            this.giveTurn((position + 1) % 4);
+        }
+    }
+
+    /**
+     * Ends a game and starts a new one, the table closes when a team wins the match
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void endGame() {
+        int startingPlayer = game.getWinner();
+
+        // Send the game over message
+        this.sendAll(new Messages.Winner(game.getWinner(), game.getFirstTeamScore(), game.getSecondTeamScore()));
+
+        if(game.getFirstTeamScore() < 100 && game.getSecondTeamScore() < 100) {
+            // Start a new game
+            game.startNewGame(DominoServerGame.StartingPlayer.values()[startingPlayer], GameContext.NEXT_GAME);
+            this.deal(startingPlayer);
+        } else {
+            System.out.println("SERVER: Table: " + this.number + ". The match is over.");
+            waitingFor = -1;
+            host.close(this);
+        }
+    }
+
+    /**
+     * Sends the hands of a new game and gives the turn to the player that starts
+     * @param startingPlayer The player that starts
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void deal(int startingPlayer) {
+        // Send the responses
+        for(int playerCounter = 0; playerCounter < players.size(); playerCounter++) {
+            players.get(playerCounter).sendStartGame(playerCounter == startingPlayer);
+        }
+        this.giveTurn(startingPlayer);
+    }
+
+    /**
+     * A message and its encodings, each one is written the first time a player needs it
+     */
+    private static final class Outbound {
+        /**
+         * The message
+         */
+        private final Messages.Message message;
+        /**
+         * The message as JSON
+         */
+        private String json;
+        /**
+         * The message as a binary frame
+         */
+        private Frame frame;
+
+        /**
+         * Constructor for an outbound message
+         * @param message The message
+         * @author Dario Urdapilleta
+         * @since 10/18/2026
+         */
+        private Outbound(Messages.Message message) {
+            this.message = message;
+        }
+
+        /**
+         * Sends the message with the codec of a player
+         * @param user The player
+         * @author Dario Urdapilleta
+         * @since 10/18/2026
+         */
+        private void sendTo(DominoPlayer user) {
+            if(user.usesBinaryFrames()) {
+                frame = frame == null ? BinaryProtocol.encode(message) : frame;
+                user.sendFrame(frame);
+            } else {
+                json = json == null ? JsonCodec.encode(message) : json;
+                user.sendMessage(json);
+            }
+        }
+    }
+
+    /**
+     * Sends a message to all the players.
+     * The message is encoded once for each codec used at the table, whatever the number of players.
+     * @param message The message to send
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void sendAll(Messages.Message message) {
+        this.sendAll(message, () -> message);
+    }
+
+    /**
+     * Sends a message to all the players, the players on a protocol older than
+     * {@link NetworkProtocols#DELTA_PROTOCOL_VERSION} get the legacy message instead
+     * @param message The message to send
+     * @param legacy Creates the message for older clients, only called if there's one at the table
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void sendAll(Messages.Message message, Supplier<Messages.Message> legacy) {
+        Outbound current = new Outbound(message);
+        Outbound older = null;
+        for(int position = 0; position < players.size(); position++) {
+            DominoPlayer user = players.get(position).getUser();
+            if(user.getProtocolVersion() >= NetworkProtocols.DELTA_PROTOCOL_VERSION) {
+                replays[position].record(current.message);
+                current.sendTo(user);
+            } else {
+                older = older == null ? new Outbound(legacy.get()) : older;
+                replays[position].record(older.message);
+                older.sendTo(user);
+            }
+        }
+    }
+
+    /**
+     * Lets all the players know a chip was played.
+     * Clients that keep their own line only get the move, older clients get the whole line.
+     * @param placement The tile that was played and its end
+     * @param player The player that played it
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void sendPlayed(DominoPlacement placement, int player) {
+        byte tile = placement.asByte();
+        this.sendAll(new Messages.PlayerMoved(tile, player, game.getLineLength()),
+                () -> new Messages.PlayerPlayed(tile, player, game.getLineAsBytes()));
+    }
+
+    /**
+     * Lets a player know it is their turn
+     * @param player The player position
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void sendTurn(int player) {
+        game.setTurn(player);
+        turnGivenAt = System.nanoTime();
+        waitingFor = player;
+        this.send(player, new Messages.Text(NetworkProtocols.PLAYER_TURN_RESPONSE, null));
+    }
+
+    /**
+     * Sends a table event to a single player and keeps it for a replay
+     * @param player The player position
+     * @param event The event
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    void send(int player, Messages.Message event) {
+        replays[player].record(event);
+        players.get(player).getUser().send(event);
+    }
+
+    /**
+     * Sends a player that reconnected the table events it missed.
+     * The turns are left out, they may have been played by a CPU player meanwhile, the table gives the current one again.
+     * @param player The player position
+     * @param received The number of the last event the player received
+     * @return The number of events sent, or -1 if they are no longer kept and the whole game must be sent
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private int replay(int player, int received) {
+        ArrayList<Messages.Message> missed = replays[player].since(received);
+        if(missed == null) {
+            return -1;
+        }
+        missed.removeIf(event -> NetworkProtocols.PLAYER_TURN_RESPONSE.equals(event.action()));
+
+        // The client counts the events it is sent from this number, so it ends on the last event kept
+        DominoPlayer user = players.get(player).getUser();
+        user.send(new Messages.Resumed(replays[player].getLastEvent() - missed.size()));
+        for(Messages.Message event : missed) {
+            user.send(event);
+        }
+        return missed.size();
+    }
+
+    /**
+     * Lets a player that is sent the whole game again know the number of the events that follow
+     * @param player The player position
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void sendResumed(int player) {
+        DominoPlayer user = players.get(player).getUser();
+        if(user.getProtocolVersion() >= NetworkProtocols.RESUME_PROTOCOL_VERSION) {
+            user.send(new Messages.Resumed(replays[player].getLastEvent()));
+        }
+    }
+
+    /**
+     * Sends the current line to a single player, used when the player comes back to the game or missed a move
+     * @param player The player position
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void sendLine(int player) {
+        DominoPlayer user = players.get(player).getUser();
+        byte[] tiles = game.getLineAsBytes();
+        if(user.getProtocolVersion() >= NetworkProtocols.DELTA_PROTOCOL_VERSION) {
+            // The sequence is the length of this copy, the line may grow while it is being sent
+            this.send(player, new Messages.Line(tiles.length, tiles));
+        } else {
+            this.send(player, new Messages.PlayerPlayed(BinaryProtocol.NO_TILE, player, tiles));
+        }
+    }
+
+    /**
+     * Tells a player its move was rejected, clients older than protocol version 6 get an ERROR with the text
+     * @param player The player position
+     * @param error The reason
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void sendRejected(int player, MoveError error) {
+        DominoPlayer user = players.get(player).getUser();
+        if(user.getProtocolVersion() >= NetworkProtocols.VALIDATION_PROTOCOL_VERSION) {
+            user.send(new Messages.Rejected(error));
+        } else {
+            user.send(new Messages.Text(NetworkProtocols.ERROR_ACTION, error.getText()));
+        }
+    }
+
+    /**
+     * Returns the GAME_READY message of a player, with its hand and the players in the game
+     * @param position The player position
+     * @param start Whether the player starts
+     * @return The message
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    Messages.GameReady gameReadyOf(int position, boolean start) {
+        String[] ids = new String[players.size()];
+        String[] names = new String[ids.length];
+        for(int player = 0; player < ids.length; player++) {
+            ids[player] = players.get(player).getUser().getId();
+            names[player] = players.get(player).getUser().getName();
+        }
+        return new Messages.GameReady(game.getHandAsBytes(position), start, ids, names);
+    }
+
+    /**
+     * Gives a seat to the thread of a player that came back
+     * @param position The seat
+     * @param previous The thread that had the seat
+     * @param player The new thread
+     * @return True if the seat was given and false if the previous thread no longer had it
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private boolean replacePlayer(int position, PlayerThread previous, PlayerThread player) {
+        if(position < 0 || position >= players.size() || players.get(position) != previous) {
+            return false;
+        }
+        players.set(position, player);
+        return true;
+    }
+}
@@ -0,0 +1,200 @@
+package server;
+
+import java.util.ArrayList;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pings the quiet connections and closes the ones that stay quiet too long.
+ * The connections are kept in a timer wheel: a ring of slots, one per tick, each with the connections to check on
+ * that tick. Hearing from a player only updates a timestamp, the wheel looks at it when the connection's slot comes
+ * around and puts it back further ahead if the player was heard from meanwhile.
+ * The wheel is only touched by the timer thread, new connections are handed to it through a queue.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class IdleReaper {
+    /**
+     * How long a tick lasts, in milliseconds
+     */
+    public static final long TICK_MS = 1000;
+    /**
+     * The number of slots in the wheel, a check further ahead waits for its round in the same slot
+     */
+    private static final int SLOTS = 64;
+
+    /**
+     * A connection waiting in the wheel
+     * @param thread The player thread
+     * @param dueTick The tick the connection is checked on
+     */
+    private record Entry(PlayerThread thread, long dueTick) {
+    }
+
+    /**
+     * The slots of the wheel
+     */
+    private final ArrayList<Queue<Entry>> wheel;
+    /**
+     * The new connections, put in the wheel by the timer thread on its next tick
+     */
+    private final Queue<PlayerThread> arrivals;
+    /**
+     * How long a connection can be quiet before it is pinged, in nanoseconds
+     */
+    private final long heartbeatNanos;
+    /**
+     * How long a connection can be quiet before it is closed, in nanoseconds, 0 to never close it
+     */
+    private final long idleTimeoutNanos;
+    /**
+     * The tick the wheel is on, only used by the timer thread
+     */
+    private long tick;
+    /**
+     * The number of connections closed for being quiet
+     */
+    private volatile long reaped;
+    /**
+     * The number of seats handed to CPU players because their old clients stayed quiet on their turn
+     */
+    private volatile long satOut;
+
+    /**
+     * Constructor for the reaper
+     * @param heartbeatSeconds How long a connection can be quiet before it is pinged
+     * @param idleTimeoutSeconds How long a connection can be quiet before it is closed, 0 to never close it
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public IdleReaper(long heartbeatSeconds, long idleTimeoutSeconds) {
+        this.wheel = new ArrayList<Queue<Entry>>(SLOTS);
+        for(int slot = 0; slot < SLOTS; slot++) {
+            wheel.add(new ConcurrentLinkedQueue<Entry>());
+        }
+        this.arrivals = new ConcurrentLinkedQueue<PlayerThread>();
+        this.heartbeatNanos = TimeUnit.SECONDS.toNanos(heartbeatSeconds);
+        this.idleTimeoutNanos = TimeUnit.SECONDS.toNanos(idleTimeoutSeconds);
+    }
+
+    /**
+     * Starts watching a new connection, from any thread
+     * @param thread The player thread
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void watch(PlayerThread thread) {
+        arrivals.add(thread);
+    }
+
+    /**
+     * Moves the wheel one tick and checks the connections due on it, must run on a single timer thread
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void tick() {
+        long current = tick + 1;
+        Queue<Entry> slot = wheel.get((int)(current % SLOTS));
+        ArrayList<Entry> later = new ArrayList<Entry>();
+        Entry entry;
+        PlayerThread thread;
+
+        // The new connections are due from the tick they were handed over on
+        while((thread = arrivals.poll()) != null) {
+            this.schedule(thread, heartbeatNanos);
+        }
+        tick = current;
+        while((entry = slot.poll()) != null) {
+            if(entry.dueTick() > current) {
+                // Due on a later round of the wheel
+                later.add(entry);
+                continue;
+            }
+            try {
+                this.check(entry.thread());
+            } catch (RuntimeException e) {
+                // An exception would cancel the timer and drop the rest of the slot, the connection is checked again later
+                System.out.println("SERVER: ERROR checking an idle connection: " + e.getMessage());
+                this.schedule(entry.thread(), heartbeatNanos);
+            }
+        }
+        slot.addAll(later);
+    }
+
+    /**
+     * Pings or closes a connection that has been quiet, and puts it back in the wheel if it stays open.
+     * Clients older than the heartbeat protocol can't answer a ping, a quiet one may just be waiting for its turn,
+     * so they are left open until their socket fails. One that stays quiet on its own turn would stall the table,
+     * a CPU player takes its seat until it is heard from again.
+     * @param thread The player thread
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void check(PlayerThread thread) {
+        long now;
+        long quiet;
+        long due;
+        if(thread.hasLeft()) {
+            return;
+        }
+        if(!thread.canBePinged()) {
+            if(idleTimeoutNanos > 0 && thread.quietOnTurn(System.nanoTime()) >= idleTimeoutNanos) {
+                satOut++;
+                thread.sitOut();
+            }
+
+            // Checked again in case it agrees on a newer protocol
+            this.schedule(thread, heartbeatNanos);
+            return;
+        }
+        now = System.nanoTime();
+        quiet = now - thread.getLastHeardAt();
+        if(idleTimeoutNanos > 0 && quiet >= idleTimeoutNanos) {
+            reaped++;
+            thread.reap(TimeUnit.NANOSECONDS.toSeconds(quiet));
+            return;
+        }
+        if(quiet >= heartbeatNanos && !thread.wasPinged()) {
+            thread.ping();
+        }
+
+        // Check again when the next ping or the timeout is due
+        if(!thread.wasPinged()) {
+            due = heartbeatNanos - quiet;
+        } else if(idleTimeoutNanos > 0) {
+            due = idleTimeoutNanos - quiet;
+        } else {
+            due = heartbeatNanos;
+        }
+        this.schedule(thread, due);
+    }
+
+    /**
+     * Puts a connection in the slot of the tick it is due on, only called from the timer thread
+     * @param thread The player thread
+     * @param delayNanos How long until it is due, in nanoseconds
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void schedule(PlayerThread thread, long delayNanos) {
+        long ticks = Math.max(1, (TimeUnit.NANOSECONDS.toMillis(delayNanos) + TICK_MS - 1) / TICK_MS);
+        long due = tick + ticks;
+        wheel.get((int)(due % SLOTS)).add(new Entry(thread, due));
+    }
+
+    /**
+     * Returns the number of connections in the wheel and the ones closed for being quiet
+     * @return The summary
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public String summary() {
+        int watched = arrivals.size();
+        for(Queue<Entry> slot : wheel) {
+            watched += slot.size();
+        }
+        return watched + " connections watched, " + reaped + " closed for being idle, " + satOut + " seats handed to CPU players";
+    }
+}
@@ -0,0 +1,131 @@
+package server;
+
+/**
+ * The matchmaking preferences a player sends at login.
+ * Values out of range are replaced by the server defaults so every request maps to a valid queue.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class MatchRequest {
+    /**
+     * The fewest humans at a table
+     */
+    public static final int MIN_TABLE_SIZE = 1;
+    /**
+     * The most humans at a table, one per seat
+     */
+    public static final int MAX_TABLE_SIZE = 4;
+    /**
+     * The highest rating kept, higher ratings share the top rating band so clients can't create queues at will
+     */
+    public static final int MAX_RATING = 3000;
+    /**
+     * The longest region name kept, longer names are cut
+     */
+    private static final int MAX_REGION_LENGTH = 16;
+    /**
+     * The number of humans wanted at the table
+     */
+    private final int tableSize;
+    /**
+     * The region in lower case, null if the player didn't send one
+     */
+    private final String region;
+    /**
+     * The player rating, -1 if unrated
+     */
+    private final int rating;
+    /**
+     * The round trip time measured by the client in milliseconds, -1 if unknown
+     */
+    private final long roundTripMillis;
+
+    /**
+     * Constructor for the match request
+     * @param tableSize The number of humans wanted at the table, the server default if out of range
+     * @param region The region or null
+     * @param rating The rating, negative if unrated, {@link #MAX_RATING} at most
+     * @param roundTripMillis The round trip time in milliseconds, negative if unknown
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public MatchRequest(int tableSize, String region, int rating, long roundTripMillis) {
+        this.tableSize = tableSize >= MIN_TABLE_SIZE && tableSize <= MAX_TABLE_SIZE ? tableSize : ServerConfig.TABLE_SIZE;
+        this.region = MatchRequest.normalizeRegion(region);
+        this.rating = Math.min(MAX_RATING, Math.max(-1, rating));
+        this.roundTripMillis = Math.max(-1, roundTripMillis);
+    }
+
+    /**
+     * Returns the request of a player that sent no preferences
+     * @return The default request
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static MatchRequest defaults() {
+        return new MatchRequest(0, null, -1, -1);
+    }
+
+    /**
+     * Returns the number of humans wanted at the table
+     * @return The table size
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int getTableSize() {
+        return tableSize;
+    }
+
+    /**
+     * Returns the region
+     * @return The region in lower case or null
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public String getRegion() {
+        return region;
+    }
+
+    /**
+     * Returns the rating
+     * @return The rating or -1 if unrated
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int getRating() {
+        return rating;
+    }
+
+    /**
+     * Returns the round trip time measured by the client
+     * @return The round trip time in milliseconds or -1 if unknown
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public long getRoundTripMillis() {
+        return roundTripMillis;
+    }
+
+    /**
+     * Keeps the letters, digits and dashes of a region so clients can't create queues with arbitrary names
+     * @param region The region sent by the client
+     * @return The region in lower case or null if nothing is left
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static String normalizeRegion(String region) {
+        StringBuilder normalized;
+        if(region == null) {
+            return null;
+        }
+        normalized = new StringBuilder(Math.min(region.length(), MAX_REGION_LENGTH));
+        for(int index = 0; index < region.length() && normalized.length() < MAX_REGION_LENGTH; index++) {
+            char character = Character.toLowerCase(region.charAt(index));
+            if((character >= 'a' && character <= 'z') || (character >= '0' && character <= '9') || character == '-') {
+                normalized.append(character);
+            }
+        }
+        return normalized.length() == 0 ? null : normalized.toString();
+    }
+}
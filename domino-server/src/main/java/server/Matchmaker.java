@@ -0,0 +1,521 @@
+package server;
+
+import utilities.Histogram;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free waiting queues that form tables of players.
+ * Players are split in buckets by table size, locality and rating band. The locality is the region sent by the
+ * client or, when there's none, a band of the round trip time measured by the client.
+ * A login reserves a whole table with one compare-and-set on the number of waiting players of its bucket, so the
+ * game setup and the network messages happen outside of any critical section. Players that wait longer than the
+ * maximum wait are seated by {@link #formExpiredTables()} with the players of their bucket, the empty seats go to
+ * CPU players. The same pass drops the buckets no one is waiting in, so the rare queues don't pile up.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class Matchmaker {
+    /**
+     * The upper limits of the round trip time bands in milliseconds
+     */
+    private static final int[] ROUND_TRIP_BANDS = {50, 150, 300};
+    /**
+     * The most buckets kept, players that would create more share the bucket of their table size
+     */
+    static final int MAX_BUCKETS = 1024;
+    /**
+     * The number of joins of a bucket that was dropped, far below any count of joins in flight
+     */
+    private static final int RETIRED = Integer.MIN_VALUE / 2;
+    /**
+     * The locality of players with no region and no round trip time
+     */
+    private static final String ANY_LOCALITY = "any";
+
+    /**
+     * The queue a player is sorted into
+     * @param tableSize The number of humans at the table
+     * @param locality The region or round trip time band
+     * @param ratingBand The rating band or -1 if unrated
+     */
+    private record BucketKey(int tableSize, String locality, int ratingBand) {
+        @Override
+        public String toString() {
+            return tableSize + "/" + locality + (ratingBand < 0 ? "" : "/rating-" + ratingBand);
+        }
+    }
+
+    /**
+     * A place in the queue, claimed once by either a table or a cancellation
+     */
+    private static class Ticket {
+        /**
+         * The waiting player
+         */
+        private final PlayerThread thread;
+        /**
+         * The bucket the player waits in
+         */
+        private final Bucket bucket;
+        /**
+         * When the player joined, from {@link System#nanoTime()}
+         */
+        private final long joinedAt;
+        /**
+         * Whether the ticket was taken
+         */
+        private final AtomicBoolean claimed;
+        /**
+         * Whether the player is leaving the queue, tables skip the ticket
+         */
+        private volatile boolean leaving;
+
+        /**
+         * Constructor for a ticket
+         * @param thread The waiting player
+         * @param bucket The bucket the player waits in
+         * @author Dario Urdapilleta
+         * @since 10/18/2026
+         */
+        private Ticket(PlayerThread thread, Bucket bucket) {
+            this.thread = thread;
+            this.bucket = bucket;
+            this.joinedAt = System.nanoTime();
+            this.claimed = new AtomicBoolean(false);
+        }
+
+        /**
+         * Takes the ticket
+         * @return True if this call took it and false if it was already taken
+         * @author Dario Urdapilleta
+         * @since 10/18/2026
+         */
+        private boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        /**
+         * Gives the ticket back so it can be taken again
+         * @author Dario Urdapilleta
+         * @since 10/18/2026
+         */
+        private void release() {
+            claimed.set(false);
+        }
+    }
+
+    /**
+     * The players waiting for the same kind of table
+     */
+    private static class Bucket {
+        /**
+         * The kind of table
+         */
+        private final BucketKey key;
+        /**
+         * The tickets in arrival order, claimed tickets are skipped when polled
+         */
+        private final ConcurrentLinkedDeque<Ticket> queue;
+        /**
+         * The number of waiting players that no table has reserved yet
+         */
+        private final AtomicInteger waiting;
+        /**
+         * The number of joins in flight, or {@link #RETIRED} once the bucket was dropped
+         */
+        private final AtomicInteger joining;
+
+        /**
+         * Constructor for a bucket
+         * @param key The kind of table
+         * @author Dario Urdapilleta
+         * @since 10/18/2026
+         */
+        private Bucket(BucketKey key) {
+            this.key = key;
+            this.queue = new ConcurrentLinkedDeque<Ticket>();
+            this.waiting = new AtomicInteger(0);
+            this.joining = new AtomicInteger(0);
+        }
+
+        /**
+         * Starts a join, the bucket is not dropped until it ends
+         * @return True if the join can go on and false if the bucket was dropped
+         * @author Dario Urdapilleta
+         * @since 10/18/2026
+         */
+        private boolean enter() {
+            int count;
+            do {
+                count = joining.get();
+                if(count < 0) {
+                    return false;
+                }
+            } while(!joining.compareAndSet(count, count + 1));
+            return true;
+        }
+
+        /**
+         * Ends a join started with {@link #enter()}
+         * @author Dario Urdapilleta
+         * @since 10/18/2026
+         */
+        private void exit() {
+            joining.decrementAndGet();
+        }
+
+        /**
+         * Marks the bucket as dropped if no one is waiting in it and no join is in flight
+         * @return True if the bucket was marked and must leave the map
+         * @author Dario Urdapilleta
+         * @since 10/18/2026
+         */
+        private boolean retire() {
+            return queue.isEmpty() && waiting.get() == 0 && joining.compareAndSet(0, RETIRED);
+        }
+
+        /**
+         * Returns when the player at the front of the queue joined, dropping the cancelled tickets in front of it
+         * @return The time from {@link System#nanoTime()} or -1 if the queue is empty
+         * @author Dario Urdapilleta
+         * @since 10/18/2026
+         */
+        private long oldestJoin() {
+            Ticket ticket;
+            while((ticket = queue.peekFirst()) != null) {
+                if(!ticket.claimed.get()) {
+                    return ticket.joinedAt;
+                }
+                // A cancelled ticket, a ticket taken by a table is never left in the queue
+                queue.removeFirstOccurrence(ticket);
+            }
+            return -1;
+        }
+
+        /**
+         * Reserves a table and takes its players from the queue
+         * @param fewest The fewest players needed
+         * @param most The most players taken
+         * @return The tickets of the table in arrival order, or null if there are not enough players
+         * @author Dario Urdapilleta
+         * @since 10/18/2026
+         */
+        private ArrayList<Ticket> take(int fewest, int most) {
+            ArrayList<Ticket> taken = new ArrayList<Ticket>(most);
+            Ticket ticket;
+            int count, seats;
+            while(true) {
+                // Reserve the seats
+                do {
+                    count = waiting.get();
+                    if(count < fewest) {
+                        return null;
+                    }
+                    seats = Math.min(count, most);
+                } while(!waiting.compareAndSet(count, count - seats));
+
+                // Take the players, skipping the ones that left or are leaving
+                while(taken.size() < seats && (ticket = queue.pollFirst()) != null) {
+                    if(!ticket.leaving && ticket.claim()) {
+                        taken.add(ticket);
+                    }
+                }
+                if(taken.size() == seats) {
+                    return taken;
+                }
+
+                // A player that is leaving was still counted, give everything back in the same order and try again
+                for(int seat = taken.size() - 1; seat >= 0; seat--) {
+                    taken.get(seat).release();
+                    queue.addFirst(taken.get(seat));
+                }
+                taken.clear();
+                waiting.addAndGet(seats);
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * The table size of players that don't ask for one
+     */
+    private final int defaultTableSize;
+    /**
+     * The width of the rating bands, 0 to ignore the rating
+     */
+    private final int ratingBandWidth;
+    /**
+     * The longest a player waits for humans before CPU players take the empty seats, in nanoseconds
+     */
+    private final long maxWaitNanos;
+    /**
+     * The buckets by kind of table
+     */
+    private final ConcurrentHashMap<BucketKey, Bucket> buckets;
+    /**
+     * The tickets of the waiting players
+     */
+    private final ConcurrentHashMap<PlayerThread, Ticket> tickets;
+    /**
+     * The time players waited for a table in milliseconds
+     */
+    private final Histogram waitTimes;
+    /**
+     * The number of tables formed
+     */
+    private final AtomicLong tablesFormed;
+
+    /**
+     * Constructor for the matchmaker
+     * @param defaultTableSize The table size of players that don't ask for one
+     * @param ratingBandWidth The width of the rating bands, 0 to ignore the rating
+     * @param maxWaitMillis The longest a player waits for humans before CPU players take the empty seats
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public Matchmaker(int defaultTableSize, int ratingBandWidth, long maxWaitMillis) {
+        this.defaultTableSize = defaultTableSize;
+        this.ratingBandWidth = Math.max(0, ratingBandWidth);
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.buckets = new ConcurrentHashMap<BucketKey, Bucket>();
+        this.tickets = new ConcurrentHashMap<PlayerThread, Ticket>();
+        this.waitTimes = new Histogram();
+        this.tablesFormed = new AtomicLong();
+    }
+
+    /**
+     * Adds a player to its queue and forms a table if there are enough players
+     * @param thread The player thread
+     * @param request The player preferences
+     * @return The players of the new table in arrival order, or null if the players must keep waiting or the player
+     * is already waiting
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public ArrayList<PlayerThread> join(PlayerThread thread, MatchRequest request) {
+        Bucket bucket;
+        while(!(bucket = this.bucketOf(request)).enter()) {
+            // The bucket was dropped, the next lookup finds or makes the one that replaces it
+            Thread.onSpinWait();
+        }
+        try {
+            Ticket ticket = new Ticket(thread, bucket);
+            if(tickets.putIfAbsent(thread, ticket) != null) {
+                // The player already has a place in a queue
+                return null;
+            }
+            bucket.queue.addLast(ticket);
+            bucket.waiting.incrementAndGet();
+            return this.seat(bucket.take(bucket.key.tableSize(), bucket.key.tableSize()));
+        } finally {
+            bucket.exit();
+        }
+    }
+
+    /**
+     * Removes a waiting player from its queue.
+     * A table that is short of players holds its tickets for a moment before it gives them back, so a ticket that
+     * is claimed is only lost once the table has seated the player.
+     * @param thread The player thread
+     * @return True if the player was waiting and false if it was not, or if a table already took it
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public boolean remove(PlayerThread thread) {
+        Ticket ticket = tickets.get(thread);
+        if(ticket == null) {
+            return false;
+        }
+        ticket.leaving = true;
+        while(!ticket.claim()) {
+            if(tickets.get(thread) != ticket) {
+                // A table seated the player
+                return false;
+            }
+            Thread.onSpinWait();
+        }
+        // The ticket stays in the queue until a table skips it
+        tickets.remove(thread, ticket);
+        ticket.bucket.waiting.decrementAndGet();
+        return true;
+    }
+
+    /**
+     * Returns whether a player has a place in a queue
+     * @param thread The player thread
+     * @return True if the player is waiting and no table has seated it yet
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public boolean isWaiting(PlayerThread thread) {
+        return tickets.containsKey(thread);
+    }
+
+    /**
+     * Forms the tables of the players that waited longer than the maximum wait, and drops the empty buckets.
+     * Each table takes the oldest players of a bucket, up to its size, the empty seats are left to CPU players.
+     * @return The players of each new table, empty if no one waited long enough
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public ArrayList<ArrayList<PlayerThread>> formExpiredTables() {
+        ArrayList<ArrayList<PlayerThread>> tables = new ArrayList<ArrayList<PlayerThread>>();
+        ArrayList<PlayerThread> players;
+        long deadline = System.nanoTime() - maxWaitNanos;
+        long oldest;
+        for(Bucket bucket : buckets.values()) {
+            // Keep taking tables while the front of the queue is too old
+            while((oldest = bucket.oldestJoin()) >= 0 && oldest - deadline <= 0) {
+                players = this.seat(bucket.take(1, bucket.key.tableSize()));
+                if(players == null) {
+                    break;
+                }
+                tables.add(players);
+            }
+            if(bucket.retire()) {
+                buckets.remove(bucket.key, bucket);
+            }
+        }
+        return tables;
+    }
+
+    /**
+     * Returns the number of waiting players
+     * @return The number of waiting players
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int size() {
+        int size = 0;
+        for(Bucket bucket : buckets.values()) {
+            size += Math.max(0, bucket.waiting.get());
+        }
+        return size;
+    }
+
+    /**
+     * Returns the number of waiting players of each non empty queue
+     * @return The queue depths by queue name, sorted by name
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public Map<String, Integer> getDepths() {
+        TreeMap<String, Integer> depths = new TreeMap<String, Integer>();
+        int depth;
+        for(Bucket bucket : buckets.values()) {
+            depth = bucket.waiting.get();
+            if(depth > 0) {
+                depths.put(bucket.key.toString(), depth);
+            }
+        }
+        return depths;
+    }
+
+    /**
+     * Returns the time players waited for a table
+     * @return The wait times in milliseconds
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public Histogram getWaitTimes() {
+        return waitTimes;
+    }
+
+    /**
+     * Returns the number of tables formed
+     * @return The number of tables formed
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public long getTablesFormed() {
+        return tablesFormed.get();
+    }
+
+    /**
+     * Returns a one line summary of the queues and the wait times
+     * @return The summary
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public String summary() {
+        return "waiting=" + this.size() + " tables=" + this.getTablesFormed()
+                + " queues=" + this.getDepths() + " wait: " + waitTimes.summary("ms");
+    }
+
+    /**
+     * Turns the taken tickets into a table and records how long the players waited
+     * @param taken The taken tickets or null
+     * @return The players in arrival order or null
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private ArrayList<PlayerThread> seat(ArrayList<Ticket> taken) {
+        ArrayList<PlayerThread> players;
+        long now = System.nanoTime();
+        if(taken == null) {
+            return null;
+        }
+        players = new ArrayList<PlayerThread>(taken.size());
+        for(Ticket seat : taken) {
+            tickets.remove(seat.thread, seat);
+            waitTimes.record(TimeUnit.NANOSECONDS.toMillis(now - seat.joinedAt));
+            players.add(seat.thread);
+        }
+        tablesFormed.incrementAndGet();
+        return players;
+    }
+
+    /**
+     * Finds the bucket of a request, creating it if needed
+     * @param request The player preferences
+     * @return The bucket
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private Bucket bucketOf(MatchRequest request) {
+        int tableSize = request.getTableSize() > 0 ? request.getTableSize() : defaultTableSize;
+        int ratingBand = ratingBandWidth > 0 && request.getRating() >= 0 ? request.getRating() / ratingBandWidth : -1;
+        BucketKey key = new BucketKey(tableSize, Matchmaker.localityOf(request), ratingBand);
+        Bucket bucket = buckets.get(key);
+        if(bucket == null) {
+            // Too many queues, the player only gets the table size
+            if(buckets.size() >= MAX_BUCKETS) {
+                key = new BucketKey(tableSize, ANY_LOCALITY, -1);
+            }
+            bucket = buckets.computeIfAbsent(key, Bucket::new);
+        }
+        return bucket;
+    }
+
+    /**
+     * Returns the locality of a request, the region or a band of the round trip time
+     * @param request The player preferences
+     * @return The locality
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static String localityOf(MatchRequest request) {
+        if(request.getRegion() != null) {
+            return request.getRegion();
+        }
+        if(request.getRoundTripMillis() < 0) {
+            return ANY_LOCALITY;
+        }
+        for(int band : ROUND_TRIP_BANDS) {
+            if(request.getRoundTripMillis() < band) {
+                return "rtt:" + band;
+            }
+        }
+        return "rtt:slow";
+    }
+}
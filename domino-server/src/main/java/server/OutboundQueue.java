@@ -0,0 +1,193 @@
+package server;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The encoded messages waiting to be written to one connection.
+ * The queue holds a limited number of messages, and a single flush writes everything queued since the last one.
+ * A table corks the queues while it runs its events, the messages of a whole burst of moves then go out in one flush.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+final class OutboundQueue {
+    /**
+     * The queues written to by the events running on this thread, null if the thread isn't corked
+     */
+    private static final ThreadLocal<ArrayList<OutboundQueue>> CORKED = new ThreadLocal<ArrayList<OutboundQueue>>();
+    /**
+     * The encoded messages
+     */
+    private final Queue<ByteBuffer> buffers;
+    /**
+     * The number of messages in the queue
+     */
+    private final AtomicInteger size;
+    /**
+     * The most messages the queue holds
+     */
+    private final int limit;
+    /**
+     * Whether a flush was asked for and hasn't finished
+     */
+    private final AtomicBoolean flushRequested;
+    /**
+     * Runs or schedules a flush
+     */
+    private final Runnable flush;
+
+    /**
+     * Constructor for the outbound queue
+     * @param limit The most messages the queue holds
+     * @param flush Runs or schedules a flush, it must call {@link #flushed()} once the queue is written
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    OutboundQueue(int limit, Runnable flush) {
+        this.buffers = new ConcurrentLinkedQueue<ByteBuffer>();
+        this.size = new AtomicInteger();
+        this.limit = limit;
+        this.flushRequested = new AtomicBoolean(false);
+        this.flush = flush;
+    }
+
+    /**
+     * Holds back the flushes asked for on this thread until {@link #uncork()}
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    static void cork() {
+        CORKED.set(new ArrayList<OutboundQueue>());
+    }
+
+    /**
+     * Asks for the flushes held back since {@link #cork()}
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    static void uncork() {
+        ArrayList<OutboundQueue> corked = CORKED.get();
+        CORKED.remove();
+        if(corked != null) {
+            for(OutboundQueue queue : corked) {
+                queue.requestFlush();
+            }
+        }
+    }
+
+    /**
+     * Tells whether the queue holds as many messages as it can
+     * @return True if the queue is full
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    boolean isFull() {
+        return size.get() >= limit;
+    }
+
+    /**
+     * Tells whether there's nothing to write
+     * @return True if the queue is empty
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    boolean isEmpty() {
+        return buffers.isEmpty();
+    }
+
+    /**
+     * Adds an encoded message, the caller checks {@link #isFull()} first
+     * @param bytes The encoded message
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    void add(ByteBuffer bytes) {
+        size.incrementAndGet();
+        buffers.add(bytes);
+    }
+
+    /**
+     * Returns the next message to write without taking it out
+     * @return The encoded message, null if the queue is empty
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    ByteBuffer peek() {
+        return buffers.peek();
+    }
+
+    /**
+     * Copies the next messages to write without taking them out
+     * @param into The array to fill, from its start
+     * @return The number of messages copied
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    int peek(ByteBuffer[] into) {
+        int count = 0;
+        for(ByteBuffer bytes : buffers) {
+            if(count >= into.length) {
+                break;
+            }
+            into[count++] = bytes;
+        }
+        return count;
+    }
+
+    /**
+     * Takes out the next message to write
+     * @return The encoded message, null if the queue is empty
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    ByteBuffer poll() {
+        ByteBuffer bytes = buffers.poll();
+        if(bytes != null) {
+            size.decrementAndGet();
+        }
+        return bytes;
+    }
+
+    /**
+     * Asks for a flush, unless one is already on its way or the thread is corked
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    void requestFlush() {
+        ArrayList<OutboundQueue> corked = CORKED.get();
+        if(corked != null) {
+            if(!corked.contains(this)) {
+                corked.add(this);
+            }
+        } else if(flushRequested.compareAndSet(false, true)) {
+            flush.run();
+        }
+    }
+
+    /**
+     * Lets the queue know a flush wrote everything it found, asks for another one if messages came in meanwhile
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    void flushed() {
+        flushRequested.set(false);
+        if(!buffers.isEmpty() && flushRequested.compareAndSet(false, true)) {
+            flush.run();
+        }
+    }
+
+    /**
+     * Drops every message
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    void clear() {
+        buffers.clear();
+        size.set(0);
+    }
+}
@@ -0,0 +1,85 @@
+package server;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.time.Duration;
+
+/**
+ * Reports virtual threads that stay pinned to their carrier thread.
+ * It listens to the JFR VirtualThreadPinned event, raised when a virtual thread blocks inside a synchronized block.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class PinningMonitor {
+    /**
+     * The JFR event name
+     */
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    /**
+     * The shortest pinning that gets reported
+     */
+    private static final Duration THRESHOLD = Duration.ofMillis(20);
+    /**
+     * The number of application frames shown for each report
+     */
+    private static final int REPORTED_FRAMES = 4;
+    /**
+     * The JFR stream, null when the monitor is not running
+     */
+    private static RecordingStream stream;
+
+    /**
+     * Starts reporting pinned virtual threads
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static synchronized void start() {
+        if(stream == null) {
+            stream = new RecordingStream();
+            stream.enable(PINNED_EVENT).withThreshold(THRESHOLD).withStackTrace();
+            stream.onEvent(PINNED_EVENT, PinningMonitor::report);
+            stream.startAsync();
+            System.out.println("SERVER: Reporting virtual threads pinned for more than " + THRESHOLD.toMillis() + " ms.");
+        }
+    }
+
+    /**
+     * Stops reporting pinned virtual threads
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static synchronized void stop() {
+        if(stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    /**
+     * Prints a pinning event with the application frames that caused it
+     * @param event The pinning event
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static void report(RecordedEvent event) {
+        StringBuilder frames = new StringBuilder();
+        int reported = 0;
+        if(event.getStackTrace() != null) {
+            // Skip the JDK frames, the cause is the first application frame
+            for(RecordedFrame frame : event.getStackTrace().getFrames()) {
+                String type = frame.getMethod().getType().getName();
+                if(reported < REPORTED_FRAMES && !type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                    frames.append(reported == 0 ? "" : " <- ")
+                            .append(type).append('.').append(frame.getMethod().getName())
+                            .append(':').append(frame.getLineNumber());
+                    reported++;
+                }
+            }
+        }
+        System.out.println("SERVER: Virtual thread pinned for " + event.getDuration().toMillis() + " ms at "
+                + (reported == 0 ? "unknown location" : frames));
+    }
+}
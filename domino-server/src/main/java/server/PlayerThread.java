@@ -0,0 +1,660 @@
+package server;
+
+import model.*;
+
+import utilities.BinaryProtocol;
+import utilities.Connection;
+import utilities.Frame;
+import utilities.JsonCodec;
+import utilities.Messages;
+import utilities.NetworkProtocols;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * This class handles a match thread.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 03/31/2023
+ */
+public class PlayerThread implements Runnable {
+    /**
+     * Keeps the status of the match, read by the reader and written by the threads that close the connection
+     */
+    private volatile boolean running;
+    /**
+     * Thread number
+     */
+    public final int threadNumber;
+    /**
+     * The user associated with this thread
+     */
+    private DominoPlayer user;
+    /**
+     * The table the User is at, set by the thread that formed the game
+     */
+    private volatile GameTable table;
+    /**
+     * The players number in the game
+     */
+    private volatile int playerCounter;
+    /**
+     * When the user was last heard from, from {@link System#nanoTime()}
+     */
+    private volatile long lastHeardAt;
+    /**
+     * Whether a CPU player took the seat because the user stayed quiet on its turn
+     */
+    private volatile boolean satOut;
+    /**
+     * Whether the user was pinged since it was last heard from
+     */
+    private volatile boolean pinged;
+    /**
+     * Whether the user left the server, the session and the seat are only given back once
+     */
+    private final AtomicBoolean left;
+
+    /**
+     * Creates the domino thread of a client socket, the connection tells the thread when the client falls behind
+     * @param number The thread Number
+     * @param socket The client socket
+     * @return The player thread
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static PlayerThread forSocket(int number, Socket socket) {
+        SocketConnection connection = new SocketConnection(socket);
+        PlayerThread thread = new PlayerThread(number, socket, connection);
+        connection.setHandler(thread);
+        return thread;
+    }
+
+    /**
+     * Constructor for the domino thread
+     * @param number The thread Number
+     * @param socket The client socket
+     * @param connection The connection that writes to the socket
+     * @author Dario Urdapilleta
+     * @since 03/31/2023
+     */
+    private PlayerThread(int number, Socket socket, SocketConnection connection) {
+        super();
+        this.user = new DominoPlayer(socket, connection);
+        this.threadNumber = number;
+        this.running = false;
+        this.lastHeardAt = System.nanoTime();
+        this.left = new AtomicBoolean(false);
+    }
+    /**
+     * Constructor for the domino thread served by an event loop
+     * @param number The thread Number
+     * @param connection The non-blocking connection
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public PlayerThread(int number, Connection connection) {
+        super();
+        this.user = new DominoPlayer(connection);
+        this.threadNumber = number;
+        this.running = true;
+        this.lastHeardAt = System.nanoTime();
+        this.left = new AtomicBoolean(false);
+    }
+    /**
+     * Runs the thread.
+     * @author Dario Urdapilleta
+     * @since 03/31/2023
+     */
+    public void run()
+    {
+        this.running = true;
+        try {
+            while(running) {
+                this.handleMessage();
+            }
+        } finally {
+            // The pool thread is given back whatever ended the loop
+            this.user.close();
+
+            // A dropped player keeps its seat for a while, a logout already gave the session back
+            this.leave(table != null);
+        }
+    }
+
+    /**
+     * Sets the player number in the server
+     * @param playerCounter The player number in the server
+     * @author Dario Urdapilleta
+     * @since 04/11/2023
+     */
+    public void setPlayerCounter(int playerCounter) {
+        this.playerCounter = playerCounter;
+    }
+
+    /**
+     * Returns the player number in the game
+     * @return The player position
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    int getPlayerCounter() {
+        return playerCounter;
+    }
+
+    /**
+     * Handles a received message;
+     * @author Dario Urdapilleta
+     * @since 03/31/2023
+     */
+    public void handleMessage() {
+        // Get the message with the codec agreed at login
+        if(ServerConfig.TRACE_MESSAGES) {
+            System.out.println("SERVER: Thread: " + this.threadNumber + ". Waiting for client's message.");
+        }
+        if(user.usesBinaryFrames()) {
+            this.handleFrame(user.getFrame());
+        } else {
+            String message = user.getMessage();
+            if(!user.isConnected()) {
+                // The connection is gone, there's nothing else to read
+                this.running = false;
+                return;
+            }
+            this.handleJson(message);
+        }
+    }
+
+    /**
+     * Handles a received JSON message
+     * @param message The message
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    void handleJson(String message) {
+        this.heard();
+        if(ServerConfig.TRACE_MESSAGES) {
+            System.out.println("SERVER: Thread: " + this.threadNumber + ". Message: " + message + " received");
+        }
+
+        // Parse the message and handle it according to its type
+        try {
+            switch (JsonCodec.decode(message)) {
+                case Messages.Login login -> this.login(login.userId(), login.userName(), login.protocolVersion(), login.codec(),
+                        new MatchRequest(login.tableSize(), login.region(), login.rating(), login.roundTripMillis()));
+                case Messages.Resume resume -> this.resumeSession(resume.userId(), resume.userName(),
+                        resume.protocolVersion(), resume.codec(), resume.lastEvent(), resume.resumeToken());
+                case Messages.PlayChip play -> this.playChip(DominoPlacement.fromByte(play.tile()));
+                case Messages.Text text when text.action().equals(NetworkProtocols.PASS_ACTION) -> this.pass();
+                case Messages.Text text when text.action().equals(NetworkProtocols.LOGOUT_ACTION) -> this.logout();
+                case Messages.Text text when text.action().equals(NetworkProtocols.RESYNC_ACTION) -> this.resync();
+                case Messages.Text text when text.action().equals(NetworkProtocols.PONG_ACTION) -> {
+                    // Hearing from the user was all the ping asked for
+                }
+                default -> {
+                    System.out.println("SERVER: Thread: " + this.threadNumber + ". ERROR unhandled action.");
+                    this.sendResponse(NetworkProtocols.ERROR_ACTION, "Error understanding your action.");
+                }
+            }
+        } catch (IOException exception) {
+            System.out.println("SERVER: Thread: " + this.threadNumber + ". ERROR parsing json.");
+            this.sendResponse(NetworkProtocols.ERROR_ACTION, "Error parsing the json, please try again.");
+        }
+    }
+
+    /**
+     * Handles a received binary frame
+     * @param frame The frame or null if the connection was closed
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    void handleFrame(Frame frame) {
+        if(frame == null) {
+            // The connection is gone, there's nothing else to read
+            this.running = false;
+            return;
+        }
+        this.heard();
+
+        // Handle the frame according to the opcode
+        switch (frame.getOpcode()) {
+            case BinaryProtocol.PLAY_CHIP:
+                if(frame.remaining() < 1) {
+                    // A frame that is too short would end the reader
+                    System.out.println("SERVER: Thread: " + this.threadNumber + ". ERROR the frame is too short.");
+                    this.sendResponse(NetworkProtocols.ERROR_ACTION, "Error reading the frame, please try again.");
+                    break;
+                }
+                this.playChip(DominoPlacement.fromByte(frame.readByte()));
+                break;
+            case BinaryProtocol.PASS:
+                this.pass();
+                break;
+            case BinaryProtocol.LOGOUT:
+                this.logout();
+                break;
+            case BinaryProtocol.RESYNC:
+                this.resync();
+                break;
+            case BinaryProtocol.PONG:
+                // Hearing from the user was all the ping asked for
+                break;
+            default:
+                System.out.println("SERVER: Thread: " + this.threadNumber + ". ERROR unhandled action.");
+                this.sendResponse(NetworkProtocols.ERROR_ACTION, "Error understanding your action.");
+        }
+    }
+
+    /**
+     * Logs the user in and assigns a game if possible
+     * @param userID The user id
+     * @param userName The username
+     * @param protocolVersion The protocol version requested by the client
+     * @param codec The codec requested by the client
+     * @param request The matchmaking preferences sent by the client
+     * @author Dario Urdapilleta
+     * @since 03/31/2023
+     */
+    private void login(String userID, String userName, int protocolVersion, String codec, MatchRequest request) {
+        if(this.isSignedIn()) {
+            // A second login would put the same connection in another queue or at another table
+            this.sendResponse(NetworkProtocols.ERROR_ACTION, "Error you have already signed in.");
+            return;
+        }
+
+        // Check if there's an existing used signed in
+        SessionRegistry.Claim claim = DominoServer.getSessions().claim(userID, this,
+                NetworkProtocols.negotiateVersion(protocolVersion) >= NetworkProtocols.RESUME_PROTOCOL_VERSION);
+        this.agree(protocolVersion, codec, claim.getToken());
+        if(!claim.isGranted()) {
+            this.sendResponse(NetworkProtocols.SAME_USER_RESPONSE, "Error This user has already signed in.");
+        } else {
+            this.join(userID, userName, request);
+        }
+    }
+
+    /**
+     * Logs a user in again after its connection dropped, it gets back its seat and the table events it missed.
+     * The connection it had is closed if the server still had it open and the client sent the session's resume token.
+     * @param userID The user id
+     * @param userName The username
+     * @param protocolVersion The protocol version requested by the client
+     * @param codec The codec requested by the client
+     * @param lastEvent The number of the last table event the client received
+     * @param resumeToken The resume token sent by the client or null
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void resumeSession(String userID, String userName, int protocolVersion, String codec, int lastEvent, String resumeToken) {
+        if(this.isSignedIn()) {
+            // Only a new connection can take back a seat
+            this.sendResponse(NetworkProtocols.ERROR_ACTION, "Error you have already signed in.");
+            return;
+        }
+
+        // The token proves the previous connection was this client's, even if it still looks open
+        SessionRegistry.Claim claim = DominoServer.getSessions().takeOver(userID, resumeToken, this);
+        this.agree(protocolVersion, codec, claim.getToken());
+        if(!claim.isGranted()) {
+            this.sendResponse(NetworkProtocols.SAME_USER_RESPONSE, "Error This user has already signed in.");
+            return;
+        }
+        PlayerThread previous = claim.getResumedFrom();
+        boolean seated = previous != null && this.resume(previous, userID, userName, lastEvent);
+        if(previous != null && !previous.hasLeft()) {
+            previous.terminate();
+        }
+        if(seated) {
+            System.out.println("SERVER: Thread: " + this.threadNumber + ". Resumed the session of thread "
+                    + previous.threadNumber + " after event " + lastEvent + ".");
+        } else {
+            // There's no seat to go back to, the user waits for a game like any other
+            this.join(userID, userName, MatchRequest.defaults());
+        }
+    }
+
+    /**
+     * Tells whether this connection already holds a session, a place in the matchmaking queue or a seat
+     * @return True if the user signed in on this connection
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private boolean isSignedIn() {
+        return user.getId() != null || this.table != null || DominoServer.getMatchmaker().isWaiting(this);
+    }
+
+    /**
+     * Agrees on the protocol version and codec, old clients don't send them
+     * @param protocolVersion The protocol version requested by the client
+     * @param codec The codec requested by the client
+     * @param resumeToken The resume token of the session, sent to clients that can resume, or null
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void agree(int protocolVersion, String codec, String resumeToken) {
+        user.setProtocolVersion(NetworkProtocols.negotiateVersion(protocolVersion));
+        codec = NetworkProtocols.negotiateCodec(codec);
+        if(user.getProtocolVersion() < NetworkProtocols.RESUME_PROTOCOL_VERSION) {
+            resumeToken = null;
+        }
+        if(user.getProtocolVersion() > NetworkProtocols.LEGACY_PROTOCOL_VERSION || !codec.equals(NetworkProtocols.JSON_CODEC)) {
+            user.sendMessage(JsonCodec.encode(new Messages.Protocol(user.getProtocolVersion(), codec, resumeToken)));
+        }
+        user.setCodec(codec);
+    }
+
+    /**
+     * Puts a signed in user in the matchmaking queue
+     * @param userID The user id
+     * @param userName The username
+     * @param request The matchmaking preferences sent by the client
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void join(String userID, String userName, MatchRequest request) {
+        // Set the user's credentials
+        user.setCredentials(userID, userName);
+
+        // Let the user know they are waiting, another login may take them into a game at any moment
+        this.sendResponse(NetworkProtocols.LOGIN_ACTION, "");
+
+        // Checks if a game can be assigned to the user, the game is set on every player it takes
+        DominoServer.makeGame(this, request, GameContext.FIRST_GAME);
+    }
+
+    /**
+     * Takes the seat of the thread that served the same user before it dropped, and sends the events it missed
+     * @param previous The thread that served the user
+     * @param userID The user id
+     * @param userName The username
+     * @param lastEvent The number of the last table event the client received, -1 to send the game as it is now
+     * @return True if the seat was taken and false if there's no game to come back to
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private boolean resume(PlayerThread previous, String userID, String userName, int lastEvent) {
+        GameTable previousTable = previous.table;
+        if(previousTable == null) {
+            return false;
+        }
+        user.setCredentials(userID, userName);
+        this.playerCounter = previous.playerCounter;
+        this.table = previousTable;
+        if(lastEvent < 0) {
+            // A client that logged in again expects the LOGIN response, a resuming one gets RESUMED
+            this.sendResponse(NetworkProtocols.LOGIN_ACTION, "");
+        }
+
+        // The table hands over the seat and sends the events in one go, so no event is sent twice or missed
+        previousTable.post(() -> previousTable.resume(previous, this, lastEvent));
+        return true;
+    }
+
+    /**
+     * Sends the user to the matchmaking queue when another connection took back its seat first
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    void seatLost() {
+        this.table = null;
+        this.join(user.getId(), user.getName(), MatchRequest.defaults());
+    }
+
+    /**
+     * Plays a chip for this player
+     * @param placement The tile with the end it is placed on, null if the client sent something else
+     * @author Dario Urdapilleta
+     * @since 03/31/2023
+     */
+    private void playChip(DominoPlacement placement) {
+        GameTable currentTable = this.table;
+        if(currentTable != null) {
+            currentTable.post(() -> currentTable.play(this, placement));
+        } else {
+            this.sendResponse(NetworkProtocols.ERROR_ACTION, "Error you are not in a game.");
+        }
+    }
+
+    /**
+     * Sends the whole line to a client that missed a move
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void resync() {
+        GameTable currentTable = this.table;
+        if(currentTable != null) {
+            currentTable.post(() -> currentTable.resync(this));
+        }
+    }
+
+    /**
+     * Sends the game again to a client that fell behind and missed messages, once it has caught up
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    void catchUp() {
+        GameTable currentTable = this.table;
+        if(currentTable != null) {
+            currentTable.post(() -> currentTable.resume(this, this, -1));
+        }
+    }
+
+    /**
+     * Passes this player's turn
+     * @author Dario Urdapilleta
+     * @since 03/31/2023
+     */
+    private void pass() {
+        GameTable currentTable = this.table;
+        if(currentTable != null) {
+            currentTable.post(() -> currentTable.pass(this));
+        } else {
+            this.sendResponse(NetworkProtocols.ERROR_ACTION, "Error you are not in a game.");
+        }
+    }
+
+    /**
+     * Logs the user out
+     * @author Dario Urdapilleta
+     * @since 03/31/2023
+     */
+    private void logout() {
+        user.close();
+        this.running = false;
+        System.out.println("SERVER: Thread: " + this.threadNumber + ". Logged out.");
+        this.leave(false);
+    }
+
+    /**
+     * Gives back the session, the place in the matchmaking queue and the seat, only the first call does anything.
+     * A CPU player takes the seat until the user comes back, so the table doesn't wait for them.
+     * @param resumable Whether the user may come back to its seat
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void leave(boolean resumable) {
+        if(!left.compareAndSet(false, true)) {
+            return;
+        }
+        DominoServer.getSessions().release(user.getId(), this, resumable);
+        DominoServer.remove(this);
+        GameTable currentTable = this.table;
+        if(currentTable != null) {
+            currentTable.post(() -> currentTable.leave(this));
+        }
+    }
+
+    /**
+     * Tells whether the user left the server
+     * @return True once the connection is closed
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    boolean hasLeft() {
+        return left.get();
+    }
+
+    /**
+     * Notes that the user was heard from, any message shows the connection is alive
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void heard() {
+        this.lastHeardAt = System.nanoTime();
+        this.pinged = false;
+        if(satOut) {
+            // The player is back, it takes its seat from the CPU player
+            this.satOut = false;
+            this.catchUp();
+        }
+    }
+
+    /**
+     * Returns when the user was last heard from
+     * @return The time from {@link System#nanoTime()}
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    long getLastHeardAt() {
+        return lastHeardAt;
+    }
+
+    /**
+     * Tells whether the user was pinged since it was last heard from
+     * @return True if a PING is waiting for its answer
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    boolean wasPinged() {
+        return pinged;
+    }
+
+    /**
+     * Tells whether the client answers pings, older clients are only closed when their socket fails
+     * @return True if the agreed protocol version has heartbeats
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    boolean canBePinged() {
+        return user.getProtocolVersion() >= NetworkProtocols.HEARTBEAT_PROTOCOL_VERSION;
+    }
+
+    /**
+     * Asks a quiet client to show it is still there
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    void ping() {
+        this.pinged = true;
+        user.send(new Messages.Text(NetworkProtocols.PING_RESPONSE, null));
+    }
+
+    /**
+     * Returns how long the user has been quiet on its turn
+     * @param now The time from {@link System#nanoTime()}
+     * @return The time in nanoseconds since the user got the turn or was last heard from, 0 if it is not its turn
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    long quietOnTurn(long now) {
+        GameTable currentTable = this.table;
+        long heardAt = this.lastHeardAt;
+        long since;
+        if(currentTable == null || satOut || !currentTable.isWaitingFor(playerCounter)) {
+            return 0;
+        }
+        since = currentTable.getTurnGivenAt();
+        return now - (heardAt - since > 0 ? heardAt : since);
+    }
+
+    /**
+     * Hands the seat of a client that stays quiet on its turn to a CPU player, the connection stays open and the
+     * seat is given back when the client is heard from
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    void sitOut() {
+        GameTable currentTable = this.table;
+        if(currentTable == null) {
+            return;
+        }
+        System.out.println("SERVER: Thread: " + this.threadNumber + ". Quiet on its turn, a CPU player takes the seat.");
+        this.satOut = true;
+        currentTable.post(() -> currentTable.leave(this));
+    }
+
+    /**
+     * Closes the connection of a client that has been quiet too long
+     * @param quietSeconds How long the client has been quiet
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    void reap(long quietSeconds) {
+        System.out.println("SERVER: Thread: " + this.threadNumber + ". Quiet for " + quietSeconds + " s, closing the connection.");
+        this.terminate();
+    }
+
+    /**
+     * Sends a response that only carries a text to this thread's user
+     * @param action The response action
+     * @param text The text
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    void sendResponse(String action, String text) {
+        if(this.running) {
+            if(ServerConfig.TRACE_MESSAGES) {
+                System.out.println("SERVER: Thread: " + this.threadNumber + ". Sending message: " + text);
+            }
+            user.send(new Messages.Text(action, text));
+        }
+    }
+
+    /**
+     * Returns this thread's user
+     * @return this thread's user.
+     * @author Dario Urdapilleta
+     * @since 03/31/2023
+     */
+    public DominoPlayer getUser() {
+        return user;
+    }
+
+    /**
+     * Sets the table to the player thread
+     * @param table The table
+     * @author Dario Urdapilleta
+     * @since 04/11/2023
+     */
+    public void setTable (GameTable table) {
+        this.table = table;
+    }
+    /**
+     * Terminates the thread
+     * @author Dario Urdapilleta
+     * @since 03/31/2023
+     */
+    public void terminate() {
+        user.close();
+        this.running = false;
+        this.leave(table != null);
+        System.out.println("SERVER: Thread: " + this.threadNumber + ". Was terminated.");
+    }
+
+    /**
+     * Sends the starting message to the player, and lets the player know if they start the game or not.
+     * @param start True if the player will start, false otherwise.
+     * @author Dario Urdapilleta
+     * @since 04/11/2023
+     */
+    public void sendStartGame(boolean start) {
+        Messages.GameReady message = table.gameReadyOf(playerCounter, start);
+        if(ServerConfig.TRACE_MESSAGES) {
+            System.out.println("SERVER: Thread: " + this.threadNumber + ". Sending message: " + NetworkProtocols.GAME_READY_RESPONSE);
+        }
+        table.send(playerCounter, message);
+    }
+}
@@ -0,0 +1,210 @@
+package server;
+
+import utilities.Connection;
+import utilities.Frame;
+import utilities.NetworkProtocols;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A player connection that never writes on the sender's thread.
+ * Messages are encoded on the sender's thread into an {@link OutboundQueue} and a writer sends them later.
+ * A client that doesn't keep up fills its queue, then it is dropped or sent the game again once it catches up,
+ * see {@link ServerConfig#SLOW_CLIENTS}.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+abstract class QueuedConnection implements Connection {
+    /**
+     * The bytes waiting to be written
+     */
+    protected final OutboundQueue output;
+    /**
+     * The player thread that handles the messages
+     */
+    protected PlayerThread handler;
+    /**
+     * The protocol version agreed with the player
+     */
+    protected volatile int protocolVersion;
+    /**
+     * Whether the player agreed on binary frames
+     */
+    protected volatile boolean binary;
+    /**
+     * The connection status
+     */
+    protected volatile boolean open;
+    /**
+     * The persistent object stream for protocol version 2
+     */
+    private ObjectOutputStream objectOutput;
+    /**
+     * The bytes written by the persistent object stream
+     */
+    private ByteArrayOutputStream objectBytes;
+    /**
+     * Whether messages were dropped and the game must be sent again once the queue is written
+     */
+    private final AtomicBoolean resyncPending;
+
+    /**
+     * Constructor for the queued connection
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    protected QueuedConnection() {
+        this.output = new OutboundQueue(ServerConfig.OUTBOUND_LIMIT, this::scheduleFlush);
+        this.protocolVersion = NetworkProtocols.LEGACY_PROTOCOL_VERSION;
+        this.binary = false;
+        this.open = true;
+        this.resyncPending = new AtomicBoolean(false);
+    }
+
+    /**
+     * Sets the player thread that handles the messages
+     * @param handler The player thread
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void setHandler(PlayerThread handler) {
+        this.handler = handler;
+    }
+
+    /**
+     * Sends a JSON message as a serialized string
+     * @param message The message to send
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void sendMessage(String message) {
+        // Encoding and queueing must not interleave, the persistent stream depends on the order
+        synchronized (this) {
+            if(!this.hasRoom()) {
+                return;
+            }
+            try {
+                if(protocolVersion >= NetworkProtocols.STREAM_PROTOCOL_VERSION) {
+                    if(objectOutput == null) {
+                        objectBytes = new ByteArrayOutputStream(256);
+                        objectOutput = new ObjectOutputStream(objectBytes);
+                    }
+                    objectOutput.reset();
+                    objectOutput.writeObject(message);
+                    objectOutput.flush();
+                    output.add(ByteBuffer.wrap(objectBytes.toByteArray()));
+                    objectBytes.reset();
+                } else {
+                    ByteArrayOutputStream bytes = new ByteArrayOutputStream(message.length() + 16);
+                    ObjectOutputStream stream = new ObjectOutputStream(bytes);
+                    stream.writeObject(message);
+                    stream.flush();
+                    output.add(ByteBuffer.wrap(bytes.toByteArray()));
+                }
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        output.requestFlush();
+    }
+
+    /**
+     * Sends a binary frame
+     * @param frame The frame to send
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void sendFrame(Frame frame) {
+        ByteBuffer bytes = ByteBuffer.allocate(frame.getPayload().length + 3);
+        bytes.putShort((short)(frame.getPayload().length + 1));
+        bytes.put(frame.getOpcode());
+        bytes.put(frame.getPayload());
+        bytes.flip();
+        synchronized (this) {
+            if(!this.hasRoom()) {
+                return;
+            }
+            output.add(bytes);
+        }
+        output.requestFlush();
+    }
+
+    /**
+     * Checks the queue can take one more message, a full queue applies the slow client policy
+     * @return True if the message can be queued, and false if it is dropped
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private boolean hasRoom() {
+        if(!open) {
+            return false;
+        }
+        if(resyncPending.get()) {
+            // The player gets the whole game once the queue is written, the moves in between are not needed
+            return false;
+        }
+        if(!output.isFull()) {
+            return true;
+        }
+        if(ServerConfig.SLOW_CLIENTS == ServerConfig.SlowClients.RESYNC && handler != null) {
+            System.out.println("SERVER: Thread: " + handler.threadNumber + ". The client fell behind, it will be sent the game again.");
+            resyncPending.set(true);
+        } else {
+            System.out.println("SERVER: Thread: " + (handler == null ? "-" : handler.threadNumber) + ". The client fell behind, dropping it.");
+            this.slowClientDropped();
+        }
+        return false;
+    }
+
+    /**
+     * Lets the connection know a flush wrote everything it found.
+     * A player that fell behind is sent the game again now that it has caught up.
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    protected void flushed() {
+        if(output.isEmpty() && resyncPending.compareAndSet(true, false)) {
+            handler.catchUp();
+        }
+        output.flushed();
+    }
+
+    /**
+     * Runs or schedules a flush of the queue, the flush calls {@link #flushed()} once the queue is written
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    protected abstract void scheduleFlush();
+
+    /**
+     * Closes the connection of a client that fell behind
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    protected abstract void slowClientDropped();
+
+    /**
+     * Sets the protocol version agreed with the player
+     * @param protocolVersion The protocol version
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void setProtocolVersion(int protocolVersion) {
+        this.protocolVersion = protocolVersion;
+    }
+
+    /**
+     * Sets the codec agreed with the player
+     * @param codec The codec
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void setCodec(String codec) {
+        this.binary = NetworkProtocols.BINARY_CODEC.equals(codec);
+    }
+}
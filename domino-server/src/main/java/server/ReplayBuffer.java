@@ -0,0 +1,74 @@
+package server;
+
+import utilities.Messages;
+
+import java.util.ArrayList;
+
+/**
+ * The last table events sent to a seat, kept so a player that reconnects gets only the events it missed.
+ * The events are numbered from 1 in the order they are sent, the buffer holds a limited number of the latest ones.
+ * It is only used from the table's mailbox.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public final class ReplayBuffer {
+    /**
+     * The latest events, the event number n is at n - 1 modulo the length
+     */
+    private final Messages.Message[] events;
+    /**
+     * The number of the last event sent
+     */
+    private int lastEvent;
+
+    /**
+     * Constructor for the replay buffer
+     * @param capacity The number of events kept
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public ReplayBuffer(int capacity) {
+        this.events = new Messages.Message[capacity];
+        this.lastEvent = 0;
+    }
+
+    /**
+     * Keeps an event sent to the seat
+     * @param event The event
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void record(Messages.Message event) {
+        events[lastEvent % events.length] = event;
+        lastEvent++;
+    }
+
+    /**
+     * Returns the number of the last event sent
+     * @return The event number, 0 before the first one
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int getLastEvent() {
+        return lastEvent;
+    }
+
+    /**
+     * Returns the events sent after one the client received
+     * @param received The number of the last event the client received
+     * @return The events in order, or null if some of them are no longer kept or the number is unknown
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public ArrayList<Messages.Message> since(int received) {
+        if(received < 0 || received > lastEvent || lastEvent - received > events.length) {
+            return null;
+        }
+        ArrayList<Messages.Message> missed = new ArrayList<Messages.Message>(lastEvent - received);
+        for(int event = received; event < lastEvent; event++) {
+            missed.add(events[event % events.length]);
+        }
+        return missed;
+    }
+}
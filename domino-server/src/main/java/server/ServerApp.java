@@ -9,11 +9,14 @@ package server;
 public class ServerApp {
     /**
      * Main method that contains the chat's main functionality.
-     * @param args The console arguments (not used).
+     * @param args The console arguments as key=value options, see {@link ServerConfig}.
      * @author Dario Urdapilleta
      * @since 03/31/2023
      */
     public static void main(String[] args) {
+        // The server has no interface, nothing should load AWT
+        System.setProperty("java.awt.headless", "true");
+        ServerConfig.loadFromArgs(args);
         DominoServer.startServer();
     }
 }
\ No newline at end of file
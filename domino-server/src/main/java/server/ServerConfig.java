@@ -0,0 +1,278 @@
+package server;
+
+import model.CpuStrategy;
+import model.FirstFitStrategy;
+
+/**
+ * Dictionary class to store the server startup options.
+ * Options are passed to {@link ServerApp} as key=value arguments.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class ServerConfig {
+    /**
+     * The server execution modes
+     */
+    public enum Mode {
+        /**
+         * One pool thread per player blocked reading its socket
+         */
+        BLOCKING,
+        /**
+         * One virtual thread per player blocked reading its socket
+         */
+        VIRTUAL_THREADS,
+        /**
+         * A few selector threads serve every player without blocking
+         */
+        EVENT_LOOP
+    }
+    /**
+     * What happens to a client whose outbound queue fills up
+     */
+    public enum SlowClients {
+        /**
+         * The messages are dropped until the queue is written, then the client is sent the game again
+         */
+        RESYNC,
+        /**
+         * The client is disconnected
+         */
+        DROP
+    }
+    /**
+     * Option: the execution mode
+     */
+    public static final String MODE_OPTION = "mode";
+    /**
+     * Option: the number of event loops in the event loop mode
+     */
+    public static final String EVENT_LOOPS_OPTION = "event_loops";
+    /**
+     * Option: whether to report virtual threads pinned to their carrier
+     */
+    public static final String REPORT_PINNING_OPTION = "report_pinning";
+    /**
+     * Option: the number of humans at a table for players that don't ask for one
+     */
+    public static final String TABLE_SIZE_OPTION = "table_size";
+    /**
+     * Option: the longest a player waits for humans before CPU players take the empty seats, in milliseconds
+     */
+    public static final String MAX_WAIT_OPTION = "max_wait_ms";
+    /**
+     * Option: the width of the rating bands, 0 to ignore the rating
+     */
+    public static final String RATING_BAND_OPTION = "rating_band";
+    /**
+     * Option: how often the matchmaking statistics are printed in seconds, 0 to never print them
+     */
+    public static final String STATS_INTERVAL_OPTION = "stats_interval_s";
+    /**
+     * Option: whether to print every message received from and sent to the clients
+     */
+    public static final String TRACE_MESSAGES_OPTION = "trace_messages";
+    /**
+     * Option: how long a player that dropped out of a game can come back to its seat, in seconds
+     */
+    public static final String RESUME_WINDOW_OPTION = "resume_window_s";
+    /**
+     * Option: the number of threads that run the tables
+     */
+    public static final String TABLE_WORKERS_OPTION = "table_workers";
+    /**
+     * Option: how long a CPU player thinks before it moves, in milliseconds
+     */
+    public static final String CPU_DELAY_OPTION = "cpu_delay_ms";
+    /**
+     * Option: the most messages waiting to be written to a client
+     */
+    public static final String OUTBOUND_LIMIT_OPTION = "outbound_limit";
+    /**
+     * Option: what happens to a client whose outbound queue fills up
+     */
+    public static final String SLOW_CLIENTS_OPTION = "slow_clients";
+    /**
+     * Option: how long a connection can be quiet before it is pinged, in seconds
+     */
+    public static final String HEARTBEAT_OPTION = "heartbeat_s";
+    /**
+     * Option: how long a connection can be quiet before it is closed, in seconds, 0 to never close it
+     */
+    public static final String IDLE_TIMEOUT_OPTION = "idle_timeout_s";
+    /**
+     * Option: the number of table events kept for each seat, for the players that reconnect
+     */
+    public static final String REPLAY_EVENTS_OPTION = "replay_events";
+    /**
+     * Option: the strategies of the CPU players, see {@link #CPU_STRATEGIES}
+     */
+    public static final String CPU_STRATEGIES_OPTION = "cpu_strategies";
+    /**
+     * The execution mode
+     */
+    public static Mode MODE = Mode.BLOCKING;
+    /**
+     * The number of event loops in the event loop mode
+     */
+    public static int EVENT_LOOPS = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    /**
+     * Whether to report virtual threads pinned to their carrier in the virtual threads mode
+     */
+    public static boolean REPORT_PINNING = true;
+    /**
+     * The number of humans at a table for players that don't ask for one
+     */
+    public static int TABLE_SIZE = 2;
+    /**
+     * The longest a player waits for humans before CPU players take the empty seats, in milliseconds
+     */
+    public static long MAX_WAIT_MS = 10000;
+    /**
+     * The width of the rating bands, 0 to ignore the rating
+     */
+    public static int RATING_BAND = 200;
+    /**
+     * How often the matchmaking statistics are printed in seconds, 0 to never print them
+     */
+    public static int STATS_INTERVAL_S = 60;
+    /**
+     * Whether to print every message received from and sent to the clients
+     */
+    public static boolean TRACE_MESSAGES = false;
+    /**
+     * How long a player that dropped out of a game can come back to its seat, in seconds
+     */
+    public static int RESUME_WINDOW_S = 120;
+    /**
+     * The number of threads that run the tables
+     */
+    public static int TABLE_WORKERS = Runtime.getRuntime().availableProcessors();
+    /**
+     * How long a CPU player thinks before it moves, in milliseconds, 0 to move right away
+     */
+    public static long CPU_DELAY_MS = 0;
+    /**
+     * The fewest messages a client queue can hold, a table sends a few messages per event and a resync sends three
+     */
+    public static final int MIN_OUTBOUND_LIMIT = 16;
+    /**
+     * The most messages waiting to be written to a client
+     */
+    public static int OUTBOUND_LIMIT = 256;
+    /**
+     * What happens to a client whose outbound queue fills up
+     */
+    public static SlowClients SLOW_CLIENTS = SlowClients.RESYNC;
+    /**
+     * How long a connection can be quiet before it is pinged, in seconds
+     */
+    public static int HEARTBEAT_S = 15;
+    /**
+     * How long a connection can be quiet before it is closed, in seconds, 0 to never close it
+     */
+    public static int IDLE_TIMEOUT_S = 45;
+    /**
+     * The number of table events kept for each seat, for the players that reconnect
+     */
+    public static int REPLAY_EVENTS = 128;
+    /**
+     * The line-ups of CPU strategies, the tables take them in turn. Each line-up has the strategy of every seat,
+     * only the seats a CPU player takes use it. By default every seat plays the first tile that fits, as the CPU
+     * players did before the strategies.
+     */
+    public static CpuStrategy[][] CPU_STRATEGIES = {{FirstFitStrategy.INSTANCE, FirstFitStrategy.INSTANCE,
+            FirstFitStrategy.INSTANCE, FirstFitStrategy.INSTANCE}};
+
+    /**
+     * Loads the options from the console arguments
+     * @param args The console arguments as key=value pairs
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static void loadFromArgs(String[] args) {
+        for(String arg : args) {
+            int separator = arg.indexOf('=');
+            if(separator < 0) {
+                throw new IllegalArgumentException("Options must be written as key=value: " + arg);
+            }
+            String key = arg.substring(0, separator).trim().toLowerCase();
+            String value = arg.substring(separator + 1).trim();
+            switch (key) {
+                case MODE_OPTION:
+                    MODE = Mode.valueOf(value.toUpperCase().replace('-', '_'));
+                    break;
+                case EVENT_LOOPS_OPTION:
+                    EVENT_LOOPS = Math.max(1, Integer.parseInt(value));
+                    break;
+                case REPORT_PINNING_OPTION:
+                    REPORT_PINNING = Boolean.parseBoolean(value);
+                    break;
+                case TABLE_SIZE_OPTION:
+                    TABLE_SIZE = Integer.parseInt(value);
+                    if(TABLE_SIZE < MatchRequest.MIN_TABLE_SIZE || TABLE_SIZE > MatchRequest.MAX_TABLE_SIZE) {
+                        throw new IllegalArgumentException("The table size must be between " + MatchRequest.MIN_TABLE_SIZE
+                                + " and " + MatchRequest.MAX_TABLE_SIZE + ": " + value);
+                    }
+                    break;
+                case MAX_WAIT_OPTION:
+                    MAX_WAIT_MS = Math.max(0, Long.parseLong(value));
+                    break;
+                case RATING_BAND_OPTION:
+                    RATING_BAND = Math.max(0, Integer.parseInt(value));
+                    break;
+                case STATS_INTERVAL_OPTION:
+                    STATS_INTERVAL_S = Math.max(0, Integer.parseInt(value));
+                    break;
+                case TRACE_MESSAGES_OPTION:
+                    TRACE_MESSAGES = Boolean.parseBoolean(value);
+                    break;
+                case RESUME_WINDOW_OPTION:
+                    RESUME_WINDOW_S = Math.max(0, Integer.parseInt(value));
+                    break;
+                case TABLE_WORKERS_OPTION:
+                    TABLE_WORKERS = Math.max(1, Integer.parseInt(value));
+                    break;
+                case CPU_DELAY_OPTION:
+                    CPU_DELAY_MS = Math.max(0, Long.parseLong(value));
+                    break;
+                case OUTBOUND_LIMIT_OPTION:
+                    OUTBOUND_LIMIT = Math.max(MIN_OUTBOUND_LIMIT, Integer.parseInt(value));
+                    break;
+                case SLOW_CLIENTS_OPTION:
+                    SLOW_CLIENTS = SlowClients.valueOf(value.toUpperCase());
+                    break;
+                case HEARTBEAT_OPTION:
+                    HEARTBEAT_S = Math.max(1, Integer.parseInt(value));
+                    break;
+                case IDLE_TIMEOUT_OPTION:
+                    IDLE_TIMEOUT_S = Math.max(0, Integer.parseInt(value));
+                    break;
+                case REPLAY_EVENTS_OPTION:
+                    REPLAY_EVENTS = Math.max(1, Integer.parseInt(value));
+                    break;
+                case CPU_STRATEGIES_OPTION:
+                    String[] lineUps = value.split(";");
+                    CPU_STRATEGIES = new CpuStrategy[lineUps.length][];
+                    for(int lineUp = 0; lineUp < lineUps.length; lineUp++) {
+                        CPU_STRATEGIES[lineUp] = CpuStrategy.forSeats(lineUps[lineUp]);
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown server option: " + key);
+            }
+        }
+    }
+
+    /**
+     * Returns the CPU strategies of a table
+     * @param table The table number
+     * @return The strategy of each seat
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public static CpuStrategy[] cpuStrategiesOf(int table) {
+        return CPU_STRATEGIES[Math.floorMod(table, CPU_STRATEGIES.length)];
+    }
+}
@@ -0,0 +1,286 @@
+package server;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The signed in users by user id.
+ * A user id is claimed by one player thread at a time. Claims and releases are atomic for each user id only, so
+ * logins of different users never wait for each other.
+ * A player that drops out of a game keeps the session for the resume window. Each claim gets a new resume token,
+ * only a RESUME with that token takes back the seat, whether the server still has the old connection open or not.
+ * A login, or a RESUME without the token, starts a new session.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class SessionRegistry {
+    /**
+     * The session of a user id. Sessions are never changed, a new one replaces the old one so a purge can't remove
+     * a session that was just claimed.
+     */
+    private static final class Session {
+        /**
+         * The thread serving the user, null while the user is away
+         */
+        private final PlayerThread owner;
+        /**
+         * The thread that served the user before it dropped, null if the user is online
+         */
+        private final PlayerThread detached;
+        /**
+         * When the user dropped, from {@link System#nanoTime()}
+         */
+        private final long detachedAt;
+        /**
+         * The token a RESUME must send to take the session over
+         */
+        private final String token;
+
+        /**
+         * Constructor for a session
+         * @param owner The thread serving the user or null
+         * @param detached The thread that served the user before it dropped or null
+         * @param detachedAt When the user dropped
+         * @param token The resume token
+         * @author Dario Urdapilleta
+         * @since 10/18/2026
+         */
+        private Session(PlayerThread owner, PlayerThread detached, long detachedAt, String token) {
+            this.owner = owner;
+            this.detached = detached;
+            this.detachedAt = detachedAt;
+            this.token = token;
+        }
+    }
+
+    /**
+     * The result of a claim
+     */
+    public static final class Claim {
+        /**
+         * Whether the user id was given to the thread
+         */
+        private final boolean granted;
+        /**
+         * The thread whose seat the new thread takes over, null for a new session
+         */
+        private final PlayerThread resumedFrom;
+        /**
+         * The resume token of the new session, null if the claim was not granted
+         */
+        private final String token;
+
+        /**
+         * Constructor for a claim
+         * @param granted Whether the user id was given to the thread
+         * @param resumedFrom The thread whose seat the new thread takes over or null
+         * @param token The resume token of the new session or null
+         * @author Dario Urdapilleta
+         * @since 10/18/2026
+         */
+        private Claim(boolean granted, PlayerThread resumedFrom, String token) {
+            this.granted = granted;
+            this.resumedFrom = resumedFrom;
+            this.token = token;
+        }
+
+        /**
+         * Returns whether the user id was given to the thread
+         * @return False if another thread is serving the same user
+         * @author Dario Urdapilleta
+         * @since 10/18/2026
+         */
+        public boolean isGranted() {
+            return granted;
+        }
+
+        /**
+         * Returns the thread whose seat the new thread takes over
+         * @return The previous thread or null for a new session
+         * @author Dario Urdapilleta
+         * @since 10/18/2026
+         */
+        public PlayerThread getResumedFrom() {
+            return resumedFrom;
+        }
+
+        /**
+         * Returns the resume token of the new session
+         * @return The token, null if the claim was not granted
+         * @author Dario Urdapilleta
+         * @since 10/18/2026
+         */
+        public String getToken() {
+            return token;
+        }
+    }
+
+    /**
+     * The number of random bytes in a resume token
+     */
+    private static final int TOKEN_BYTES = 16;
+    /**
+     * The generator of the resume tokens
+     */
+    private static final SecureRandom TOKENS = new SecureRandom();
+    /**
+     * The format of the resume tokens
+     */
+    private static final HexFormat HEX = HexFormat.of();
+
+    /**
+     * The sessions by user id
+     */
+    private final ConcurrentHashMap<String, Session> sessions;
+    /**
+     * How long a dropped user can come back to its seat, in nanoseconds
+     */
+    private final long resumeWindowNanos;
+
+    /**
+     * Constructor for the registry
+     * @param resumeWindowSeconds How long a dropped user can come back to its seat
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public SessionRegistry(long resumeWindowSeconds) {
+        this.sessions = new ConcurrentHashMap<String, Session>();
+        this.resumeWindowNanos = TimeUnit.SECONDS.toNanos(resumeWindowSeconds);
+    }
+
+    /**
+     * Gives a user id to a player thread, the seat of a user that dropped is not taken back without its token
+     * @param userId The user id
+     * @param thread The player thread
+     * @param resumable Whether the client can resume, only those get a resume token
+     * @return The claim of a new session, not granted if a thread, this one included, is serving the same user
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public Claim claim(String userId, PlayerThread thread, boolean resumable) {
+        Session[] created = new Session[1];
+        sessions.compute(userId, (id, current) -> {
+            if(current != null && current.owner != null) {
+                // Someone is online with this id
+                return current;
+            }
+            created[0] = new Session(thread, null, 0, resumable ? SessionRegistry.newToken() : null);
+            return created[0];
+        });
+        return created[0] != null ? new Claim(true, null, created[0].token) : new Claim(false, null, null);
+    }
+
+    /**
+     * Gives a user id to a player thread that reconnected, taking it from the thread that served the user before.
+     * The old connection may still look open when the client has already given up on it. Either way the seat is only
+     * taken with the resume token of the session, without it the RESUME is a login.
+     * @param userId The user id
+     * @param token The resume token sent by the client or null
+     * @param thread The player thread
+     * @return The claim, not granted if another thread is serving the user and the token is not the session's,
+     * with the thread that served the user if the token is the session's and the user is online or may come back
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public Claim takeOver(String userId, String token, PlayerThread thread) {
+        PlayerThread[] resumedFrom = new PlayerThread[1];
+        long now = System.nanoTime();
+        Session session = sessions.compute(userId, (id, current) -> {
+            if(current != null && current.owner != null) {
+                if(!SessionRegistry.sameToken(current.token, token)) {
+                    // Someone is online with this id and this is not its client
+                    return current;
+                }
+                resumedFrom[0] = current.owner;
+            } else if(current != null && now - current.detachedAt < resumeWindowNanos
+                    && SessionRegistry.sameToken(current.token, token)) {
+                resumedFrom[0] = current.detached;
+            }
+            return new Session(thread, null, 0, SessionRegistry.newToken());
+        });
+        return session.owner == thread ? new Claim(true, resumedFrom[0], session.token) : new Claim(false, null, null);
+    }
+
+    /**
+     * Gives a user id back
+     * @param userId The user id, nothing happens if null
+     * @param thread The player thread, nothing happens if it doesn't hold the user id
+     * @param resumable Whether the user may come back to its seat
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void release(String userId, PlayerThread thread, boolean resumable) {
+        if(userId == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        sessions.computeIfPresent(userId, (id, current) -> {
+            if(current.owner != thread) {
+                return current;
+            }
+            return resumable ? new Session(null, thread, now, current.token) : null;
+        });
+    }
+
+    /**
+     * Returns whether a user is online
+     * @param userId The user id
+     * @return True if a thread is serving the user
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public boolean isOnline(String userId) {
+        Session session = sessions.get(userId);
+        return session != null && session.owner != null;
+    }
+
+    /**
+     * Returns the number of sessions, online or waiting for their user to come back
+     * @return The number of sessions
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int size() {
+        return sessions.size();
+    }
+
+    /**
+     * Removes the sessions of the users that didn't come back in time
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        sessions.values().removeIf(session -> session.owner == null && now - session.detachedAt >= resumeWindowNanos);
+    }
+
+    /**
+     * Makes a new resume token, only for a claim that is granted
+     * @return The token, random bytes in hexadecimal
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        TOKENS.nextBytes(bytes);
+        return HEX.formatHex(bytes);
+    }
+
+    /**
+     * Compares a resume token with the one sent by a client, in a time that doesn't tell how much of it matched
+     * @param token The token of the session
+     * @param sent The token sent or null
+     * @return True if they are the same
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static boolean sameToken(String token, String sent) {
+        return token != null && sent != null
+                && MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8), sent.getBytes(StandardCharsets.UTF_8));
+    }
+}
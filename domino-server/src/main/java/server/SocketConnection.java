@@ -0,0 +1,128 @@
+package server;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The outbound side of a player served by a thread that blocks reading its socket.
+ * The thread keeps reading, the queued messages are written by a separate writer so neither the reader
+ * nor the table waits for a slow client. The writers are threads of the same kind as the readers: a fixed pool of
+ * platform threads in the blocking mode, and virtual threads in the virtual threads mode.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+class SocketConnection extends QueuedConnection {
+    /**
+     * The writers shared by every socket, made by the first socket so the event loop mode never starts them
+     */
+    private static final class Writers {
+        /**
+         * The writers, a writer only blocks on its own client
+         */
+        private static final ExecutorService EXECUTOR = Writers.create();
+
+        /**
+         * Makes the writers for the server mode
+         * @return A virtual thread per write in the virtual threads mode, else a pool of platform threads with one
+         * thread per possible player
+         * @author Dario Urdapilleta
+         * @since 10/18/2026
+         */
+        private static ExecutorService create() {
+            if(ServerConfig.MODE == ServerConfig.Mode.VIRTUAL_THREADS) {
+                return Executors.newVirtualThreadPerTaskExecutor();
+            }
+            AtomicInteger writerNumber = new AtomicInteger();
+            return Executors.newFixedThreadPool(DominoServer.MAX_THREADS, task -> {
+                Thread thread = new Thread(task, "domino-writer-" + writerNumber.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * The client socket
+     */
+    private final Socket socket;
+    /**
+     * The buffered socket output, flushed once per batch of messages
+     */
+    private OutputStream stream;
+
+    /**
+     * Constructor for the socket connection
+     * @param socket The client socket
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    SocketConnection(Socket socket) {
+        super();
+        this.socket = socket;
+    }
+
+    /**
+     * Asks a writer to write the queue, the messages queued until it runs go out together
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    protected void scheduleFlush() {
+        Writers.EXECUTOR.execute(this::write);
+    }
+
+    /**
+     * Writes every queued message and flushes the socket once
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void write() {
+        ByteBuffer bytes;
+        if(!open) {
+            return;
+        }
+        try {
+            if(stream == null) {
+                stream = new BufferedOutputStream(socket.getOutputStream(), 8192);
+            }
+            while((bytes = output.poll()) != null) {
+                stream.write(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+            }
+            stream.flush();
+            this.flushed();
+        } catch (IOException e) {
+            // The reader sees the closed socket and logs the player out
+            this.close();
+        }
+    }
+
+    /**
+     * Closes the connection of a client that fell behind, the reader logs the player out
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    protected void slowClientDropped() {
+        this.close();
+    }
+
+    /**
+     * Closes the connection
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public void close() {
+        this.open = false;
+        output.clear();
+        try {
+            socket.close();
+        } catch (IOException e) {
+            System.out.println("SERVER: Thread: " + handler.threadNumber + ". ERROR closing the socket: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package server;
+
+import model.GameContext;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hosts the open tables on a fixed number of worker threads.
+ * A worker runs the mailbox of one table at a time, a table is never run by two workers at once.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class TableHost {
+    /**
+     * The workers that run the mailboxes
+     */
+    private final ExecutorService workers;
+    /**
+     * Posts the delayed events, it never runs them
+     */
+    private final ScheduledExecutorService timer;
+    /**
+     * The open tables by number
+     */
+    private final Map<Integer, GameTable> tables;
+    /**
+     * The last table number given
+     */
+    private final AtomicInteger lastNumber;
+
+    /**
+     * Constructor for the table host
+     * @param workers The number of worker threads
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public TableHost(int workers) {
+        AtomicInteger workerNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workers, task -> {
+            Thread thread = new Thread(task, "domino-table-" + workerNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timer = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "domino-table-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.tables = new ConcurrentHashMap<Integer, GameTable>();
+        this.lastNumber = new AtomicInteger();
+    }
+
+    /**
+     * Opens a table for a group of players and starts the first game, CPU players take the empty seats
+     * @param players The players in arrival order
+     * @param context The rules of the first game
+     * @return The table
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public GameTable open(ArrayList<PlayerThread> players, GameContext context) {
+        GameTable table = new GameTable(lastNumber.incrementAndGet(), this, players);
+        tables.put(table.getNumber(), table);
+
+        // Seat the players before the game starts, their next actions go to the table
+        for(int playerCounter = 0; playerCounter < players.size(); playerCounter++) {
+            players.get(playerCounter).setPlayerCounter(playerCounter);
+            players.get(playerCounter).setTable(table);
+        }
+        table.post(() -> table.start(context));
+        return table;
+    }
+
+    /**
+     * Removes a table once its match is over
+     * @param table The table
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    void close(GameTable table) {
+        tables.remove(table.getNumber());
+    }
+
+    /**
+     * Runs a table's mailbox on a worker
+     * @param drain The task that runs the mailbox
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    void execute(Runnable drain) {
+        workers.execute(drain);
+    }
+
+    /**
+     * Runs a task after a delay on the timer thread
+     * @param task The task, it should only post an event
+     * @param delay The delay
+     * @param unit The unit of the delay
+     * @return The pending task
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit unit) {
+        return timer.schedule(task, delay, unit);
+    }
+
+    /**
+     * Returns the number of open tables
+     * @return The number of tables
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public int getTableCount() {
+        return tables.size();
+    }
+
+    /**
+     * Returns the number of open tables and the events waiting in their mailboxes
+     * @return The summary
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    public String summary() {
+        int pending = 0;
+        for(GameTable table : tables.values()) {
+            pending += table.getPendingEvents();
+        }
+        return tables.size() + " tables, " + pending + " events waiting";
+    }
+}
@@ -0,0 +1,293 @@
+package server;
+
+import model.DominoEngine;
+import model.DominoPlacement;
+import model.DominoTile;
+import model.GameContext;
+import org.junit.jupiter.api.Test;
+import utilities.JsonCodec;
+import utilities.Messages;
+import utilities.MoveError;
+import utilities.NetworkProtocols;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static server.TestPlayers.newPlayer;
+
+/**
+ * Tests of a table run from the test thread, with four human players whose connections keep the messages sent.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class GameTableTest {
+    /**
+     * The host of the tables, the tests call the table themselves and never post to it
+     */
+    private static final TableHost HOST = new TableHost(1);
+
+    /**
+     * The players in their seats
+     */
+    private final ArrayList<PlayerThread> players = new ArrayList<PlayerThread>();
+    /**
+     * The messages sent to each seat
+     */
+    private final List<List<String>> received = new ArrayList<List<String>>();
+
+    /**
+     * A player that comes back is sent the events it missed, without the turns, and gets the turn if it is theirs.
+     * The table sends the next events to the new connection only.
+     * @throws IOException If a message sent can't be read
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void replaysTheMissedEventsAfterAResume() throws IOException {
+        GameTable table = this.open();
+        int seat = (table.getGame().getTurn() + 1) % DominoEngine.PLAYER_COUNT;
+        int seen = received.get(seat).size();
+        PlayerThread dropped = players.get(seat);
+        for(int move = 0; move < DominoEngine.PLAYER_COUNT; move++) {
+            this.move(table);
+        }
+
+        // The events the seat was sent while it was away, the turns are given again
+        List<String> missed = new ArrayList<String>();
+        for(String event : received.get(seat).subList(seen, received.get(seat).size())) {
+            if(!GameTableTest.isTurn(event)) {
+                missed.add(event);
+            }
+        }
+        List<String> back = new ArrayList<String>();
+        PlayerThread again = newPlayer(back);
+        again.setPlayerCounter(seat);
+        again.setTable(table);
+        players.set(seat, again);
+        table.resume(dropped, again, seen);
+
+        int sent = received.get(seat).size();
+        assertEquals(new Messages.Resumed(sent - missed.size()), JsonCodec.decode(back.get(0)));
+        assertEquals(missed, back.subList(1, 1 + missed.size()));
+        assertEquals(table.getGame().getTurn() == seat ? 1 : 0, back.size() - 1 - missed.size());
+
+        // The next tile played goes to the new connection
+        int length = table.getGame().getLineLength();
+        int before;
+        do {
+            before = back.size();
+            this.move(table);
+        } while(table.getGame().getLineLength() == length);
+        assertEquals(sent, received.get(seat).size());
+        assertInstanceOf(Messages.PlayerMoved.class, JsonCodec.decode(back.get(before)));
+    }
+
+    /**
+     * A legal tile is played on the line, every player is told and the turn moves on
+     * @throws IOException If a message sent can't be read
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void playsALegalTile() throws IOException {
+        GameTable table = this.open();
+        int turn = table.getGame().getTurn();
+        DominoPlacement opening = DominoPlacement.of(DominoTile.of(DominoEngine.DOUBLE_SIX), true);
+        int[] before = this.counts();
+
+        table.play(players.get(turn), opening);
+        assertEquals(1, table.getGame().getLineLength());
+        assertEquals((turn + 1) % DominoEngine.PLAYER_COUNT, table.getGame().getTurn());
+        for(int seat = 0; seat < players.size(); seat++) {
+            assertEquals(new Messages.PlayerMoved(opening.asByte(), turn, 1), JsonCodec.decode(received.get(seat).get(before[seat])));
+        }
+    }
+
+    /**
+     * A tile the player doesn't hold is rejected
+     * @throws IOException If a message sent can't be read
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void rejectsATileNotInTheHand() throws IOException {
+        GameTable table = this.open();
+        int turn = table.getGame().getTurn();
+        DominoEngine engine = table.getGame().getEngine();
+        int tile = Integer.numberOfTrailingZeros(engine.getHand((turn + 1) % DominoEngine.PLAYER_COUNT));
+        int[] before = this.counts();
+        int length = table.getGame().getLineLength();
+
+        table.play(players.get(turn), DominoPlacement.of(DominoTile.of(tile), true));
+        this.assertRejected(table, turn, before, length, MoveError.NOT_IN_HAND);
+    }
+
+    /**
+     * A tile that doesn't fit the end it is placed on is rejected
+     * @throws IOException If a message sent can't be read
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void rejectsATileThatDoesNotFit() throws IOException {
+        GameTable table = this.open();
+        this.move(table);
+
+        // A player with a tile that fits neither end
+        int turn = table.getGame().getTurn();
+        DominoEngine engine = table.getGame().getEngine();
+        int misfits = engine.getHand(turn) & ~engine.legalMoves(turn, GameContext.NEXT_GAME);
+        while(misfits == 0) {
+            this.move(table);
+            turn = table.getGame().getTurn();
+            misfits = engine.getHand(turn) & ~engine.legalMoves(turn, GameContext.NEXT_GAME);
+        }
+        int[] before = this.counts();
+        int length = table.getGame().getLineLength();
+
+        table.play(players.get(turn), DominoPlacement.of(DominoTile.of(Integer.numberOfTrailingZeros(misfits)), true));
+        this.assertRejected(table, turn, before, length, MoveError.NO_MATCHING_END);
+    }
+
+    /**
+     * A player that plays when it is not their turn is rejected, and is not given the turn with the game
+     * @throws IOException If a message sent can't be read
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void rejectsAPlayOutOfTurn() throws IOException {
+        GameTable table = this.open();
+        int seat = (table.getGame().getTurn() + 1) % DominoEngine.PLAYER_COUNT;
+        int tile = Integer.numberOfTrailingZeros(table.getGame().getEngine().getHand(seat));
+        int[] before = this.counts();
+        int length = table.getGame().getLineLength();
+
+        table.play(players.get(seat), DominoPlacement.of(DominoTile.of(tile), true));
+        this.assertRejected(table, seat, before, length, MoveError.NOT_YOUR_TURN);
+    }
+
+    /**
+     * A player can't pass while it holds a tile that fits the line
+     * @throws IOException If a message sent can't be read
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void rejectsAPassWithATileToPlay() throws IOException {
+        GameTable table = this.open();
+        int turn = table.getGame().getTurn();
+        int[] before = this.counts();
+        int length = table.getGame().getLineLength();
+
+        // The player that starts holds the double six
+        table.pass(players.get(turn));
+        this.assertRejected(table, turn, before, length, MoveError.MUST_PLAY);
+    }
+
+    /**
+     * Seats four players on a new table and deals the first game
+     * @return The table
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private GameTable open() {
+        for(int seat = 0; seat < DominoEngine.PLAYER_COUNT; seat++) {
+            received.add(new ArrayList<String>());
+            players.add(newPlayer(received.get(seat)));
+        }
+        GameTable table = new GameTable(1, HOST, new ArrayList<PlayerThread>(players));
+        for(int seat = 0; seat < players.size(); seat++) {
+            players.get(seat).setPlayerCounter(seat);
+            players.get(seat).setTable(table);
+        }
+        table.start(GameContext.FIRST_GAME);
+        return table;
+    }
+
+    /**
+     * Plays the lowest tile the player whose turn it is can play, or passes
+     * @param table The table
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void move(GameTable table) {
+        int turn = table.getGame().getTurn();
+        DominoEngine engine = table.getGame().getEngine();
+        int legal = engine.legalMoves(turn, engine.isEmpty() ? GameContext.FIRST_GAME : GameContext.NEXT_GAME);
+        if(legal == 0) {
+            table.pass(players.get(turn));
+            return;
+        }
+        int tile = Integer.numberOfTrailingZeros(legal);
+        table.play(players.get(turn), DominoPlacement.of(DominoTile.of(tile), engine.canPlayFirst(tile, GameContext.NEXT_GAME)));
+    }
+
+    /**
+     * Checks that a move was rejected and changed nothing, the player is sent REJECTED and then its hand, the line
+     * and the turn if it is theirs
+     * @param table The table
+     * @param seat The seat of the player that moved
+     * @param before The number of messages each seat had before the move
+     * @param length The number of tiles on the line before the move
+     * @param error The reason expected
+     * @throws IOException If a message sent can't be read
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void assertRejected(GameTable table, int seat, int[] before, int length, MoveError error) throws IOException {
+        assertEquals(length, table.getGame().getLineLength());
+        List<String> sent = received.get(seat).subList(before[seat], received.get(seat).size());
+        boolean turn = table.getGame().getTurn() == seat;
+        assertEquals(turn ? 4 : 3, sent.size());
+        assertEquals(new Messages.Rejected(error), JsonCodec.decode(sent.get(0)));
+        Messages.GameReady ready = assertInstanceOf(Messages.GameReady.class, JsonCodec.decode(sent.get(1)));
+        assertFalse(ready.start());
+        assertTrue(Arrays.equals(table.getGame().getHandAsBytes(seat), ready.hand()));
+        Messages.Line line = assertInstanceOf(Messages.Line.class, JsonCodec.decode(sent.get(2)));
+        assertEquals(length, line.sequence());
+        if(turn) {
+            assertTrue(GameTableTest.isTurn(sent.get(3)));
+        }
+
+        // Nobody else was told anything
+        for(int other = 0; other < players.size(); other++) {
+            if(other != seat) {
+                assertEquals(before[other], received.get(other).size());
+            }
+        }
+    }
+
+    /**
+     * Returns the number of messages sent to each seat so far
+     * @return The counts by seat
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private int[] counts() {
+        int[] counts = new int[received.size()];
+        for(int seat = 0; seat < counts.length; seat++) {
+            counts[seat] = received.get(seat).size();
+        }
+        return counts;
+    }
+
+    /**
+     * Tells whether a message gives the turn
+     * @param message The JSON message
+     * @return True for a PLAYER_TURN
+     * @throws IOException If the message can't be read
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static boolean isTurn(String message) throws IOException {
+        return NetworkProtocols.PLAYER_TURN_RESPONSE.equals(JsonCodec.decode(message).action());
+    }
+}
@@ -0,0 +1,107 @@
+package server;
+
+import model.DominoEngine;
+import model.GameContext;
+import org.junit.jupiter.api.Test;
+import utilities.JsonCodec;
+import utilities.Messages;
+import utilities.NetworkProtocols;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static server.TestPlayers.newPlayer;
+
+/**
+ * Tests of the timer wheel that pings the quiet connections, run tick by tick from the test thread.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class IdleReaperTest {
+    /**
+     * The longest a test waits for a table's worker, in milliseconds
+     */
+    private static final long WAIT_MS = 5_000;
+
+    /**
+     * A connection watched from another thread is checked on the next tick, however far the wheel has turned
+     * @throws Exception If the watching thread fails
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void checksAConnectionOnTheTickAfterItIsWatched() throws Exception {
+        IdleReaper reaper = new IdleReaper(0, 0);
+        List<String> received = new ArrayList<String>();
+        PlayerThread player = newPlayer(received);
+        for(int tick = 0; tick < 100; tick++) {
+            reaper.tick();
+        }
+
+        Thread watcher = new Thread(() -> reaper.watch(player));
+        watcher.start();
+        watcher.join();
+        assertTrue(received.isEmpty());
+        reaper.tick();
+        assertEquals(List.of(JsonCodec.encode(new Messages.Text(NetworkProtocols.PING_RESPONSE, null))), received);
+        assertTrue(reaper.summary().startsWith("1 connections watched"));
+    }
+
+    /**
+     * A client too old to be pinged is left alone while it waits, but a CPU player takes its seat when it stays
+     * quiet on its turn. The client gets the seat back once it is heard from.
+     * @throws Exception If the test is interrupted or a message sent can't be read
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void handsTheSeatOfAQuietOldClientToACpuPlayer() throws Exception {
+        IdleReaper reaper = new IdleReaper(0, 1);
+        ArrayList<PlayerThread> players = new ArrayList<PlayerThread>();
+        List<List<String>> received = new ArrayList<List<String>>();
+        for(int seat = 0; seat < DominoEngine.PLAYER_COUNT; seat++) {
+            received.add(new CopyOnWriteArrayList<String>());
+            players.add(newPlayer(received.get(seat)));
+            players.get(seat).getUser().setProtocolVersion(NetworkProtocols.LEGACY_PROTOCOL_VERSION);
+        }
+        GameTable table = new TableHost(1).open(new ArrayList<PlayerThread>(players), GameContext.FIRST_GAME);
+        waitFor(() -> table.getGame().getTurn() >= 0);
+        int turn = table.getGame().getTurn();
+        for(PlayerThread player : players) {
+            reaper.watch(player);
+        }
+
+        // Everyone is quiet, only the player whose turn it is stalls the table
+        Thread.sleep(1_100);
+        reaper.tick();
+        waitFor(() -> table.getGame().getTurn() != turn);
+        assertEquals(1, table.getGame().getLineLength());
+        assertTrue(reaper.summary().endsWith(" 1 seats handed to CPU players"));
+
+        // The player is heard from and gets the game back
+        int before = received.get(turn).size();
+        players.get(turn).handleJson(JsonCodec.encode(new Messages.Text(NetworkProtocols.PONG_ACTION, null)));
+        waitFor(() -> received.get(turn).size() > before);
+        assertTrue(JsonCodec.decode(received.get(turn).get(before)) instanceof Messages.GameReady);
+    }
+
+    /**
+     * Waits for a table's worker to get somewhere
+     * @param condition The condition
+     * @throws InterruptedException If the test is interrupted
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_MS;
+        while(!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "timed out");
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package server;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static server.TestPlayers.newPlayer;
+
+/**
+ * Tests of the lock-free matchmaker, the tables it forms from one thread and the players it seats from many.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class MatchmakerTest {
+    /**
+     * The longest a player waits in the tests that never seat anyone with CPU players
+     */
+    private static final long NEVER = 60_000;
+
+    /**
+     * A table is formed by the login that fills it, with the players in arrival order
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void formsATableOnceItIsFull() {
+        Matchmaker matchmaker = new Matchmaker(4, 0, NEVER);
+        PlayerThread first = newPlayer();
+        PlayerThread second = newPlayer();
+        PlayerThread third = newPlayer();
+
+        assertNull(matchmaker.join(first, request(3, -1)));
+        assertNull(matchmaker.join(second, request(3, -1)));
+        assertEquals(List.of(first, second, third), matchmaker.join(third, request(3, -1)));
+        assertEquals(0, matchmaker.size());
+        assertEquals(1, matchmaker.getTablesFormed());
+    }
+
+    /**
+     * Players that ask for different tables or are in different rating bands wait apart
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void keepsTheQueuesApart() {
+        Matchmaker matchmaker = new Matchmaker(4, 200, NEVER);
+
+        assertNull(matchmaker.join(newPlayer(), request(2, 100)));
+        assertNull(matchmaker.join(newPlayer(), request(3, 100)));
+        assertNull(matchmaker.join(newPlayer(), request(2, 500)));
+        assertEquals(3, matchmaker.size());
+        assertEquals(3, matchmaker.getDepths().size());
+        assertEquals(2, matchmaker.join(newPlayer(), request(2, 150)).size());
+        assertEquals(2, matchmaker.size());
+    }
+
+    /**
+     * A player that leaves is not seated, and can only leave once
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void doesNotSeatAPlayerThatLeft() {
+        Matchmaker matchmaker = new Matchmaker(4, 0, NEVER);
+        PlayerThread leaving = newPlayer();
+        PlayerThread first = newPlayer();
+        PlayerThread second = newPlayer();
+
+        assertNull(matchmaker.join(leaving, request(2, -1)));
+        assertTrue(matchmaker.remove(leaving));
+        assertFalse(matchmaker.remove(leaving));
+        assertNull(matchmaker.join(first, request(2, -1)));
+        assertEquals(List.of(first, second), matchmaker.join(second, request(2, -1)));
+        assertFalse(matchmaker.remove(first));
+    }
+
+    /**
+     * A player that leaves while a short table holds its ticket waits for the table to give it back, then leaves
+     * and is not seated by a later table
+     * @throws Exception If the leaving thread fails
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void letsAPlayerLeaveWhileAShortTableHoldsItsTicket() throws Exception {
+        Matchmaker matchmaker = new Matchmaker(4, 0, NEVER);
+        PlayerThread leaving = newPlayer();
+        PlayerThread first = newPlayer();
+        PlayerThread second = newPlayer();
+        assertNull(matchmaker.join(leaving, request(2, -1)));
+
+        // Hold the ticket the way a table that came up short does, and leave meanwhile
+        AtomicBoolean claimed = claimOf(matchmaker, leaving);
+        assertTrue(claimed.compareAndSet(false, true));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<Boolean> left = executor.submit(() -> matchmaker.remove(leaving));
+        Thread.sleep(50);
+        assertFalse(left.isDone());
+
+        // The table gives the ticket back
+        claimed.set(false);
+        assertTrue(left.get(5, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        assertNull(matchmaker.join(first, request(2, -1)));
+        assertEquals(List.of(first, second), matchmaker.join(second, request(2, -1)));
+        assertEquals(0, matchmaker.size());
+    }
+
+    /**
+     * A player that joins again while it waits keeps its one place in the queue and is seated once
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void seatsAPlayerThatJoinsTwiceOnce() {
+        Matchmaker matchmaker = new Matchmaker(4, 0, NEVER);
+        PlayerThread twice = newPlayer();
+        PlayerThread other = newPlayer();
+
+        assertNull(matchmaker.join(twice, request(2, -1)));
+        assertNull(matchmaker.join(twice, request(2, -1)));
+        assertEquals(1, matchmaker.size());
+        assertEquals(List.of(twice, other), matchmaker.join(other, request(2, -1)));
+        assertEquals(0, matchmaker.size());
+        assertTrue(matchmaker.formExpiredTables().isEmpty());
+    }
+
+    /**
+     * Clients can't make more buckets than the limit, whatever ratings they send, and the buckets that empty out are
+     * dropped
+     * @throws ReflectiveOperationException If the matchmaker has no such field
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void keepsTheNumberOfBucketsBounded() throws ReflectiveOperationException {
+        Matchmaker matchmaker = new Matchmaker(4, 1, NEVER);
+        List<PlayerThread> players = new ArrayList<PlayerThread>();
+        for(int rating = 0; rating < 2 * Matchmaker.MAX_BUCKETS; rating++) {
+            players.add(newPlayer());
+            matchmaker.join(players.get(players.size() - 1), request(4, rating));
+        }
+        for(int rating = Integer.MAX_VALUE - Matchmaker.MAX_BUCKETS; rating < Integer.MAX_VALUE; rating++) {
+            players.add(newPlayer());
+            matchmaker.join(players.get(players.size() - 1), request(4, rating));
+        }
+        // The bucket of the table size takes every player past the limit
+        assertEquals(Matchmaker.MAX_BUCKETS + 1, bucketsOf(matchmaker).size());
+        assertEquals(players.size(), matchmaker.size() + 4 * matchmaker.getTablesFormed());
+
+        for(PlayerThread player : players) {
+            matchmaker.remove(player);
+        }
+        assertTrue(matchmaker.formExpiredTables().isEmpty());
+        assertTrue(bucketsOf(matchmaker).isEmpty());
+        assertNull(matchmaker.join(players.get(0), request(4, 100)));
+        assertEquals(1, matchmaker.size());
+    }
+
+    /**
+     * Players that waited longer than the maximum wait get a table of their own, the empty seats go to CPU players
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void seatsThePlayersThatWaitedTooLong() {
+        Matchmaker matchmaker = new Matchmaker(4, 0, 0);
+        PlayerThread first = newPlayer();
+        PlayerThread second = newPlayer();
+
+        assertNull(matchmaker.join(first, request(4, -1)));
+        assertNull(matchmaker.join(second, request(4, -1)));
+        assertEquals(List.of(List.of(first, second)), matchmaker.formExpiredTables());
+        assertEquals(0, matchmaker.size());
+        assertTrue(matchmaker.formExpiredTables().isEmpty());
+    }
+
+    /**
+     * Many threads join, leave and seat the expired players at once. Every player ends up seated once, gone or
+     * still waiting, no player that left is seated and a player that failed to leave was taken by a table.
+     * @throws Exception If a thread fails
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void seatsEveryPlayerOnceUnderContention() throws Exception {
+        int threads = 8;
+        int joins = 20_000;
+        Matchmaker matchmaker = new Matchmaker(2, 200, 5);
+        Set<PlayerThread> seated = ConcurrentHashMap.newKeySet();
+        Set<PlayerThread> removed = ConcurrentHashMap.newKeySet();
+        Set<PlayerThread> taken = ConcurrentHashMap.newKeySet();
+        AtomicInteger seatedTwice = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> results = new ArrayList<Future<?>>();
+        for(int thread = 0; thread < threads; thread++) {
+            results.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for(int join = 0; join < joins; join++) {
+                    PlayerThread player = newPlayer();
+                    MatchRequest request = new MatchRequest(1 + random.nextInt(4), null, random.nextInt(600), random.nextInt(400));
+                    ArrayList<PlayerThread> table = matchmaker.join(player, request);
+                    if(table != null) {
+                        seat(table, seated, seatedTwice);
+                    }
+                    if(random.nextInt(50) == 0) {
+                        for(ArrayList<PlayerThread> expired : matchmaker.formExpiredTables()) {
+                            seat(expired, seated, seatedTwice);
+                        }
+                    }
+                    if(random.nextBoolean()) {
+                        if(matchmaker.remove(player)) {
+                            removed.add(player);
+                        } else {
+                            taken.add(player);
+                        }
+                    }
+                }
+            }));
+        }
+        for(Future<?> result : results) {
+            result.get();
+        }
+        executor.shutdown();
+
+        assertEquals(0, seatedTwice.get());
+        assertTrue(removed.stream().noneMatch(seated::contains));
+        assertTrue(seated.containsAll(taken));
+        assertEquals(threads * joins, seated.size() + removed.size() + matchmaker.size());
+    }
+
+    /**
+     * Records the players of a table
+     * @param table The players
+     * @param seated The players seated so far
+     * @param seatedTwice The number of players seated more than once
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static void seat(List<PlayerThread> table, Set<PlayerThread> seated, AtomicInteger seatedTwice) {
+        for(PlayerThread player : table) {
+            if(!seated.add(player)) {
+                seatedTwice.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Returns the claim flag of a waiting player's ticket
+     * @param matchmaker The matchmaker
+     * @param player The waiting player
+     * @return The flag a table or a cancellation sets when it takes the ticket
+     * @throws ReflectiveOperationException If the matchmaker has no such fields
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static AtomicBoolean claimOf(Matchmaker matchmaker, PlayerThread player) throws ReflectiveOperationException {
+        Field tickets = Matchmaker.class.getDeclaredField("tickets");
+        tickets.setAccessible(true);
+        Object ticket = ((Map<?, ?>) tickets.get(matchmaker)).get(player);
+        Field claimed = ticket.getClass().getDeclaredField("claimed");
+        claimed.setAccessible(true);
+        return (AtomicBoolean) claimed.get(ticket);
+    }
+
+    /**
+     * Returns the buckets of a matchmaker
+     * @param matchmaker The matchmaker
+     * @return The buckets by kind of table
+     * @throws ReflectiveOperationException If the matchmaker has no such field
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static Map<?, ?> bucketsOf(Matchmaker matchmaker) throws ReflectiveOperationException {
+        Field buckets = Matchmaker.class.getDeclaredField("buckets");
+        buckets.setAccessible(true);
+        return (Map<?, ?>) buckets.get(matchmaker);
+    }
+
+    /**
+     * Makes the request of a player with no locality
+     * @param tableSize The number of humans wanted at the table
+     * @param rating The rating, negative if unrated
+     * @return The request
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private static MatchRequest request(int tableSize, int rating) {
+        return new MatchRequest(tableSize, null, rating, -1);
+    }
+}
@@ -0,0 +1,129 @@
+package server;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the messages queued for a connection and of the flushes asked for them.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class OutboundQueueTest {
+    /**
+     * The flushes asked for, by the name of the queue
+     */
+    private final List<String> flushes = new ArrayList<String>();
+
+    /**
+     * A corked thread asks for no flush until it is uncorked, then one flush per queue in the order they were
+     * first written to, and the messages come out in the order they were added
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void flushesACorkedBurstOnceAQueue() {
+        OutboundQueue first = this.newQueue("first", 8);
+        OutboundQueue second = this.newQueue("second", 8);
+        List<ByteBuffer> sent = new ArrayList<ByteBuffer>();
+
+        OutboundQueue.cork();
+        try {
+            for(int message = 0; message < 3; message++) {
+                for(OutboundQueue queue : List.of(second, first)) {
+                    ByteBuffer bytes = ByteBuffer.wrap(new byte[] { (byte) message });
+                    queue.add(bytes);
+                    queue.requestFlush();
+                    if(queue == first) {
+                        sent.add(bytes);
+                    }
+                }
+            }
+            assertTrue(flushes.isEmpty());
+        } finally {
+            OutboundQueue.uncork();
+        }
+        assertEquals(List.of("second", "first"), flushes);
+        for(ByteBuffer bytes : sent) {
+            assertSame(bytes, first.poll());
+        }
+        assertNull(first.poll());
+
+        // The thread is no longer corked
+        first.flushed();
+        first.add(ByteBuffer.allocate(1));
+        first.requestFlush();
+        assertEquals(List.of("second", "first", "first"), flushes);
+    }
+
+    /**
+     * A flush is asked for once until the queue is written, and again if messages came in meanwhile
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void asksForOneFlushAtATime() {
+        OutboundQueue queue = this.newQueue("queue", 8);
+
+        queue.add(ByteBuffer.allocate(1));
+        queue.requestFlush();
+        queue.add(ByteBuffer.allocate(1));
+        queue.requestFlush();
+        assertEquals(1, flushes.size());
+
+        // A message comes in while the flush writes
+        queue.poll();
+        queue.poll();
+        queue.add(ByteBuffer.allocate(1));
+        queue.flushed();
+        assertEquals(2, flushes.size());
+
+        queue.poll();
+        queue.flushed();
+        assertEquals(2, flushes.size());
+        assertTrue(queue.isEmpty());
+    }
+
+    /**
+     * The queue is full at its limit, and has room again once a message is written or dropped
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void isFullAtItsLimit() {
+        OutboundQueue queue = this.newQueue("queue", 2);
+
+        queue.add(ByteBuffer.allocate(1));
+        assertFalse(queue.isFull());
+        queue.add(ByteBuffer.allocate(1));
+        assertTrue(queue.isFull());
+        queue.poll();
+        assertFalse(queue.isFull());
+        queue.add(ByteBuffer.allocate(1));
+        assertTrue(queue.isFull());
+        queue.clear();
+        assertFalse(queue.isFull());
+        assertTrue(queue.isEmpty());
+    }
+
+    /**
+     * Makes a queue whose flushes are recorded by name
+     * @param name The name of the queue
+     * @param limit The most messages the queue holds
+     * @return The queue
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private OutboundQueue newQueue(String name, int limit) {
+        return new OutboundQueue(limit, () -> flushes.add(name));
+    }
+}
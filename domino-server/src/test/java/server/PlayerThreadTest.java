@@ -0,0 +1,60 @@
+package server;
+
+import org.junit.jupiter.api.Test;
+import utilities.BinaryProtocol;
+import utilities.Frame;
+import utilities.JsonCodec;
+import utilities.Messages;
+import utilities.NetworkProtocols;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static server.TestPlayers.newPlayer;
+
+/**
+ * Tests of the messages a player thread reads from its client.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class PlayerThreadTest {
+    /**
+     * A PLAY_CHIP frame without its tile is answered with an ERROR, as a JSON message that can't be parsed is
+     * @throws IOException If the message sent can't be read
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void answersAShortFrameWithAnError() throws IOException {
+        List<String> received = new ArrayList<String>();
+        PlayerThread player = newPlayer(received);
+
+        player.handleFrame(new Frame(BinaryProtocol.PLAY_CHIP, new byte[0]));
+        assertEquals(1, received.size());
+        Messages.Text error = assertInstanceOf(Messages.Text.class, JsonCodec.decode(received.get(0)));
+        assertEquals(NetworkProtocols.ERROR_ACTION, error.action());
+    }
+
+    /**
+     * A LOGIN on a connection that already signed in is answered with an ERROR and doesn't queue the user again
+     * @throws IOException If the message sent can't be read
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void refusesASecondLogin() throws IOException {
+        List<String> received = new ArrayList<String>();
+        PlayerThread player = newPlayer(received);
+        player.getUser().setCredentials("dario", "Dario");
+
+        player.handleJson(JsonCodec.encode(new Messages.Login("dario", "Dario", NetworkProtocols.PROTOCOL_VERSION,
+                NetworkProtocols.JSON_CODEC, 2, null, -1, -1)));
+        assertEquals(1, received.size());
+        Messages.Text error = assertInstanceOf(Messages.Text.class, JsonCodec.decode(received.get(0)));
+        assertEquals(NetworkProtocols.ERROR_ACTION, error.action());
+    }
+}
@@ -0,0 +1,174 @@
+package server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import utilities.Frame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of what a queued connection does with a client that doesn't keep up, for each slow client policy.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class QueuedConnectionTest {
+    /**
+     * The flushes asked for
+     */
+    private final AtomicInteger flushes = new AtomicInteger();
+    /**
+     * The times the client was dropped
+     */
+    private final AtomicInteger dropped = new AtomicInteger();
+    /**
+     * The times the client was sent the game again
+     */
+    private final AtomicInteger caughtUp = new AtomicInteger();
+
+    /**
+     * Puts back the default policy
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @AfterEach
+    public void restorePolicy() {
+        ServerConfig.SLOW_CLIENTS = ServerConfig.SlowClients.RESYNC;
+    }
+
+    /**
+     * Under the resync policy the messages past the limit are dropped, and the client is sent the game once its
+     * queue is written
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void resendsTheGameOnceASlowClientCatchesUp() {
+        ServerConfig.SLOW_CLIENTS = ServerConfig.SlowClients.RESYNC;
+        QueuedConnection connection = this.newConnection();
+        this.fill(connection);
+
+        // Nothing is queued until the client catches up, not even once there's room
+        connection.sendMessage("behind");
+        connection.output.poll();
+        connection.sendFrame(new Frame((byte) 1, new byte[0]));
+        assertEquals(ServerConfig.OUTBOUND_LIMIT - 1, this.drain(connection));
+        assertEquals(0, caughtUp.get());
+
+        connection.flushed();
+        assertEquals(1, caughtUp.get());
+        assertEquals(0, dropped.get());
+        connection.sendMessage("again");
+        assertFalse(connection.output.isEmpty());
+
+        // Writing the queue again doesn't resend the game
+        this.drain(connection);
+        connection.flushed();
+        assertEquals(1, caughtUp.get());
+    }
+
+    /**
+     * Under the drop policy the client is dropped on the first message past the limit
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void dropsASlowClient() {
+        ServerConfig.SLOW_CLIENTS = ServerConfig.SlowClients.DROP;
+        QueuedConnection connection = this.newConnection();
+        this.fill(connection);
+        assertEquals(0, dropped.get());
+
+        connection.sendMessage("behind");
+        assertEquals(1, dropped.get());
+        assertEquals(ServerConfig.OUTBOUND_LIMIT, this.drain(connection));
+        connection.flushed();
+        assertEquals(0, caughtUp.get());
+    }
+
+    /**
+     * The messages sent on a corked thread are flushed once, when the thread is uncorked
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void flushesTheMessagesOfACorkedThreadOnce() {
+        QueuedConnection connection = this.newConnection();
+
+        OutboundQueue.cork();
+        try {
+            connection.sendMessage("first");
+            connection.sendMessage("second");
+            assertEquals(0, flushes.get());
+        } finally {
+            OutboundQueue.uncork();
+        }
+        assertEquals(1, flushes.get());
+        assertEquals(2, this.drain(connection));
+    }
+
+    /**
+     * Makes a connection whose flushes are only counted, with a handler that counts the times it catches up
+     * @return The connection
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private QueuedConnection newConnection() {
+        QueuedConnection connection = new QueuedConnection() {
+            @Override
+            protected void scheduleFlush() {
+                flushes.incrementAndGet();
+            }
+
+            @Override
+            protected void slowClientDropped() {
+                dropped.incrementAndGet();
+                this.open = false;
+            }
+
+            @Override
+            public void close() {
+                this.open = false;
+            }
+        };
+        connection.setHandler(new PlayerThread(1, connection) {
+            @Override
+            void catchUp() {
+                caughtUp.incrementAndGet();
+            }
+        });
+        return connection;
+    }
+
+    /**
+     * Sends messages until the queue is full
+     * @param connection The connection
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private void fill(QueuedConnection connection) {
+        for(int message = 0; message < ServerConfig.OUTBOUND_LIMIT; message++) {
+            connection.sendMessage("message " + message);
+        }
+        assertTrue(connection.output.isFull());
+    }
+
+    /**
+     * Takes every message out of the queue, as a flush writing them all
+     * @param connection The connection
+     * @return The number of messages taken out
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    private int drain(QueuedConnection connection) {
+        int count = 0;
+        while(connection.output.poll() != null) {
+            count++;
+        }
+        return count;
+    }
+}
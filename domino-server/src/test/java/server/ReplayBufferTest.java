@@ -0,0 +1,69 @@
+package server;
+
+import org.junit.jupiter.api.Test;
+import utilities.Messages;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the events kept for a seat, the ones a client that reconnects is sent.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class ReplayBufferTest {
+    /**
+     * The events after the last one received come back in order, none if the client has them all
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void returnsTheEventsAfterTheLastReceived() {
+        ReplayBuffer replay = new ReplayBuffer(4);
+        assertEquals(0, replay.getLastEvent());
+        assertTrue(replay.since(0).isEmpty());
+
+        for(int event = 1; event <= 3; event++) {
+            replay.record(new Messages.Resumed(event));
+        }
+        assertEquals(3, replay.getLastEvent());
+        assertEquals(List.of(new Messages.Resumed(2), new Messages.Resumed(3)), replay.since(1));
+        assertEquals(3, replay.since(0).size());
+        assertTrue(replay.since(3).isEmpty());
+    }
+
+    /**
+     * Once the buffer wraps, only the latest events are kept and an older number can't be replayed
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void forgetsTheEventsThatNoLongerFit() {
+        ReplayBuffer replay = new ReplayBuffer(4);
+        for(int event = 1; event <= 10; event++) {
+            replay.record(new Messages.Resumed(event));
+        }
+
+        assertEquals(List.of(new Messages.Resumed(7), new Messages.Resumed(8), new Messages.Resumed(9),
+                new Messages.Resumed(10)), replay.since(6));
+        assertNull(replay.since(5));
+    }
+
+    /**
+     * A number the seat was never sent is unknown
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void doesNotKnowANumberItNeverSent() {
+        ReplayBuffer replay = new ReplayBuffer(4);
+        replay.record(new Messages.Resumed(1));
+
+        assertNull(replay.since(-1));
+        assertNull(replay.since(2));
+    }
+}
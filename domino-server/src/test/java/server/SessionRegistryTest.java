@@ -0,0 +1,225 @@
+package server;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static server.TestPlayers.newPlayer;
+
+/**
+ * Tests of the session registry, who gets a user id and who can take back a seat.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class SessionRegistryTest {
+    /**
+     * The resume window of the tests where users come back in time, in seconds
+     */
+    private static final long WINDOW = 120;
+
+    /**
+     * A user id is held by one thread until it gives it back
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void givesAnIdToOneThreadAtATime() {
+        SessionRegistry sessions = new SessionRegistry(WINDOW);
+        PlayerThread first = newPlayer();
+        PlayerThread second = newPlayer();
+
+        SessionRegistry.Claim claim = sessions.claim("dario", first, true);
+        assertTrue(claim.isGranted());
+        assertNotNull(claim.getToken());
+        assertNull(claim.getResumedFrom());
+        assertTrue(sessions.isOnline("dario"));
+
+        claim = sessions.claim("dario", second, true);
+        assertFalse(claim.isGranted());
+        assertNull(claim.getToken());
+
+        // Only the holder gives the id back
+        sessions.release("dario", second, false);
+        assertTrue(sessions.isOnline("dario"));
+        sessions.release("dario", first, false);
+        assertFalse(sessions.isOnline("dario"));
+        assertEquals(0, sessions.size());
+        assertTrue(sessions.claim("dario", second, true).isGranted());
+    }
+
+    /**
+     * The thread that holds a user id is not granted it a second time
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void doesNotGrantAnIdTwiceToItsHolder() {
+        SessionRegistry sessions = new SessionRegistry(WINDOW);
+        PlayerThread holder = newPlayer();
+
+        assertTrue(sessions.claim("dario", holder, true).isGranted());
+        SessionRegistry.Claim claim = sessions.claim("dario", holder, true);
+        assertFalse(claim.isGranted());
+        assertNull(claim.getToken());
+        assertTrue(sessions.isOnline("dario"));
+    }
+
+    /**
+     * A user that dropped out of a game resumes with its token and is told which thread had its seat
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void keepsTheSeatOfADroppedUser() {
+        SessionRegistry sessions = new SessionRegistry(WINDOW);
+        PlayerThread dropped = newPlayer();
+        PlayerThread back = newPlayer();
+
+        String token = sessions.claim("dario", dropped, true).getToken();
+        sessions.release("dario", dropped, true);
+        assertFalse(sessions.isOnline("dario"));
+        assertEquals(1, sessions.size());
+        sessions.purgeExpired();
+        assertEquals(1, sessions.size());
+
+        SessionRegistry.Claim claim = sessions.takeOver("dario", token, back);
+        assertTrue(claim.isGranted());
+        assertSame(dropped, claim.getResumedFrom());
+    }
+
+    /**
+     * A user that comes back after the resume window gets a new session and the old one is purged
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void forgetsTheSeatAfterTheWindow() {
+        SessionRegistry sessions = new SessionRegistry(0);
+        PlayerThread dropped = newPlayer();
+
+        sessions.claim("dario", dropped, true);
+        sessions.release("dario", dropped, true);
+        sessions.purgeExpired();
+        assertEquals(0, sessions.size());
+
+        String token = sessions.claim("dario", dropped, true).getToken();
+        sessions.release("dario", dropped, true);
+        SessionRegistry.Claim claim = sessions.takeOver("dario", token, newPlayer());
+        assertTrue(claim.isGranted());
+        assertNull(claim.getResumedFrom());
+    }
+
+    /**
+     * A connection the server still has open is only taken over with the session's resume token, which changes
+     * with every takeover
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void needsTheTokenToTakeOverALiveSession() {
+        SessionRegistry sessions = new SessionRegistry(WINDOW);
+        PlayerThread owner = newPlayer();
+        PlayerThread back = newPlayer();
+        String token = sessions.claim("dario", owner, true).getToken();
+
+        assertFalse(sessions.takeOver("dario", null, newPlayer()).isGranted());
+        assertFalse(sessions.takeOver("dario", token + "0", newPlayer()).isGranted());
+
+        SessionRegistry.Claim claim = sessions.takeOver("dario", token, back);
+        assertTrue(claim.isGranted());
+        assertSame(owner, claim.getResumedFrom());
+        assertNotEquals(token, claim.getToken());
+        assertFalse(sessions.takeOver("dario", token, newPlayer()).isGranted());
+        assertTrue(sessions.takeOver("dario", claim.getToken(), newPlayer()).isGranted());
+    }
+
+    /**
+     * The seat of a user that dropped is not taken back by a login or by a RESUME without the session's token,
+     * they start a new session and the old token is no longer good
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void startsANewSessionWithoutTheToken() {
+        SessionRegistry sessions = new SessionRegistry(WINDOW);
+        PlayerThread dropped = newPlayer();
+        PlayerThread login = newPlayer();
+        PlayerThread tokenless = newPlayer();
+
+        String token = sessions.claim("dario", dropped, true).getToken();
+        sessions.release("dario", dropped, true);
+        SessionRegistry.Claim claim = sessions.claim("dario", login, true);
+        assertTrue(claim.isGranted());
+        assertNull(claim.getResumedFrom());
+
+        sessions.release("dario", login, true);
+        claim = sessions.takeOver("dario", null, tokenless);
+        assertTrue(claim.isGranted());
+        assertNull(claim.getResumedFrom());
+
+        sessions.release("dario", tokenless, true);
+        claim = sessions.takeOver("dario", token, newPlayer());
+        assertTrue(claim.isGranted());
+        assertNull(claim.getResumedFrom());
+    }
+
+    /**
+     * A client that can't resume gets no token, and its session can't be taken over while it is online
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void givesNoTokenToAClientThatCantResume() {
+        SessionRegistry sessions = new SessionRegistry(WINDOW);
+        PlayerThread legacy = newPlayer();
+
+        SessionRegistry.Claim claim = sessions.claim("dario", legacy, false);
+        assertTrue(claim.isGranted());
+        assertNull(claim.getToken());
+        assertFalse(sessions.takeOver("dario", null, newPlayer()).isGranted());
+        assertNull(sessions.claim("dario", newPlayer(), true).getToken());
+    }
+
+    /**
+     * Many threads logging in with the same id at once, exactly one gets it
+     * @throws Exception If a thread fails
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    @Test
+    public void grantsAContendedIdOnce() throws Exception {
+        int threads = 8;
+        int rounds = 2_000;
+        SessionRegistry sessions = new SessionRegistry(WINDOW);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for(int round = 0; round < rounds; round++) {
+                String userId = "user-" + round;
+                List<Future<Boolean>> claims = new ArrayList<Future<Boolean>>();
+                for(int thread = 0; thread < threads; thread++) {
+                    claims.add(executor.submit(() -> sessions.claim(userId, newPlayer(), true).isGranted()));
+                }
+                int granted = 0;
+                for(Future<Boolean> claim : claims) {
+                    granted += claim.get() ? 1 : 0;
+                }
+                assertEquals(1, granted, userId);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(rounds, sessions.size());
+    }
+}
@@ -0,0 +1,54 @@
+package server;
+
+import utilities.NetworkProtocols;
+import utilities.NullConnection;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Player threads for the tests, never started and with a connection that drops everything or keeps the messages.
+ * @author Dario Urdapilleta
+ * @version 1.0
+ * @since 10/18/2026
+ */
+final class TestPlayers {
+    /**
+     * The numbers given to the players
+     */
+    private static final AtomicInteger NUMBERS = new AtomicInteger();
+
+    /**
+     * No instances, only the factory
+     */
+    private TestPlayers() {
+    }
+
+    /**
+     * Makes a player that is never started
+     * @return The player thread
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    static PlayerThread newPlayer() {
+        return new PlayerThread(NUMBERS.incrementAndGet(), NullConnection.INSTANCE);
+    }
+
+    /**
+     * Makes a player that is never started, on the current protocol, whose connection keeps the JSON messages sent
+     * @param received The list the messages are added to
+     * @return The player thread
+     * @author Dario Urdapilleta
+     * @since 10/18/2026
+     */
+    static PlayerThread newPlayer(List<String> received) {
+        PlayerThread player = new PlayerThread(NUMBERS.incrementAndGet(), new NullConnection() {
+            @Override
+            public void sendMessage(String message) {
+                received.add(message);
+            }
+        });
+        player.getUser().setProtocolVersion(NetworkProtocols.PROTOCOL_VERSION);
+        return player;
+    }
+}